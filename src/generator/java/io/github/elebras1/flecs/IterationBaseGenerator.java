@@ -19,6 +19,7 @@ public class IterationBaseGenerator {
     private static final String MEMORY_SEGMENT_FQN = "java.lang.foreign.MemorySegment";
     private static final String COMPONENT_FQN = "io.github.elebras1.flecs.Component";
     private static final String COMPONENT_VIEW_FQN = "io.github.elebras1.flecs.ComponentView";
+    private static final String COLUMNS_ITERATION_FQN = "io.github.elebras1.flecs.ColumnsIteration";
     private static final String FLECS_H_FQN = "io.github.elebras1.flecs.flecs_h";
     private static final String ECS_ITER_T_FQN = "io.github.elebras1.flecs.ecs_iter_t";
     private static final String ECS_ITER_ACTION_T_FQN = "io.github.elebras1.flecs.ecs_iter_action_t";
@@ -232,10 +233,12 @@ public class IterationBaseGenerator {
         body.append("public abstract class QueryBase {").newline();
         appendLine(body, 1, "protected final " + simpleName(WORLD_FQN) + " world;");
         appendLine(body, 1, "protected final " + simpleName(MEMORY_SEGMENT_FQN) + " querySeg;");
+        appendLine(body, 1, "protected final boolean columns;");
         body.newline();
         appendLine(body, 1, "protected QueryBase(" + simpleName(WORLD_FQN) + " world, " + simpleName(MEMORY_SEGMENT_FQN) + " querySeg) {");
         appendStatement(body, 2, "this.world = world");
         appendStatement(body, 2, "this.querySeg = querySeg");
+        appendStatement(body, 2, "this.columns = " + simpleName(COLUMNS_ITERATION_FQN) + ".hasColumns(world, querySeg)");
         appendLine(body, 1, "}");
         body.newline();
         appendLine(body, 1, "protected abstract void checkDestroyed();");
@@ -260,6 +263,7 @@ public class IterationBaseGenerator {
                 .addImport(ARENA_FQN)
                 .addImport(COMPONENT_FQN)
                 .addImport(COMPONENT_VIEW_FQN)
+                .addImport(COLUMNS_ITERATION_FQN)
                 .addImport(FLECS_H_FQN)
                 .addImport(ECS_ITER_T_FQN)
                 .addImport(VALUE_LAYOUT_FQN)
@@ -270,6 +274,14 @@ public class IterationBaseGenerator {
     private void appendQueryEachMethod(CodeBuilder body, int n, ViewMode vm, EntityMode em) {
         appendEachMethodSignature(body, n, vm, em, "void", "each");
         appendStatement(body, 2, "this.checkDestroyed()");
+        appendLine(body, 2, "if (this.columns) {");
+        appendLine(body, 3, "new " + simpleName(COLUMNS_ITERATION_FQN) + "(this.world, " + componentClassArray(n) + ", "
+                + (vm == ViewMode.COMPONENT_VIEW) + ").query(this.world, this.querySeg, (entityId, values) -> {");
+        appendStatement(body, 4, callbackCall(n, vm, em));
+        appendStatement(body, 4, "return false");
+        appendLine(body, 3, "});");
+        appendStatement(body, 3, "return");
+        appendLine(body, 2, "}");
         appendLine(body, 2, "try (" + simpleName(ARENA_FQN) + " tmpArena = " + simpleName(ARENA_FQN) + ".ofConfined()) {");
         appendStatement(body, 3, simpleName(MEMORY_SEGMENT_FQN) + " iter = " + simpleName(FLECS_H_FQN)
                 + ".ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg)");
@@ -304,6 +316,11 @@ public class IterationBaseGenerator {
     private void appendQueryFindMethod(CodeBuilder body, int n, ViewMode vm) {
         appendFindMethodSignature(body, n, vm);
         appendStatement(body, 2, "this.checkDestroyed()");
+        appendLine(body, 2, "if (this.columns) {");
+        appendLine(body, 3, "return new " + simpleName(COLUMNS_ITERATION_FQN) + "(this.world, " + componentClassArray(n) + ", "
+                + (vm == ViewMode.COMPONENT_VIEW) + ").query(this.world, this.querySeg, (entityId, values) ->");
+        appendStatement(body, 5, "predicate.test(" + castValues(n, vm) + "))");
+        appendLine(body, 2, "}");
         appendLine(body, 2, "try (" + simpleName(ARENA_FQN) + " tmpArena = " + simpleName(ARENA_FQN) + ".ofConfined()) {");
         appendStatement(body, 3, simpleName(MEMORY_SEGMENT_FQN) + " iter = " + simpleName(FLECS_H_FQN)
                 + ".ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg)");
@@ -348,6 +365,8 @@ public class IterationBaseGenerator {
         appendLine(body, 1, "}");
         body.newline();
         appendLine(body, 1, "protected abstract " + kind.returnType + " build();");
+        body.newline();
+        appendEachColumnsMethod(body, kind);
 
         for (int n = 1; n <= MAX_COMPONENTS; n++) {
             for (ViewMode vm : ViewMode.values()) {
@@ -366,6 +385,7 @@ public class IterationBaseGenerator {
                 .addImport(MEMORY_SEGMENT_FQN)
                 .addImport(COMPONENT_FQN)
                 .addImport(COMPONENT_VIEW_FQN)
+                .addImport(COLUMNS_ITERATION_FQN)
                 .addImport(FLECS_H_FQN)
                 .addImport(ECS_ITER_T_FQN)
                 .addImport(ECS_ITER_ACTION_T_FQN)
@@ -378,6 +398,13 @@ public class IterationBaseGenerator {
 
     private void appendBuilderEachMethod(CodeBuilder body, int n, ViewMode vm, EntityMode em, BuilderKind kind) {
         appendEachMethodSignature(body, n, vm, em, kind.returnType, "each");
+        appendLine(body, 2, "if (" + simpleName(COLUMNS_ITERATION_FQN) + ".isColumns(this.world, " + buildArgs("componentClass", n) + ")) {");
+        appendLine(body, 3, "return this.eachColumns(" + componentClassArray(n) + ", " + (vm == ViewMode.COMPONENT_VIEW)
+                + ", (entityId, values) -> {");
+        appendStatement(body, 4, callbackCall(n, vm, em));
+        appendStatement(body, 4, "return false");
+        appendLine(body, 3, "});");
+        appendLine(body, 2, "}");
         emitComponentLookups(body, 2, n, vm);
 
         appendLine(body, 2, simpleName(MEMORY_SEGMENT_FQN) + " callbackStub = " + simpleName(ECS_ITER_ACTION_T_FQN)
@@ -404,10 +431,44 @@ public class IterationBaseGenerator {
         appendLine(body, 1, "}");
     }
 
-    private void appendEachMethodSignature(CodeBuilder body, int n, ViewMode vm, EntityMode em, String returnType, String methodBase) {
-        if (vm == ViewMode.COMPONENT_VIEW) {
-            appendLine(body, 1, "@SuppressWarnings(\"unchecked\")");
+    // Systems and observers on a SOA component: one iteration built with the system, run by every callback.
+    private void appendEachColumnsMethod(CodeBuilder body, BuilderKind kind) {
+        appendLine(body, 1, "private " + kind.returnType + " eachColumns(Class<?>[] componentClasses, boolean views, "
+                + simpleName(COLUMNS_ITERATION_FQN) + ".Row row) {");
+        appendStatement(body, 2, simpleName(COLUMNS_ITERATION_FQN) + " iteration = new " + simpleName(COLUMNS_ITERATION_FQN)
+                + "(this.world, componentClasses, views)");
+        appendLine(body, 2, simpleName(MEMORY_SEGMENT_FQN) + " callbackStub = " + simpleName(ECS_ITER_ACTION_T_FQN)
+                + ".allocate(iterSegment -> {");
+        appendLine(body, 3, "if (views) {");
+        appendStatement(body, 4, "this.world.viewCache().resetCursors()");
+        appendLine(body, 3, "}");
+        appendStatement(body, 3, "iteration.run(iterSegment, row)");
+        appendLine(body, 2, "}, this.world.arena());");
+        appendStatement(body, 2, kind.descType + ".callback(this.desc, callbackStub)");
+        appendStatement(body, 2, "return build()");
+        appendLine(body, 1, "}");
+    }
+
+    private String componentClassArray(int n) {
+        return "new Class<?>[] {" + buildArgs("componentClass", n) + "}";
+    }
+
+    private String castValues(int n, ViewMode vm) {
+        List<String> casts = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            String comp = letter(i);
+            casts.add("(" + (vm == ViewMode.COMPONENT_VIEW ? "V" + comp : comp) + ") values[" + i + "]");
         }
+        return join(casts);
+    }
+
+    private String callbackCall(int n, ViewMode vm, EntityMode em) {
+        String args = castValues(n, vm);
+        return em == EntityMode.WITH_ENTITY ? "callback.accept(entityId, " + args + ")" : "callback.accept(" + args + ")";
+    }
+
+    private void appendEachMethodSignature(CodeBuilder body, int n, ViewMode vm, EntityMode em, String returnType, String methodBase) {
+        appendLine(body, 1, "@SuppressWarnings(\"unchecked\")");
 
         List<String> compVars = compTypeVars(n);
         List<String> viewVars = viewTypeVars(n);
@@ -441,9 +502,7 @@ public class IterationBaseGenerator {
     }
 
     private void appendFindMethodSignature(CodeBuilder body, int n, ViewMode vm) {
-        if (vm == ViewMode.COMPONENT_VIEW) {
-            appendLine(body, 1, "@SuppressWarnings(\"unchecked\")");
-        }
+        appendLine(body, 1, "@SuppressWarnings(\"unchecked\")");
 
         List<String> compVars = compTypeVars(n);
         List<String> viewVars = viewTypeVars(n);
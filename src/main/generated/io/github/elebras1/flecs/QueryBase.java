@@ -1,6 +1,7 @@
 // Generated by CallbackGenerator.
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.ColumnsIteration;
 import io.github.elebras1.flecs.Component;
 import io.github.elebras1.flecs.ComponentView;
 import io.github.elebras1.flecs.World;
@@ -13,16 +14,26 @@ import java.lang.foreign.ValueLayout;
 public abstract class QueryBase {
     protected final World world;
     protected final MemorySegment querySeg;
+    protected final boolean columns;
 
     protected QueryBase(World world, MemorySegment querySeg) {
         this.world = world;
         this.querySeg = querySeg;
+        this.columns = ColumnsIteration.hasColumns(world, querySeg);
     }
 
     protected abstract void checkDestroyed();
 
+    @SuppressWarnings("unchecked")
     public <A> void each(Class<A> componentClassA, Component1Callback<A> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -41,8 +52,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A> void each(Class<A> componentClassA, Component1WithEntityCallback<A> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -63,8 +82,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A> long find(Class<A> componentClassA, Component1Predicate<A> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -90,6 +114,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, VA extends ComponentView> void eachView(Class<A> componentClassA, ComponentView1Callback<VA> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -113,6 +144,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, VA extends ComponentView> void eachView(Class<A> componentClassA, ComponentView1WithEntityCallback<VA> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -138,6 +176,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, VA extends ComponentView> long findView(Class<A> componentClassA, ComponentView1Predicate<VA> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -162,8 +204,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B> void each(Class<A> componentClassA, Class<B> componentClassB, Component2Callback<A, B> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -186,8 +236,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B> void each(Class<A> componentClassA, Class<B> componentClassB, Component2WithEntityCallback<A, B> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -212,8 +270,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B> long find(Class<A> componentClassA, Class<B> componentClassB, Component2Predicate<A, B> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -243,6 +306,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, VA extends ComponentView, VB extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, ComponentView2Callback<VA, VB> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -271,6 +341,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, VA extends ComponentView, VB extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, ComponentView2WithEntityCallback<VA, VB> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -301,6 +378,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, VA extends ComponentView, VB extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, ComponentView2Predicate<VA, VB> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -330,8 +411,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Component3Callback<A, B, C> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -358,8 +447,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Component3WithEntityCallback<A, B, C> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -388,8 +485,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Component3Predicate<A, B, C> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -423,6 +525,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, ComponentView3Callback<VA, VB, VC> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -456,6 +565,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, ComponentView3WithEntityCallback<VA, VB, VC> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -491,6 +607,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, ComponentView3Predicate<VA, VB, VC> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -525,8 +645,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Component4Callback<A, B, C, D> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -557,8 +685,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Component4WithEntityCallback<A, B, C, D> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -591,8 +727,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Component4Predicate<A, B, C, D> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -630,6 +771,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, ComponentView4Callback<VA, VB, VC, VD> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -668,6 +816,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, ComponentView4WithEntityCallback<VA, VB, VC, VD> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -708,6 +863,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, ComponentView4Predicate<VA, VB, VC, VD> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -747,8 +906,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Component5Callback<A, B, C, D, E> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -783,8 +950,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Component5WithEntityCallback<A, B, C, D, E> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -821,8 +996,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Component5Predicate<A, B, C, D, E> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -864,6 +1044,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, ComponentView5Callback<VA, VB, VC, VD, VE> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -907,6 +1094,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, ComponentView5WithEntityCallback<VA, VB, VC, VD, VE> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -952,6 +1146,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, ComponentView5Predicate<VA, VB, VC, VD, VE> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -996,8 +1194,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Component6Callback<A, B, C, D, E, F> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1036,8 +1242,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Component6WithEntityCallback<A, B, C, D, E, F> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1078,8 +1292,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Component6Predicate<A, B, C, D, E, F> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1125,6 +1344,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, ComponentView6Callback<VA, VB, VC, VD, VE, VF> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1173,6 +1399,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, ComponentView6WithEntityCallback<VA, VB, VC, VD, VE, VF> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1223,6 +1456,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, ComponentView6Predicate<VA, VB, VC, VD, VE, VF> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1272,8 +1509,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Component7Callback<A, B, C, D, E, F, G> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1316,8 +1561,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Component7WithEntityCallback<A, B, C, D, E, F, G> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1362,8 +1615,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Component7Predicate<A, B, C, D, E, F, G> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1413,6 +1671,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, ComponentView7Callback<VA, VB, VC, VD, VE, VF, VG> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1466,6 +1731,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, ComponentView7WithEntityCallback<VA, VB, VC, VD, VE, VF, VG> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1521,6 +1793,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, ComponentView7Predicate<VA, VB, VC, VD, VE, VF, VG> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1575,8 +1851,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Component8Callback<A, B, C, D, E, F, G, H> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1623,8 +1907,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Component8WithEntityCallback<A, B, C, D, E, F, G, H> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1673,8 +1965,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Component8Predicate<A, B, C, D, E, F, G, H> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1728,6 +2025,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, ComponentView8Callback<VA, VB, VC, VD, VE, VF, VG, VH> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1786,6 +2090,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, ComponentView8WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1846,6 +2157,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, ComponentView8Predicate<VA, VB, VC, VD, VE, VF, VG, VH> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1905,8 +2220,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Component9Callback<A, B, C, D, E, F, G, H, I> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -1957,8 +2280,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Component9WithEntityCallback<A, B, C, D, E, F, G, H, I> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2011,8 +2342,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Component9Predicate<A, B, C, D, E, F, G, H, I> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2070,6 +2406,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, ComponentView9Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2133,6 +2476,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, ComponentView9WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2198,6 +2548,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, ComponentView9Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2262,8 +2616,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Component10Callback<A, B, C, D, E, F, G, H, I, J> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2318,8 +2680,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Component10WithEntityCallback<A, B, C, D, E, F, G, H, I, J> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2376,8 +2746,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Component10Predicate<A, B, C, D, E, F, G, H, I, J> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2439,6 +2814,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, ComponentView10Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2507,6 +2889,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, ComponentView10WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2577,6 +2966,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, ComponentView10Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2646,8 +3039,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Component11Callback<A, B, C, D, E, F, G, H, I, J, K> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2706,8 +3107,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Component11WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2768,8 +3177,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Component11Predicate<A, B, C, D, E, F, G, H, I, J, K> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2835,6 +3249,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, ComponentView11Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2908,6 +3329,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, ComponentView11WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -2983,6 +3411,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, ComponentView11Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3057,8 +3489,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Component12Callback<A, B, C, D, E, F, G, H, I, J, K, L> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3121,8 +3561,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Component12WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3187,8 +3635,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Component12Predicate<A, B, C, D, E, F, G, H, I, J, K, L> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3258,6 +3711,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, ComponentView12Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3336,6 +3796,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, ComponentView12WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3416,6 +3883,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, ComponentView12Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3495,8 +3966,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Component13Callback<A, B, C, D, E, F, G, H, I, J, K, L, M> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3563,8 +4042,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Component13WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3633,8 +4120,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Component13Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3708,6 +4200,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, ComponentView13Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3791,6 +4290,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, ComponentView13WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3876,6 +4382,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, ComponentView13Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -3960,8 +4470,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Component14Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4032,8 +4550,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Component14WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4106,8 +4632,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Component14Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4185,6 +4716,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, ComponentView14Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4273,6 +4811,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, ComponentView14WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4363,6 +4908,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, ComponentView14Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4452,8 +5001,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Component15Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4528,8 +5085,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Component15WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4606,8 +5171,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Component15Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4689,6 +5259,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, ComponentView15Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4782,6 +5359,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, ComponentView15WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4877,6 +5461,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, ComponentView15Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -4971,8 +5559,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Component16Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5051,8 +5647,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Component16WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5133,8 +5737,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Component16Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5220,6 +5829,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, ComponentView16Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5318,6 +5934,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, ComponentView16WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5418,6 +6041,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, ComponentView16Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5517,8 +6144,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Component17Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5601,8 +6236,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Component17WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5687,8 +6330,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Component17Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5778,6 +6426,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, ComponentView17Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5881,6 +6536,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, ComponentView17WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -5986,6 +6648,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, ComponentView17Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6090,8 +6756,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Component18Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6178,8 +6852,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Component18WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6268,8 +6950,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Component18Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6363,6 +7050,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, ComponentView18Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6471,6 +7165,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, ComponentView18WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6581,6 +7282,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, ComponentView18Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6690,8 +7395,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Component19Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6782,8 +7495,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Component19WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6876,8 +7597,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Component19Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -6975,6 +7701,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, ComponentView19Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7088,6 +7821,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, ComponentView19WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7203,6 +7943,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, ComponentView19Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7317,8 +8061,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Component20Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7413,8 +8165,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Component20WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7511,8 +8271,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Component20Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7614,6 +8379,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, ComponentView20Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7732,6 +8504,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, ComponentView20WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7852,6 +8631,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, ComponentView20Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -7971,8 +8754,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Component21Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8071,8 +8862,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Component21WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8173,8 +8972,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Component21Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8280,6 +9084,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, ComponentView21Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8403,6 +9214,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, ComponentView21WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8528,6 +9346,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, ComponentView21Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8652,8 +9474,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Component22Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8756,8 +9586,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Component22WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8862,8 +9700,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Component22Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -8973,6 +9816,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, ComponentView22Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9101,6 +9951,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, ComponentView22WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9231,6 +10088,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, ComponentView22Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9360,8 +10221,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Component23Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9468,8 +10337,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Component23WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9578,8 +10455,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Component23Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9693,6 +10575,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, ComponentView23Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9826,6 +10715,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, ComponentView23WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -9961,6 +10857,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, ComponentView23Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10095,8 +10995,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Component24Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10207,8 +11115,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Component24WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10321,8 +11237,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Component24Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10440,6 +11361,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, ComponentView24Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10578,6 +11506,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, ComponentView24WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10718,6 +11653,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, ComponentView24Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10857,8 +11796,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Component25Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -10973,8 +11920,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Component25WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11091,8 +12046,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Component25Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11214,6 +12174,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, ComponentView25Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11357,6 +12324,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, ComponentView25WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11502,6 +12476,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, ComponentView25Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11646,8 +12624,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Component26Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11766,8 +12752,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Component26WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -11888,8 +12882,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Component26Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12015,6 +13014,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, ComponentView26Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12163,6 +13169,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, ComponentView26WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12313,6 +13326,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, ComponentView26Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12462,8 +13479,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Component27Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12586,8 +13611,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Component27WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12712,8 +13745,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Component27Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12843,6 +13881,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, ComponentView27Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -12996,6 +14041,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, ComponentView27WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -13151,6 +14203,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, ComponentView27Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -13305,8 +14361,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Component28Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -13433,8 +14497,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Component28WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -13563,8 +14635,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Component28Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -13698,6 +14775,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, ComponentView28Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -13856,6 +14940,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, ComponentView28WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14016,6 +15107,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, ComponentView28Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14175,8 +15270,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Component29Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14307,8 +15410,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Component29WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14441,8 +15552,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Component29Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14580,6 +15696,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, ComponentView29Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14743,6 +15866,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, ComponentView29WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -14908,6 +16038,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, ComponentView29Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15072,8 +16206,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Component30Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15208,8 +16350,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Component30WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15346,8 +16496,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Component30Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15489,6 +16644,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, ComponentView30Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15657,6 +16819,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, ComponentView30WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15827,6 +16996,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, ComponentView30Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -15996,8 +17169,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Component31Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -16136,8 +17317,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Component31WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -16278,8 +17467,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Component31Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -16425,6 +17619,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, ComponentView31Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -16598,6 +17799,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, ComponentView31WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -16773,6 +17981,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, ComponentView31Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -16947,8 +18159,16 @@ public abstract class QueryBase {
         return 0L;
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, Component32Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30], (AF) values[31]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -17091,8 +18311,16 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> void each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, Component32WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, false).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30], (AF) values[31]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -17237,8 +18465,13 @@ public abstract class QueryBase {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> long find(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, Component32Predicate<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, false).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30], (AF) values[31]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -17388,6 +18621,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView, VAF extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, ComponentView32Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE, VAF> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30], (VAF) values[31]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -17566,6 +18806,13 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView, VAF extends ComponentView> void eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, ComponentView32WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE, VAF> callback) {
         this.checkDestroyed();
+        if (this.columns) {
+            new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, true).query(this.world, this.querySeg, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30], (VAF) values[31]);
+                return false;
+            });
+            return;
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
@@ -17746,6 +18993,10 @@ public abstract class QueryBase {
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView, VAF extends ComponentView> long findView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, ComponentView32Predicate<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE, VAF> predicate) {
         this.checkDestroyed();
+        if (this.columns) {
+            return new ColumnsIteration(this.world, new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, true).query(this.world, this.querySeg, (entityId, values) ->
+                    predicate.test((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30], (VAF) values[31]));
+        }
         try (Arena tmpArena = Arena.ofConfined()) {
             MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, this.world.worldSeg(), this.querySeg);
             if (iter.address() == 0) {
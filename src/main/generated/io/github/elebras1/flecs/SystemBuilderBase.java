@@ -1,6 +1,7 @@
 // Generated by EachGenerator.
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.ColumnsIteration;
 import io.github.elebras1.flecs.Component;
 import io.github.elebras1.flecs.ComponentView;
 import io.github.elebras1.flecs.FlecsSystem;
@@ -23,7 +24,26 @@ public abstract class SystemBuilderBase {
 
     protected abstract FlecsSystem build();
 
+    private FlecsSystem eachColumns(Class<?>[] componentClasses, boolean views, ColumnsIteration.Row row) {
+        ColumnsIteration iteration = new ColumnsIteration(this.world, componentClasses, views);
+        MemorySegment callbackStub = ecs_iter_action_t.allocate(iterSegment -> {
+            if (views) {
+                this.world.viewCache().resetCursors();
+            }
+            iteration.run(iterSegment, row);
+        }, this.world.arena());
+        ecs_system_desc_t.callback(this.desc, callbackStub);
+        return build();
+    }
+
+    @SuppressWarnings("unchecked")
     public <A> FlecsSystem each(Class<A> componentClassA, Component1Callback<A> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA}, false, (entityId, values) -> {
+                callback.accept((A) values[0]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         long sizeA = componentA.size();
         MemorySegment callbackStub = ecs_iter_action_t.allocate(iterSegment -> {
@@ -38,7 +58,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A> FlecsSystem each(Class<A> componentClassA, Component1WithEntityCallback<A> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         long sizeA = componentA.size();
         MemorySegment callbackStub = ecs_iter_action_t.allocate(iterSegment -> {
@@ -57,6 +84,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, VA extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, ComponentView1Callback<VA> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA}, true, (entityId, values) -> {
+                callback.accept((VA) values[0]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         VA componentViewA = (VA) this.world.viewCache().getComponentView(componentClassA);
         long sizeA = componentA.size();
@@ -75,6 +108,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, VA extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, ComponentView1WithEntityCallback<VA> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         VA componentViewA = (VA) this.world.viewCache().getComponentView(componentClassA);
         long sizeA = componentA.size();
@@ -93,7 +132,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Component2Callback<A, B> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         long sizeA = componentA.size();
@@ -112,7 +158,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Component2WithEntityCallback<A, B> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         long sizeA = componentA.size();
@@ -135,6 +188,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, VA extends ComponentView, VB extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, ComponentView2Callback<VA, VB> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         VA componentViewA = (VA) this.world.viewCache().getComponentView(componentClassA);
@@ -158,6 +217,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, VA extends ComponentView, VB extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, ComponentView2WithEntityCallback<VA, VB> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         VA componentViewA = (VA) this.world.viewCache().getComponentView(componentClassA);
@@ -181,7 +246,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Component3Callback<A, B, C> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -204,7 +276,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Component3WithEntityCallback<A, B, C> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -231,6 +310,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, ComponentView3Callback<VA, VB, VC> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -259,6 +344,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, ComponentView3WithEntityCallback<VA, VB, VC> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -287,7 +378,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Component4Callback<A, B, C, D> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -314,7 +412,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Component4WithEntityCallback<A, B, C, D> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -345,6 +450,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, ComponentView4Callback<VA, VB, VC, VD> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -378,6 +489,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, ComponentView4WithEntityCallback<VA, VB, VC, VD> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -411,7 +528,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Component5Callback<A, B, C, D, E> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -442,7 +566,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Component5WithEntityCallback<A, B, C, D, E> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -477,6 +608,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, ComponentView5Callback<VA, VB, VC, VD, VE> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -515,6 +652,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, ComponentView5WithEntityCallback<VA, VB, VC, VD, VE> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -553,7 +696,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Component6Callback<A, B, C, D, E, F> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -588,7 +738,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Component6WithEntityCallback<A, B, C, D, E, F> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -627,6 +784,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, ComponentView6Callback<VA, VB, VC, VD, VE, VF> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -670,6 +833,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, ComponentView6WithEntityCallback<VA, VB, VC, VD, VE, VF> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -713,7 +882,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Component7Callback<A, B, C, D, E, F, G> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -752,7 +928,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Component7WithEntityCallback<A, B, C, D, E, F, G> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -795,6 +978,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, ComponentView7Callback<VA, VB, VC, VD, VE, VF, VG> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -843,6 +1032,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, ComponentView7WithEntityCallback<VA, VB, VC, VD, VE, VF, VG> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -891,7 +1086,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Component8Callback<A, B, C, D, E, F, G, H> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -934,7 +1136,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Component8WithEntityCallback<A, B, C, D, E, F, G, H> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -981,6 +1190,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, ComponentView8Callback<VA, VB, VC, VD, VE, VF, VG, VH> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1034,6 +1249,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, ComponentView8WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1087,7 +1308,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Component9Callback<A, B, C, D, E, F, G, H, I> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1134,7 +1362,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Component9WithEntityCallback<A, B, C, D, E, F, G, H, I> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1185,6 +1420,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, ComponentView9Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1243,6 +1484,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, ComponentView9WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1301,7 +1548,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Component10Callback<A, B, C, D, E, F, G, H, I, J> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1352,7 +1606,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Component10WithEntityCallback<A, B, C, D, E, F, G, H, I, J> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1407,6 +1668,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, ComponentView10Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1470,6 +1737,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, ComponentView10WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1533,7 +1806,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Component11Callback<A, B, C, D, E, F, G, H, I, J, K> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1588,7 +1868,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Component11WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1647,6 +1934,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, ComponentView11Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1715,6 +2008,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, ComponentView11WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1783,7 +2082,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Component12Callback<A, B, C, D, E, F, G, H, I, J, K, L> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1842,7 +2148,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Component12WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1905,6 +2218,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, ComponentView12Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -1978,6 +2297,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, ComponentView12WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2051,7 +2376,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Component13Callback<A, B, C, D, E, F, G, H, I, J, K, L, M> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2114,7 +2446,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Component13WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2181,6 +2520,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, ComponentView13Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2259,6 +2604,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, ComponentView13WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2337,7 +2688,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Component14Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2404,7 +2762,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Component14WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2475,6 +2840,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, ComponentView14Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2558,6 +2929,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, ComponentView14WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2641,7 +3018,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Component15Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2712,7 +3096,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Component15WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2787,6 +3178,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, ComponentView15Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2875,6 +3272,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, ComponentView15WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -2963,7 +3366,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Component16Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3038,7 +3448,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Component16WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3117,6 +3534,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, ComponentView16Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3210,6 +3633,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, ComponentView16WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3303,7 +3732,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Component17Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3382,7 +3818,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Component17WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3465,6 +3908,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, ComponentView17Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3563,6 +4012,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, ComponentView17WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3661,7 +4116,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Component18Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3744,7 +4206,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Component18WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3831,6 +4300,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, ComponentView18Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -3934,6 +4409,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, ComponentView18WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4037,7 +4518,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Component19Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4124,7 +4612,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Component19WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4215,6 +4710,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, ComponentView19Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4323,6 +4824,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, ComponentView19WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4431,7 +4938,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Component20Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4522,7 +5036,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Component20WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4617,6 +5138,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, ComponentView20Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4730,6 +5257,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, ComponentView20WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4843,7 +5376,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Component21Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -4938,7 +5478,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Component21WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5037,6 +5584,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, ComponentView21Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5155,6 +5708,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, ComponentView21WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5273,7 +5832,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Component22Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5372,7 +5938,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Component22WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5475,6 +6048,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, ComponentView22Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5598,6 +6177,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, ComponentView22WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5721,7 +6306,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Component23Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5824,7 +6416,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Component23WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -5931,6 +6530,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, ComponentView23Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6059,6 +6664,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, ComponentView23WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6187,7 +6798,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Component24Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6294,7 +6912,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Component24WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6405,6 +7030,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, ComponentView24Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6538,6 +7169,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, ComponentView24WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6671,7 +7308,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Component25Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6782,7 +7426,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Component25WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -6897,6 +7548,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, ComponentView25Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7035,6 +7692,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, ComponentView25WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7173,7 +7836,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Component26Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7288,7 +7958,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Component26WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7407,6 +8084,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, ComponentView26Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7550,6 +8233,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, ComponentView26WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7693,7 +8382,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Component27Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7812,7 +8508,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Component27WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -7935,6 +8638,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, ComponentView27Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8083,6 +8792,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, ComponentView27WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8231,7 +8946,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Component28Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8354,7 +9076,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Component28WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8481,6 +9210,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, ComponentView28Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8634,6 +9369,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, ComponentView28WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8787,7 +9528,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Component29Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -8914,7 +9662,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Component29WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9045,6 +9800,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, ComponentView29Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9203,6 +9964,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, ComponentView29WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9361,7 +10128,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Component30Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9492,7 +10266,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Component30WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9627,6 +10408,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, ComponentView30Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9790,6 +10577,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, ComponentView30WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -9953,7 +10746,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Component31Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -10088,7 +10888,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Component31WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -10227,6 +11034,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, ComponentView31Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -10395,6 +11208,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, ComponentView31WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -10563,7 +11382,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, Component32Callback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, false, (entityId, values) -> {
+                callback.accept((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30], (AF) values[31]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -10702,7 +11528,14 @@ public abstract class SystemBuilderBase {
         return build();
     }
 
+    @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> FlecsSystem each(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, Component32WithEntityCallback<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, false, (entityId, values) -> {
+                callback.accept(entityId, (A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9], (K) values[10], (L) values[11], (M) values[12], (N) values[13], (O) values[14], (P) values[15], (Q) values[16], (R) values[17], (S) values[18], (T) values[19], (U) values[20], (V) values[21], (W) values[22], (X) values[23], (Y) values[24], (Z) values[25], (AA) values[26], (AB) values[27], (AC) values[28], (AD) values[29], (AE) values[30], (AF) values[31]);
+                return false;
+            });
+        }
         Component<A> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<B> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<C> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -10845,6 +11678,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView, VAF extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, ComponentView32Callback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE, VAF> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, true, (entityId, values) -> {
+                callback.accept((VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30], (VAF) values[31]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
@@ -11018,6 +11857,12 @@ public abstract class SystemBuilderBase {
 
     @SuppressWarnings("unchecked")
     public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, AB, AC, AD, AE, AF, VA extends ComponentView, VB extends ComponentView, VC extends ComponentView, VD extends ComponentView, VE extends ComponentView, VF extends ComponentView, VG extends ComponentView, VH extends ComponentView, VI extends ComponentView, VJ extends ComponentView, VK extends ComponentView, VL extends ComponentView, VM extends ComponentView, VN extends ComponentView, VO extends ComponentView, VP extends ComponentView, VQ extends ComponentView, VR extends ComponentView, VS extends ComponentView, VT extends ComponentView, VU extends ComponentView, VV extends ComponentView, VW extends ComponentView, VX extends ComponentView, VY extends ComponentView, VZ extends ComponentView, VAA extends ComponentView, VAB extends ComponentView, VAC extends ComponentView, VAD extends ComponentView, VAE extends ComponentView, VAF extends ComponentView> FlecsSystem eachView(Class<A> componentClassA, Class<B> componentClassB, Class<C> componentClassC, Class<D> componentClassD, Class<E> componentClassE, Class<F> componentClassF, Class<G> componentClassG, Class<H> componentClassH, Class<I> componentClassI, Class<J> componentClassJ, Class<K> componentClassK, Class<L> componentClassL, Class<M> componentClassM, Class<N> componentClassN, Class<O> componentClassO, Class<P> componentClassP, Class<Q> componentClassQ, Class<R> componentClassR, Class<S> componentClassS, Class<T> componentClassT, Class<U> componentClassU, Class<V> componentClassV, Class<W> componentClassW, Class<X> componentClassX, Class<Y> componentClassY, Class<Z> componentClassZ, Class<AA> componentClassAA, Class<AB> componentClassAB, Class<AC> componentClassAC, Class<AD> componentClassAD, Class<AE> componentClassAE, Class<AF> componentClassAF, ComponentView32WithEntityCallback<VA, VB, VC, VD, VE, VF, VG, VH, VI, VJ, VK, VL, VM, VN, VO, VP, VQ, VR, VS, VT, VU, VV, VW, VX, VY, VZ, VAA, VAB, VAC, VAD, VAE, VAF> callback) {
+        if (ColumnsIteration.isColumns(this.world, componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF)) {
+            return this.eachColumns(new Class<?>[] {componentClassA, componentClassB, componentClassC, componentClassD, componentClassE, componentClassF, componentClassG, componentClassH, componentClassI, componentClassJ, componentClassK, componentClassL, componentClassM, componentClassN, componentClassO, componentClassP, componentClassQ, componentClassR, componentClassS, componentClassT, componentClassU, componentClassV, componentClassW, componentClassX, componentClassY, componentClassZ, componentClassAA, componentClassAB, componentClassAC, componentClassAD, componentClassAE, componentClassAF}, true, (entityId, values) -> {
+                callback.accept(entityId, (VA) values[0], (VB) values[1], (VC) values[2], (VD) values[3], (VE) values[4], (VF) values[5], (VG) values[6], (VH) values[7], (VI) values[8], (VJ) values[9], (VK) values[10], (VL) values[11], (VM) values[12], (VN) values[13], (VO) values[14], (VP) values[15], (VQ) values[16], (VR) values[17], (VS) values[18], (VT) values[19], (VU) values[20], (VV) values[21], (VW) values[22], (VX) values[23], (VY) values[24], (VZ) values[25], (VAA) values[26], (VAB) values[27], (VAC) values[28], (VAD) values[29], (VAE) values[30], (VAF) values[31]);
+                return false;
+            });
+        }
         Component<?> componentA = this.world.componentRegistry().getComponent(componentClassA);
         Component<?> componentB = this.world.componentRegistry().getComponent(componentClassB);
         Component<?> componentC = this.world.componentRegistry().getComponent(componentClassC);
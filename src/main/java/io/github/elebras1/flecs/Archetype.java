@@ -0,0 +1,165 @@
+package io.github.elebras1.flecs;
+
+import io.github.elebras1.flecs.util.internal.buffer.ScratchStack;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import java.util.function.Function;
+
+public final class Archetype<R extends Record> {
+
+    private final World world;
+    private final Component<Object>[] components;
+    private final long[] componentIds;
+    private final List<Function<R, ?>> accessors;
+    private final int[] typeIndices;
+    private final long dataOffset;
+    private MemorySegment tableSeg;
+    private long tableGeneration;
+
+    @SuppressWarnings("unchecked")
+    public Archetype(World world, List<Class<?>> componentClasses, List<Function<R, ?>> accessors) {
+        if (componentClasses.size() != accessors.size()) {
+            throw new IllegalArgumentException("Expected one accessor per component, got " + accessors.size() + " for " + componentClasses.size() + " components");
+        }
+
+        this.world = world;
+        this.accessors = accessors;
+        this.components = new Component[componentClasses.size()];
+        this.componentIds = new long[componentClasses.size()];
+
+        for (int i = 0; i < componentClasses.size(); i++) {
+            Class<?> componentClass = componentClasses.get(i);
+            this.components[i] = (Component<Object>) world.componentRegistry().getComponent(componentClass);
+            if (this.components[i].soa()) {
+                throw new IllegalArgumentException("SOA components cannot be part of an archetype: " + componentClass.getName());
+            }
+            if (this.components[i].blobOffsets().length > 0) {
+                throw new IllegalArgumentException("Components with @VarString or @Blob fields cannot be part of an archetype: " + componentClass.getName());
+            }
+            this.componentIds[i] = world.component(componentClass);
+        }
+
+        // Type indices and the type count only depend on the ids, so they stay valid if the table is recreated.
+        this.tableGeneration = world.tableGeneration();
+        MemorySegment tableSeg = this.resolveTable();
+        this.tableSeg = tableSeg;
+
+        this.typeIndices = new int[this.componentIds.length];
+        for (int i = 0; i < this.componentIds.length; i++) {
+            this.typeIndices[i] = flecs_h.ecs_table_get_type_index(world.worldSeg(), tableSeg, this.componentIds[i]);
+        }
+
+        int typeCount = ecs_type_t.count(flecs_h.ecs_table_get_type(tableSeg).reinterpret(ecs_type_t.sizeof()));
+        this.dataOffset = ecs_bulk_desc_t.sizeof() + (long) typeCount * ValueLayout.ADDRESS.byteSize();
+    }
+
+    public long[] componentIds() {
+        return this.componentIds.clone();
+    }
+
+    public Table table() {
+        return new Table(this.world, this.tableSeg());
+    }
+
+    public long spawn(R row) {
+        return this.bulkInit(1, row, null)[0];
+    }
+
+    public long[] spawn(R row, int count) {
+        return this.bulkInit(count, row, null);
+    }
+
+    public long[] spawn(List<R> rows) {
+        return this.bulkInit(rows.size(), null, rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(long entityId, int componentIndex) {
+        long address = flecs_h.ecs_get_id(this.world.worldSeg(), entityId, this.componentIds[componentIndex]);
+        if (address == 0) {
+            return null;
+        }
+        return (T) this.components[componentIndex].read(World.WHOLE_MEMORY, address);
+    }
+
+    public void set(long entityId, R row) {
+        Object[] values = new Object[this.components.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.accessors.get(i).apply(row);
+        }
+        this.world.entityInit(entityId, World.NO_IDS, values);
+    }
+
+    // Columns are laid out in table type order so the data array can be handed to ecs_bulk_init as is.
+    private long[] bulkInit(int count, R sharedRow, List<R> rows) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+
+        long size = this.dataOffset;
+        for (Component<Object> component : this.components) {
+            size = alignUp(size, component.alignment()) + component.size() * count;
+        }
+
+        ScratchStack scratchStack = this.world.getScratchStack();
+        MemorySegment frame = scratchStack.push(size);
+        try {
+            MemorySegment descSeg = frame.asSlice(0, ecs_bulk_desc_t.sizeof());
+            MemorySegment dataSeg = frame.asSlice(ecs_bulk_desc_t.sizeof(), this.dataOffset - ecs_bulk_desc_t.sizeof());
+
+            long offset = this.dataOffset;
+            for (int c = 0; c < this.components.length; c++) {
+                Component<Object> component = this.components[c];
+                if (component.tag()) {
+                    continue;
+                }
+                long stride = component.size();
+                offset = alignUp(offset, component.alignment());
+
+                Function<R, ?> accessor = this.accessors.get(c);
+                Object shared = rows == null ? accessor.apply(sharedRow) : null;
+                for (int i = 0; i < count; i++) {
+                    Object value = rows == null ? shared : accessor.apply(rows.get(i));
+                    component.write(frame, offset + i * stride, value);
+                }
+
+                dataSeg.setAtIndex(ValueLayout.ADDRESS, this.typeIndices[c], frame.asSlice(offset, stride * count));
+                offset += stride * count;
+            }
+
+            ecs_bulk_desc_t.entities(descSeg, MemorySegment.NULL);
+            ecs_bulk_desc_t.count(descSeg, count);
+            ecs_bulk_desc_t.table(descSeg, this.tableSeg());
+            ecs_bulk_desc_t.data(descSeg, dataSeg);
+
+            MemorySegment entitiesSeg = flecs_h.ecs_bulk_init(this.world.worldSeg(), descSeg);
+            return entitiesSeg.reinterpret((long) count * Long.BYTES).toArray(ValueLayout.JAVA_LONG);
+        } finally {
+            scratchStack.pop();
+        }
+    }
+
+    // World.deleteEmptyTables and component deletion can free the table; both bump the world table generation.
+    private MemorySegment tableSeg() {
+        long generation = this.world.tableGeneration();
+        if (generation != this.tableGeneration) {
+            this.tableSeg = this.resolveTable();
+            this.tableGeneration = generation;
+        }
+        return this.tableSeg;
+    }
+
+    private MemorySegment resolveTable() {
+        MemorySegment tableSeg = MemorySegment.NULL;
+        for (long componentId : this.componentIds) {
+            tableSeg = flecs_h.ecs_table_add_id(this.world.worldSeg(), tableSeg, componentId);
+        }
+        return tableSeg;
+    }
+
+    private static long alignUp(long value, long alignment) {
+        return (value + alignment - 1) & -alignment;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.elebras1.flecs;
+
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
+import io.github.elebras1.flecs.util.internal.MemoryAccess;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+public final class BlobString implements CharSequence {
+
+    private long handle;
+
+    /**
+     * Internal API - Do not use.
+     */
+    public BlobString setHandle(long handle) {
+        this.handle = handle;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return BlobAllocator.length(this.handle);
+    }
+
+    // Characters are read straight from the off-heap block; nothing is decoded until toString().
+    @Override
+    public char charAt(int index) {
+        int length = this.length();
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        long data = BlobAllocator.data(this.handle);
+        if (BlobAllocator.coder(this.handle) == BlobAllocator.LATIN1) {
+            return (char) (World.WHOLE_MEMORY.get(ValueLayout.JAVA_BYTE, data + index) & 0xFF);
+        }
+        return World.WHOLE_MEMORY.get(ValueLayout.JAVA_CHAR_UNALIGNED, data + 2L * index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return this.toString().substring(start, end);
+    }
+
+    public boolean contentEquals(CharSequence other) {
+        int length = this.length();
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public MemorySegment segment() {
+        return this.handle == 0 ? MemorySegment.NULL : BlobAllocator.segment(this.handle);
+    }
+
+    @Override
+    public String toString() {
+        return MemoryAccess.varString(this.handle);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.MemorySegment;
+
+// A query term on a SOA component matches its tag, which has no data: the fields live in the table column of each
+// (With, column) id. The cursor resolves those columns once per iterator result, with one downcall per column, and moves
+// views or records along them. It keeps per-result state, so every thread iterating needs its own cursor.
+final class ColumnsCursor<T> {
+
+    private final Component<T> component;
+    private final ComponentColumns columns;
+    private final long[] bases;
+    private final long[] strides;
+    private final MemorySegment scratchSeg;
+
+    private ColumnsCursor(Component<T> component, ComponentColumns columns) {
+        this.component = component;
+        this.columns = columns;
+        this.bases = new long[columns.count()];
+        this.strides = new long[columns.count()];
+        this.scratchSeg = MemorySegment.ofArray(new long[(int) ((component.size() + Long.BYTES - 1) / Long.BYTES)]);
+    }
+
+    // Null for components stored as one struct, so callers keep their single address path for them.
+    static <T> ColumnsCursor<T> of(World world, Class<T> componentClass) {
+        Component<T> component = world.componentRegistry().getComponent(componentClass);
+        if (component == null || !component.soa()) {
+            return null;
+        }
+        long componentId = world.componentRegistry().getComponentId(componentClass);
+        return new ColumnsCursor<>(component, world.componentRegistry().getColumns(componentId));
+    }
+
+    // Returns the address of the first column, 0 when the field is not set (an optional term that did not match).
+    long reset(MemorySegment iterSeg, int index) {
+        if ((ecs_iter_t.set_fields(iterSeg) & (1 << index)) == 0) {
+            return 0;
+        }
+        MemorySegment worldSeg = ecs_iter_t.real_world(iterSeg);
+        if (flecs_h.ecs_field_is_self(iterSeg, (byte) index)) {
+            // ecs_table_get_id finds the column and offsets it in one call, so there is no column index to keep per table.
+            // Flecs frees tables when one of their ids is deleted, which would leave an index cached by table pointer stale.
+            MemorySegment tableSeg = ecs_iter_t.table(iterSeg);
+            int offset = ecs_iter_t.offset(iterSeg);
+            for (int i = 0; i < this.columns.count(); i++) {
+                this.bases[i] = flecs_h.ecs_table_get_id(worldSeg, tableSeg, this.columns.ids()[i], offset).address();
+                this.strides[i] = this.columns.sizes()[i];
+            }
+        } else {
+            // A shared field has a single element, owned by the source entity.
+            long src = flecs_h.ecs_field_src(iterSeg, (byte) index);
+            for (int i = 0; i < this.columns.count(); i++) {
+                this.bases[i] = flecs_h.ecs_get_id(worldSeg, src, this.columns.ids()[i]);
+                this.strides[i] = 0;
+            }
+        }
+        return this.bases[0];
+    }
+
+    long address(int column, int row) {
+        return this.bases[column] + row * this.strides[column];
+    }
+
+    void moveView(ComponentView view, int row) {
+        for (int i = 0; i < this.columns.count(); i++) {
+            view.setColumnAddress(i, this.address(i, row));
+        }
+    }
+
+    T read(int row) {
+        for (int i = 0; i < this.columns.count(); i++) {
+            MemorySegment.copy(World.WHOLE_MEMORY, this.address(i, row), this.scratchSeg, this.columns.offsets()[i], this.columns.sizes()[i]);
+        }
+        return this.component.read(this.scratchSeg, 0);
+    }
+
+    void write(int row, T data) {
+        this.component.write(this.scratchSeg, 0, data);
+        for (int i = 0; i < this.columns.count(); i++) {
+            MemorySegment.copy(this.scratchSeg, this.columns.offsets()[i], World.WHOLE_MEMORY, this.address(i, row), this.columns.sizes()[i]);
+        }
+    }
+
+    void fill(int count) {
+        for (int i = 0; i < this.columns.count(); i++) {
+            World.WHOLE_MEMORY.asSlice(this.bases[i], this.columns.sizes()[i] * count).fill((byte) 0);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+// Slow path of the generated each/eachView/find for queries and systems that involve a SOA component. It is chosen once
+// when the query or system is built, so the generated loops for struct components stay free of any SOA check.
+// Struct terms are read from their field as usual, SOA terms through a ColumnsCursor.
+final class ColumnsIteration {
+
+    @FunctionalInterface
+    interface Row {
+        // Returns true to stop the iteration at this entity.
+        boolean accept(long entityId, Object[] values);
+    }
+
+    private final Component<?>[] components;
+    private final ColumnsCursor<?>[] cursors;
+    private final ComponentView[] views;
+    private final long[] bases;
+    private final Object[] values;
+
+    ColumnsIteration(World world, Class<?>[] componentClasses, boolean views) {
+        int n = componentClasses.length;
+        this.components = new Component[n];
+        this.cursors = new ColumnsCursor[n];
+        this.views = views ? new ComponentView[n] : null;
+        this.bases = new long[n];
+        this.values = new Object[n];
+        for (int i = 0; i < n; i++) {
+            this.components[i] = world.componentRegistry().getComponent(componentClasses[i]);
+            this.cursors[i] = ColumnsCursor.of(world, componentClasses[i]);
+            if (views) {
+                this.views[i] = world.viewCache().getComponentView(componentClasses[i]);
+                this.values[i] = this.views[i];
+            }
+        }
+    }
+
+    static boolean isColumns(World world, Class<?>... componentClasses) {
+        for (Class<?> componentClass : componentClasses) {
+            Component<?> component = world.componentRegistry().getComponent(componentClass);
+            if (component != null && component.soa()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean hasColumns(World world, MemorySegment querySeg) {
+        MemorySegment query = querySeg.reinterpret(ecs_query_t.sizeof());
+        int fieldCount = Byte.toUnsignedInt(ecs_query_t.field_count(query));
+        MemorySegment ids = ecs_query_t.ids(query).reinterpret((long) fieldCount * Long.BYTES);
+        for (int i = 0; i < fieldCount; i++) {
+            if (world.componentRegistry().isColumns(ids.getAtIndex(ValueLayout.JAVA_LONG, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long query(World world, MemorySegment querySeg, Row row) {
+        try (Arena tmpArena = Arena.ofConfined()) {
+            MemorySegment iter = flecs_h.ecs_query_iter(tmpArena, world.worldSeg(), querySeg);
+            if (iter.address() == 0) {
+                throw new IllegalStateException("ecs_query_iter returned a null iterator");
+            }
+            if (this.views != null) {
+                world.viewCache().resetCursors();
+            }
+            while (flecs_h.ecs_iter_next(iter)) {
+                long entityId = this.run(iter, row);
+                if (entityId != 0) {
+                    flecs_h.ecs_iter_fini(iter);
+                    return entityId;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    // Iterates one iterator result, returns the entity the row stopped at or 0.
+    long run(MemorySegment iterSeg, Row row) {
+        int n = this.components.length;
+        for (int f = 0; f < n; f++) {
+            this.bases[f] = this.cursors[f] == null
+                    ? flecs_h.ecs_field_w_size(iterSeg, this.components[f].size(), (byte) f).address()
+                    : this.cursors[f].reset(iterSeg, f);
+        }
+
+        MemorySegment entities = ecs_iter_t.entities(iterSeg);
+        int count = ecs_iter_t.count(iterSeg);
+        for (int i = 0; i < count; i++) {
+            for (int f = 0; f < n; f++) {
+                ColumnsCursor<?> cursor = this.cursors[f];
+                if (this.views != null) {
+                    if (cursor == null) {
+                        this.views[f].setBaseAddress(this.bases[f] + i * this.components[f].size());
+                    } else {
+                        cursor.moveView(this.views[f], i);
+                    }
+                } else {
+                    this.values[f] = cursor == null
+                            ? this.components[f].read(World.WHOLE_MEMORY, this.bases[f] + i * this.components[f].size())
+                            : cursor.read(i);
+                }
+            }
+            long entityId = entities.address() == 0 ? 0 : entities.getAtIndex(ValueLayout.JAVA_LONG, i);
+            if (row.accept(entityId, this.values) && entityId != 0) {
+                return entityId;
+            }
+        }
+        return 0L;
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
+
 import java.lang.foreign.MemoryLayout;
 import java.lang.foreign.MemorySegment;
+import java.util.List;
 
 public interface Component<T> {
 
@@ -9,10 +12,43 @@ public interface Component<T> {
 
     void write(MemorySegment segment, long offset, T data);
 
+    // Components with @VarString or @Blob fields override this one and allocate their blocks from the world's allocator.
+    default void write(MemorySegment segment, long offset, T data, BlobAllocator blobAllocator) {
+        this.write(segment, offset, data);
+    }
+
     T read(MemorySegment segment, long offset);
 
     T[] createArray(int size);
 
+    default int index() {
+        return -1;
+    }
+
+    default List<ComponentMember> members() {
+        return List.of();
+    }
+
+    default T defaultValue() {
+        return null;
+    }
+
+    default long[] traits() {
+        return World.NO_IDS;
+    }
+
+    default long[] blobOffsets() {
+        return World.NO_IDS;
+    }
+
+    default boolean tag() {
+        return false;
+    }
+
+    default boolean soa() {
+        return false;
+    }
+
     default long size() {
         return layout().byteSize();
     }
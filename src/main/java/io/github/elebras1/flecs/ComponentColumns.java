@@ -0,0 +1,8 @@
+package io.github.elebras1.flecs;
+
+record ComponentColumns(long[] ids, long[] offsets, long[] sizes) {
+
+    int count() {
+        return this.ids.length;
+    }
+}
@@ -1,9 +1,13 @@
 package io.github.elebras1.flecs;
 
 import io.github.elebras1.flecs.callback.CopyMoveCallback;
+import io.github.elebras1.flecs.callback.CopyMoveViewCallback;
 import io.github.elebras1.flecs.callback.IterHookCallback;
+import io.github.elebras1.flecs.callback.IterHookViewCallback;
 import io.github.elebras1.flecs.callback.ReplaceHookCallback;
+import io.github.elebras1.flecs.callback.ReplaceHookViewCallback;
 import io.github.elebras1.flecs.callback.XtorCallback;
+import io.github.elebras1.flecs.callback.XtorViewCallback;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
@@ -15,6 +19,7 @@ import static java.lang.foreign.ValueLayout.*;
 public class ComponentHooks<T> {
     private final Linker linker;
     private final World world;
+    private final Class<T> componentClass;
     private final Component<T> component;
     private IterHookCallback<T> onAddCallback;
     private IterHookCallback<T> onSetCallback;
@@ -26,60 +31,152 @@ public class ComponentHooks<T> {
     private CopyMoveCallback<T> moveCallback;
     private CopyMoveCallback<T> copyCtorCallback;
     private CopyMoveCallback<T> moveCtorCallback;
-
-    public ComponentHooks(World world, Component<T> component) {
+    private IterHookViewCallback<ComponentView> onAddViewCallback;
+    private IterHookViewCallback<ComponentView> onSetViewCallback;
+    private IterHookViewCallback<ComponentView> onRemoveViewCallback;
+    private ReplaceHookViewCallback<ComponentView> onReplaceViewCallback;
+    private XtorViewCallback<ComponentView> ctorViewCallback;
+    private XtorViewCallback<ComponentView> dtorViewCallback;
+    private CopyMoveViewCallback<ComponentView> copyViewCallback;
+    private CopyMoveViewCallback<ComponentView> moveViewCallback;
+    private CopyMoveViewCallback<ComponentView> copyCtorViewCallback;
+    private CopyMoveViewCallback<ComponentView> moveCtorViewCallback;
+
+    public ComponentHooks(World world, Class<T> componentClass) {
         this.linker = Linker.nativeLinker();
         this.world = world;
-        this.component = component;
+        this.componentClass = componentClass;
+        this.component = world.componentRegistry().getComponent(componentClass);
+        world.componentRegistry().checkNotColumns(componentClass, "ComponentHooks");
     }
 
     public ComponentHooks<T> onAdd(IterHookCallback<T> callback) {
         this.onAddCallback = callback;
+        this.onAddViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> onSet(IterHookCallback<T> callback) {
         this.onSetCallback = callback;
+        this.onSetViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> onRemove(IterHookCallback<T> callback) {
         this.onRemoveCallback = callback;
+        this.onRemoveViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> onReplace(ReplaceHookCallback<T> callback) {
         this.onReplaceCallback = callback;
+        this.onReplaceViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> ctor(XtorCallback<T> callback) {
         this.ctorCallback = callback;
+        this.ctorViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> dtor(XtorCallback<T> callback) {
         this.dtorCallback = callback;
+        this.dtorViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> copy(CopyMoveCallback<T> callback) {
         this.copyCallback = callback;
+        this.copyViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> move(CopyMoveCallback<T> callback) {
         this.moveCallback = callback;
+        this.moveViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> copyCtor(CopyMoveCallback<T> callback) {
         this.copyCtorCallback = callback;
+        this.copyCtorViewCallback = null;
         return this;
     }
 
     public ComponentHooks<T> moveCtor(CopyMoveCallback<T> callback) {
         this.moveCtorCallback = callback;
+        this.moveCtorViewCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> onAddView(IterHookViewCallback<V> callback) {
+        this.onAddViewCallback = (IterHookViewCallback<ComponentView>) callback;
+        this.onAddCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> onSetView(IterHookViewCallback<V> callback) {
+        this.onSetViewCallback = (IterHookViewCallback<ComponentView>) callback;
+        this.onSetCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> onRemoveView(IterHookViewCallback<V> callback) {
+        this.onRemoveViewCallback = (IterHookViewCallback<ComponentView>) callback;
+        this.onRemoveCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> onReplaceView(ReplaceHookViewCallback<V> callback) {
+        this.onReplaceViewCallback = (ReplaceHookViewCallback<ComponentView>) callback;
+        this.onReplaceCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> ctorView(XtorViewCallback<V> callback) {
+        this.ctorViewCallback = (XtorViewCallback<ComponentView>) callback;
+        this.ctorCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> dtorView(XtorViewCallback<V> callback) {
+        this.dtorViewCallback = (XtorViewCallback<ComponentView>) callback;
+        this.dtorCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> copyView(CopyMoveViewCallback<V> callback) {
+        this.copyViewCallback = (CopyMoveViewCallback<ComponentView>) callback;
+        this.copyCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> moveView(CopyMoveViewCallback<V> callback) {
+        this.moveViewCallback = (CopyMoveViewCallback<ComponentView>) callback;
+        this.moveCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> copyCtorView(CopyMoveViewCallback<V> callback) {
+        this.copyCtorViewCallback = (CopyMoveViewCallback<ComponentView>) callback;
+        this.copyCtorCallback = null;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> ComponentHooks<T> moveCtorView(CopyMoveViewCallback<V> callback) {
+        this.moveCtorViewCallback = (CopyMoveViewCallback<ComponentView>) callback;
+        this.moveCtorCallback = null;
         return this;
     }
 
@@ -144,6 +241,54 @@ public class ComponentHooks<T> {
         }
     }
 
+    private MemorySegment createIterHookViewStub(IterHookViewCallback<ComponentView> callback) {
+        return this.createStub("invokeIterViewHook", callback, FunctionDescriptor.ofVoid(ADDRESS),
+                MethodType.methodType(void.class, IterHookViewCallback.class, MemorySegment.class));
+    }
+
+    private MemorySegment createReplaceHookViewStub(ReplaceHookViewCallback<ComponentView> callback) {
+        return this.createStub("invokeReplaceViewHook", callback, FunctionDescriptor.ofVoid(ADDRESS),
+                MethodType.methodType(void.class, ReplaceHookViewCallback.class, MemorySegment.class));
+    }
+
+    private MemorySegment createXtorViewStub(XtorViewCallback<ComponentView> callback) {
+        return this.createStub("invokeXtorViewHook", callback, FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS),
+                MethodType.methodType(void.class, XtorViewCallback.class, MemorySegment.class, int.class, MemorySegment.class));
+    }
+
+    private MemorySegment createCopyMoveViewStub(CopyMoveViewCallback<ComponentView> callback) {
+        return this.createStub("invokeCopyMoveViewHook", callback, FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS),
+                MethodType.methodType(void.class, CopyMoveViewCallback.class, MemorySegment.class, MemorySegment.class, int.class, MemorySegment.class));
+    }
+
+    // The default instance is written once; every constructed element is then a plain copy of it.
+    private MemorySegment createTemplateCtorStub() {
+        MemorySegment template = this.world.arena().allocate(this.component.layout());
+        this.component.write(template, 0, this.component.defaultValue());
+        return this.createStub("invokeTemplateCtor", template, FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS),
+                MethodType.methodType(void.class, MemorySegment.class, MemorySegment.class, int.class, MemorySegment.class));
+    }
+
+    private MemorySegment createBlobXtorStub(String methodName) {
+        return this.createStub(methodName, this.component.blobOffsets(), FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS),
+                MethodType.methodType(void.class, long[].class, MemorySegment.class, int.class, MemorySegment.class));
+    }
+
+    private MemorySegment createBlobCopyMoveStub(String methodName) {
+        return this.createStub(methodName, this.component.blobOffsets(), FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS),
+                MethodType.methodType(void.class, long[].class, MemorySegment.class, MemorySegment.class, int.class, MemorySegment.class));
+    }
+
+    private MemorySegment createStub(String methodName, Object callback, FunctionDescriptor descriptor, MethodType methodType) {
+        try {
+            MethodHandle target = MethodHandles.lookup().bind(this, methodName, methodType).bindTo(callback);
+
+            return this.linker.upcallStub(target, descriptor, this.world.arena());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create hook stub", e);
+        }
+    }
+
     private void invokeIterHook(IterHookCallback<T> callback, MemorySegment iterSeg) {
         try {
             MemorySegment iter = iterSeg.reinterpret(ecs_iter_t.sizeof());
@@ -226,6 +371,156 @@ public class ComponentHooks<T> {
     }
 
 
+    // View variants point pooled views straight at the native buffer, so no record or slice is allocated per element.
+    private void invokeTemplateCtor(MemorySegment template, MemorySegment segment, int count, MemorySegment typeInfo) {
+        if (segment.address() == 0 || count == 0) {
+            return;
+        }
+
+        long size = template.byteSize();
+        long total = size * count;
+        MemorySegment buffer = segment.reinterpret(total);
+        MemorySegment.copy(template, 0, buffer, 0, size);
+        for (long filled = size; filled < total; filled *= 2) {
+            MemorySegment.copy(buffer, 0, buffer, filled, Math.min(filled, total - filled));
+        }
+    }
+
+    // Each element owns the blocks behind its handles: copies duplicate them, moves hand them over and clear the source.
+    private void invokeBlobCtor(long[] offsets, MemorySegment segment, int count, MemorySegment typeInfo) {
+        if (segment.address() != 0 && count != 0) {
+            segment.reinterpret(this.component.size() * count).fill((byte) 0);
+        }
+    }
+
+    private void invokeBlobDtor(long[] offsets, MemorySegment segment, int count, MemorySegment typeInfo) {
+        this.releaseBlobs(offsets, segment.address(), count);
+    }
+
+    private void invokeBlobCopy(long[] offsets, MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        this.releaseBlobs(offsets, dstSeg.address(), count);
+        this.invokeBlobCopyCtor(offsets, dstSeg, srcSeg, count, typeInfo);
+    }
+
+    private void invokeBlobCopyCtor(long[] offsets, MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        long size = this.component.size();
+        MemorySegment.copy(World.WHOLE_MEMORY, srcSeg.address(), World.WHOLE_MEMORY, dstSeg.address(), size * count);
+        for (int i = 0; i < count; i++) {
+            for (long offset : offsets) {
+                long address = dstSeg.address() + i * size + offset;
+                World.WHOLE_MEMORY.set(JAVA_LONG, address, this.world.blobAllocator().copy(World.WHOLE_MEMORY.get(JAVA_LONG, address)));
+            }
+        }
+    }
+
+    private void invokeBlobMove(long[] offsets, MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        this.releaseBlobs(offsets, dstSeg.address(), count);
+        this.invokeBlobMoveCtor(offsets, dstSeg, srcSeg, count, typeInfo);
+    }
+
+    private void invokeBlobMoveCtor(long[] offsets, MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        long size = this.component.size();
+        MemorySegment.copy(World.WHOLE_MEMORY, srcSeg.address(), World.WHOLE_MEMORY, dstSeg.address(), size * count);
+        for (int i = 0; i < count; i++) {
+            for (long offset : offsets) {
+                World.WHOLE_MEMORY.set(JAVA_LONG, srcSeg.address() + i * size + offset, 0L);
+            }
+        }
+    }
+
+    private void releaseBlobs(long[] offsets, long address, int count) {
+        long size = this.component.size();
+        for (int i = 0; i < count; i++) {
+            for (long offset : offsets) {
+                this.world.blobAllocator().free(World.WHOLE_MEMORY.get(JAVA_LONG, address + i * size + offset));
+            }
+        }
+    }
+
+    private void invokeIterViewHook(IterHookViewCallback<ComponentView> callback, MemorySegment iterSeg) {
+        try {
+            MemorySegment iter = iterSeg.reinterpret(ecs_iter_t.sizeof());
+
+            int count = ecs_iter_t.count(iter);
+            if (count == 0) {
+                return;
+            }
+
+            MemorySegment fieldSeg = flecs_h.ecs_field_w_size(iter, this.component.size(), (byte) 0);
+
+            if (fieldSeg.address() == 0) {
+                return;
+            }
+
+            long size = this.component.size();
+            ComponentView view = this.world.viewCache().getComponentView(this.componentClass);
+            for (int i = 0; i < count; i++) {
+                view.setBaseAddress(fieldSeg.address() + i * size);
+                callback.invoke(view);
+            }
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void invokeReplaceViewHook(ReplaceHookViewCallback<ComponentView> callback, MemorySegment iterSeg) {
+        try {
+            MemorySegment iter = iterSeg.reinterpret(ecs_iter_t.sizeof());
+            int count = ecs_iter_t.count(iter);
+            if (count == 0) return;
+
+            MemorySegment oldSeg = flecs_h.ecs_field_w_size(iter, this.component.size(), (byte) 0);
+            MemorySegment newSeg = flecs_h.ecs_field_w_size(iter, this.component.size(), (byte) 1);
+
+            long size = this.component.size();
+            ComponentView oldView = this.world.viewCache().getComponentView(this.componentClass);
+            ComponentView newView = this.world.viewCache().getComponentView(this.componentClass);
+            for (int i = 0; i < count; i++) {
+                oldView.setBaseAddress(oldSeg.address() + i * size);
+                newView.setBaseAddress(newSeg.address() + i * size);
+                callback.invoke(oldView, newView);
+            }
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void invokeXtorViewHook(XtorViewCallback<ComponentView> callback, MemorySegment segment, int count, MemorySegment typeInfo) {
+        try {
+            if (segment.address() == 0 || count == 0) {
+                return;
+            }
+
+            long size = this.component.size();
+            ComponentView view = this.world.viewCache().getComponentView(this.componentClass);
+            for (int i = 0; i < count; i++) {
+                view.setBaseAddress(segment.address() + i * size);
+                callback.invoke(view);
+            }
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void invokeCopyMoveViewHook(CopyMoveViewCallback<ComponentView> callback, MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        try {
+            if (count == 0) {
+                return;
+            }
+
+            long size = this.component.size();
+            ComponentView dst = this.world.viewCache().getComponentView(this.componentClass);
+            ComponentView src = this.world.viewCache().getComponentView(this.componentClass);
+            for (int i = 0; i < count; i++) {
+                dst.setBaseAddress(dstSeg.address() + i * size);
+                src.setBaseAddress(srcSeg.address() + i * size);
+                callback.invoke(dst, src);
+            }
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private T[] readComponentArray(MemorySegment segment, int count) {
         long size = this.component.size();
@@ -247,66 +542,121 @@ public class ComponentHooks<T> {
 
         for (int i = 0; i < count; i++) {
             if (components[i] != null) {
-                this.component.write(buffer, i * size, components[i]);
+                this.component.write(buffer, i * size, components[i], this.world.blobAllocator());
             }
         }
     }
 
     public void install(MemorySegment worldHandle, long componentId) {
+        boolean blobs = this.component.blobOffsets().length > 0;
+        if (blobs && this.hasLifecycleCallbacks()) {
+            throw new IllegalStateException("Lifecycle hooks of " + this.componentClass.getName() + " are managed by its @VarString and @Blob fields");
+        }
+
         try (Arena tempArena = Arena.ofConfined()) {
             MemorySegment hooks = ecs_type_hooks_t.allocate(tempArena);
 
+            if (blobs) {
+                ecs_type_hooks_t.ctor(hooks, this.createBlobXtorStub("invokeBlobCtor"));
+                ecs_type_hooks_t.dtor(hooks, this.createBlobXtorStub("invokeBlobDtor"));
+                ecs_type_hooks_t.copy(hooks, this.createBlobCopyMoveStub("invokeBlobCopy"));
+                ecs_type_hooks_t.move(hooks, this.createBlobCopyMoveStub("invokeBlobMove"));
+                ecs_type_hooks_t.copy_ctor(hooks, this.createBlobCopyMoveStub("invokeBlobCopyCtor"));
+                ecs_type_hooks_t.move_ctor(hooks, this.createBlobCopyMoveStub("invokeBlobMoveCtor"));
+            }
+
             if (this.ctorCallback != null) {
                 MemorySegment ctorStub = this.createXtorStub(this.ctorCallback);
                 ecs_type_hooks_t.ctor(hooks, ctorStub);
+            } else if (this.ctorViewCallback != null) {
+                MemorySegment ctorStub = this.createXtorViewStub(this.ctorViewCallback);
+                ecs_type_hooks_t.ctor(hooks, ctorStub);
+            } else if (this.component.defaultValue() != null) {
+                ecs_type_hooks_t.ctor(hooks, this.createTemplateCtorStub());
             }
 
             if (this.dtorCallback != null) {
                 MemorySegment dtorStub = this.createXtorStub(this.dtorCallback);
                 ecs_type_hooks_t.dtor(hooks, dtorStub);
+            } else if (this.dtorViewCallback != null) {
+                MemorySegment dtorStub = this.createXtorViewStub(this.dtorViewCallback);
+                ecs_type_hooks_t.dtor(hooks, dtorStub);
             }
 
             if (this.copyCallback != null) {
                 MemorySegment copyStub = this.createCopyMoveStub(this.copyCallback);
                 ecs_type_hooks_t.copy(hooks, copyStub);
+            } else if (this.copyViewCallback != null) {
+                MemorySegment copyStub = this.createCopyMoveViewStub(this.copyViewCallback);
+                ecs_type_hooks_t.copy(hooks, copyStub);
             }
 
             if (this.moveCallback != null) {
                 MemorySegment moveStub = this.createCopyMoveStub(this.moveCallback);
                 ecs_type_hooks_t.move(hooks, moveStub);
+            } else if (this.moveViewCallback != null) {
+                MemorySegment moveStub = this.createCopyMoveViewStub(this.moveViewCallback);
+                ecs_type_hooks_t.move(hooks, moveStub);
             }
 
             if (this.copyCtorCallback != null) {
                 MemorySegment copyCtorStub = this.createCopyMoveStub(this.copyCtorCallback);
                 ecs_type_hooks_t.copy_ctor(hooks, copyCtorStub);
+            } else if (this.copyCtorViewCallback != null) {
+                MemorySegment copyCtorStub = this.createCopyMoveViewStub(this.copyCtorViewCallback);
+                ecs_type_hooks_t.copy_ctor(hooks, copyCtorStub);
             }
 
             if (this.moveCtorCallback != null) {
                 MemorySegment moveCtorStub = this.createCopyMoveStub(this.moveCtorCallback);
                 ecs_type_hooks_t.move_ctor(hooks, moveCtorStub);
+            } else if (this.moveCtorViewCallback != null) {
+                MemorySegment moveCtorStub = this.createCopyMoveViewStub(this.moveCtorViewCallback);
+                ecs_type_hooks_t.move_ctor(hooks, moveCtorStub);
             }
 
             if (this.onAddCallback != null) {
                 MemorySegment onAddStub = this.createIterHookStub(this.onAddCallback);
                 ecs_type_hooks_t.on_add(hooks, onAddStub);
+            } else if (this.onAddViewCallback != null) {
+                MemorySegment onAddStub = this.createIterHookViewStub(this.onAddViewCallback);
+                ecs_type_hooks_t.on_add(hooks, onAddStub);
             }
 
             if (this.onSetCallback != null) {
                 MemorySegment onSetStub = this.createIterHookStub(this.onSetCallback);
                 ecs_type_hooks_t.on_set(hooks, onSetStub);
+            } else if (this.onSetViewCallback != null) {
+                MemorySegment onSetStub = this.createIterHookViewStub(this.onSetViewCallback);
+                ecs_type_hooks_t.on_set(hooks, onSetStub);
             }
 
             if (this.onRemoveCallback != null) {
                 MemorySegment onRemoveStub = this.createIterHookStub(this.onRemoveCallback);
                 ecs_type_hooks_t.on_remove(hooks, onRemoveStub);
+            } else if (this.onRemoveViewCallback != null) {
+                MemorySegment onRemoveStub = this.createIterHookViewStub(this.onRemoveViewCallback);
+                ecs_type_hooks_t.on_remove(hooks, onRemoveStub);
             }
 
             if (this.onReplaceCallback != null) {
                 MemorySegment onReplaceStub = this.createReplaceHookStub(this.onReplaceCallback);
                 ecs_type_hooks_t.on_replace(hooks, onReplaceStub);
+            } else if (this.onReplaceViewCallback != null) {
+                MemorySegment onReplaceStub = this.createReplaceHookViewStub(this.onReplaceViewCallback);
+                ecs_type_hooks_t.on_replace(hooks, onReplaceStub);
             }
 
             flecs_h.ecs_set_hooks_id(worldHandle, componentId, hooks);
         }
     }
+
+    private boolean hasLifecycleCallbacks() {
+        return this.ctorCallback != null || this.ctorViewCallback != null
+                || this.dtorCallback != null || this.dtorViewCallback != null
+                || this.copyCallback != null || this.copyViewCallback != null
+                || this.moveCallback != null || this.moveViewCallback != null
+                || this.copyCtorCallback != null || this.copyCtorViewCallback != null
+                || this.moveCtorCallback != null || this.moveCtorViewCallback != null;
+    }
 }
\ No newline at end of file
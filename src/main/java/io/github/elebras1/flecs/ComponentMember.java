@@ -0,0 +1,30 @@
+package io.github.elebras1.flecs;
+
+public record ComponentMember(String name, Kind kind, long offset, int count) {
+
+    public enum Kind {
+        BOOL,
+        CHAR,
+        I8,
+        I16,
+        I32,
+        I64,
+        U16,
+        F32,
+        F64;
+
+        long typeId() {
+            return switch (this) {
+                case BOOL -> flecs_h.FLECS_IDecs_bool_tID_();
+                case CHAR -> flecs_h.FLECS_IDecs_char_tID_();
+                case I8 -> flecs_h.FLECS_IDecs_i8_tID_();
+                case I16 -> flecs_h.FLECS_IDecs_i16_tID_();
+                case I32 -> flecs_h.FLECS_IDecs_i32_tID_();
+                case I64 -> flecs_h.FLECS_IDecs_i64_tID_();
+                case U16 -> flecs_h.FLECS_IDecs_u16_tID_();
+                case F32 -> flecs_h.FLECS_IDecs_f32_tID_();
+                case F64 -> flecs_h.FLECS_IDecs_f64_tID_();
+            };
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+public class ComponentRef<T> {
+
+    private final World world;
+    private final Class<T> componentClass;
+    private final Component<T> component;
+    private final long entityId;
+    private final long componentId;
+    private final MemorySegment refSeg;
+    private final ComponentColumns columns;
+    private final MemorySegment[] columnRefSegs;
+
+    ComponentRef(World world, long entityId, Class<T> componentClass, long componentId) {
+        this.world = world;
+        this.componentClass = componentClass;
+        this.component = world.componentRegistry().getComponent(componentClass);
+        this.entityId = entityId;
+        this.componentId = componentId;
+        // ecs_ref_t owns no flecs resources, so its memory can follow the lifetime of this object instead of the world's.
+        Arena arena = Arena.ofAuto();
+        if (this.component != null && this.component.soa()) {
+            // The SOA tag has no storage to reference, so there is one ref per column.
+            this.refSeg = MemorySegment.NULL;
+            this.columns = world.componentRegistry().getColumns(componentId);
+            this.columnRefSegs = new MemorySegment[this.columns.count()];
+            for (int i = 0; i < this.columns.count(); i++) {
+                this.columnRefSegs[i] = flecs_h.ecs_ref_init_id(arena, world.worldSeg(), entityId, this.columns.ids()[i]);
+            }
+        } else {
+            this.refSeg = flecs_h.ecs_ref_init_id(arena, world.worldSeg(), entityId, componentId);
+            this.columns = null;
+            this.columnRefSegs = null;
+        }
+    }
+
+    public long entity() {
+        return this.entityId;
+    }
+
+    public long componentId() {
+        return this.componentId;
+    }
+
+    public boolean has() {
+        if (this.columns != null) {
+            for (int i = 0; i < this.columns.count(); i++) {
+                if (this.columnAddress(i) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return this.address() != 0;
+    }
+
+    public T get() {
+        if (this.columns != null) {
+            return this.getColumns();
+        }
+        long address = this.address();
+        if (address == 0) {
+            return null;
+        }
+        return this.component.read(World.WHOLE_MEMORY, address);
+    }
+
+    private T getColumns() {
+        MemorySegment dataSeg = this.world.getComponentBuffer(this.component.size());
+        for (int i = 0; i < this.columns.count(); i++) {
+            long address = this.columnAddress(i);
+            if (address == 0) {
+                return null;
+            }
+            MemorySegment.copy(World.WHOLE_MEMORY, address, dataSeg, this.columns.offsets()[i], this.columns.sizes()[i]);
+        }
+        return this.component.read(dataSeg, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> V getMutView() {
+        if (this.columns != null) {
+            return this.has() ? (V) this.getColumnsView() : null;
+        }
+        long address = this.address();
+        if (address == 0) {
+            return null;
+        }
+
+        ComponentView view = this.world.viewCache().getComponentView(this.componentClass);
+        view.setBaseAddress(address);
+        return (V) view;
+    }
+
+    private ComponentView getColumnsView() {
+        ComponentView view = this.world.viewCache().getComponentView(this.componentClass);
+        for (int i = 0; i < this.columns.count(); i++) {
+            view.setColumnAddress(i, this.columnAddress(i));
+        }
+        return view;
+    }
+
+    public ComponentRef<T> set(T data) {
+        if (this.columns != null) {
+            return this.setColumns(data);
+        }
+        long address = this.address();
+        if (address == 0) {
+            throw this.missingComponent();
+        }
+
+        this.component.write(World.WHOLE_MEMORY, address, data, this.world.blobAllocator());
+        flecs_h.ecs_modified_id(this.world.worldSeg(), this.entityId, this.componentId);
+        return this;
+    }
+
+    private ComponentRef<T> setColumns(T data) {
+        if (!this.has()) {
+            throw this.missingComponent();
+        }
+
+        MemorySegment dataSeg = this.world.getComponentBuffer(this.component.size());
+        this.component.write(dataSeg, 0, data);
+        for (int i = 0; i < this.columns.count(); i++) {
+            MemorySegment.copy(dataSeg, this.columns.offsets()[i], World.WHOLE_MEMORY, this.columnAddress(i), this.columns.sizes()[i]);
+        }
+        return this.modified();
+    }
+
+    private IllegalStateException missingComponent() {
+        return new IllegalStateException("Entity " + this.entityId + " does not have component " + this.componentClass.getSimpleName());
+    }
+
+    public ComponentRef<T> modified() {
+        if (this.columns != null) {
+            for (long columnId : this.columns.ids()) {
+                flecs_h.ecs_modified_id(this.world.worldSeg(), this.entityId, columnId);
+            }
+            return this;
+        }
+        flecs_h.ecs_modified_id(this.world.worldSeg(), this.entityId, this.componentId);
+        return this;
+    }
+
+    public void update() {
+        if (this.columns != null) {
+            for (int i = 0; i < this.columns.count(); i++) {
+                flecs_h.ecs_ref_update(this.world.worldSeg(), this.columnRefSegs[i], this.columns.ids()[i]);
+            }
+            return;
+        }
+        flecs_h.ecs_ref_update(this.world.worldSeg(), this.refSeg, this.componentId);
+    }
+
+    private long address() {
+        return flecs_h.ecs_ref_get_id(this.world.worldSeg(), this.refSeg, this.componentId);
+    }
+
+    private long columnAddress(int column) {
+        return flecs_h.ecs_ref_get_id(this.world.worldSeg(), this.columnRefSegs[column], this.columns.ids()[column]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ComponentRef[%d, %s]", this.entityId, this.componentClass.getSimpleName());
+    }
+}
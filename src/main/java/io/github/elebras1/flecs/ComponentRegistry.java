@@ -7,29 +7,47 @@ import io.github.elebras1.flecs.collection.LongObjectMap;
 import io.github.elebras1.flecs.util.Flecs;
 
 import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.PaddingLayout;
+import java.lang.foreign.StructLayout;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
 
 public class ComponentRegistry {
 
     private final World world;
+    private final long[] indexedIds;
     private final ClassLongMap componentIds;
     private final LongClassMap componentClasses;
     private final LongObjectMap<Component<?>> components;
+    private final LongObjectMap<ComponentColumns> columns;
+    private final Map<String, DynamicComponent> dynamicComponents;
+    private ObjectStore objects;
+    private long tableGeneration;
 
     protected ComponentRegistry(World world) {
         this.world = world;
+        this.indexedIds = new long[ComponentMap.size()];
         this.componentIds = new ClassLongMap(ComponentMap.size());
         this.componentClasses = new LongClassMap(ComponentMap.size());
         this.components = new LongObjectMap<>(ComponentMap.size());
+        this.columns = new LongObjectMap<>(ComponentMap.size());
+        this.dynamicComponents = new HashMap<>();
     }
 
     protected <T> long register(Class<T> componentClass) {
-        long existingId = this.componentIds.get(componentClass);
-        if (existingId != -1) {
+        Component<T> component = this.getComponentInstance(componentClass);
+        int index = component != null ? component.index() : -1;
+        long existingId = index >= 0 ? this.indexedIds[index] : this.componentIds.get(componentClass);
+        if (existingId > 0) {
             return existingId;
         }
 
-        Component<T> component = this.getComponentInstance(componentClass);
         String simpleName = componentClass.getSimpleName();
         String symbol = componentClass.getName();
 
@@ -47,6 +65,14 @@ public class ComponentRegistry {
                 long scope = flecs_h.ecs_get_scope(this.world.worldSeg());
                 ecs_entity_desc_t.parent(entityDesc, scope);
 
+                // Traits are part of the creation desc, so the component never exists without them.
+                long[] traits = component.traits();
+                if (traits.length > 0) {
+                    MemorySegment traitsSegment = tempArena.allocate(JAVA_LONG, traits.length + 1);
+                    MemorySegment.copy(traits, 0, traitsSegment, JAVA_LONG, 0, traits.length);
+                    ecs_entity_desc_t.add(entityDesc, traitsSegment);
+                }
+
                 long entityId = flecs_h.ecs_entity_init(this.world.worldSeg(), entityDesc);
                 if (scope != 0) {
                     flecs_h.ecs_add_id(this.world.worldSeg(), entityId, flecs_h.ecs_make_pair(Flecs.ChildOf, scope));
@@ -56,24 +82,226 @@ public class ComponentRegistry {
                 ecs_component_desc_t.entity(componentDesc, entityId);
 
                 MemorySegment typeInfo = ecs_component_desc_t.type(componentDesc);
-                ecs_type_info_t.size(typeInfo, (int) component.size());
-                ecs_type_info_t.alignment(typeInfo, (int) component.alignment());
+                // Tags have no storage. A SOA component is a tag too, its data lives in the column components registered below.
+                boolean tag = component.tag() || component.soa();
+                ecs_type_info_t.size(typeInfo, tag ? 0 : (int) component.size());
+                ecs_type_info_t.alignment(typeInfo, tag ? 0 : (int) component.alignment());
 
                 componentId = flecs_h.ecs_component_init(world.worldSeg(), componentDesc);
 
                 if (componentId == 0) {
                     throw new IllegalStateException("Failed to register component: " + symbol);
                 }
+
+                this.registerMembers(tempArena, componentId, component.members());
+
+                if (component.defaultValue() != null || component.blobOffsets().length > 0) {
+                    new ComponentHooks<>(this.world, componentClass).install(this.world.worldSeg(), componentId);
+                }
+            }
+
+            if (component.soa()) {
+                this.columns.put(componentId, this.registerColumns(tempArena, componentId, symbol, component));
             }
 
-            this.componentIds.put(componentClass, componentId);
+            if (index >= 0) {
+                this.indexedIds[index] = componentId;
+            } else {
+                this.componentIds.put(componentClass, componentId);
+            }
             this.componentClasses.put(componentId, componentClass);
             return componentId;
         }
     }
 
+    // Object components are plain 8-byte handles; the objects themselves stay on the Java heap in the world's store.
+    protected long registerObject(Class<?> objectClass) {
+        long existingId = this.componentIds.get(objectClass);
+        if (existingId > 0) {
+            return existingId;
+        }
+        if (this.getComponentInstance(objectClass) != null) {
+            throw new IllegalArgumentException("@Component records cannot be registered as object components: " + objectClass.getName());
+        }
+
+        String symbol = objectClass.getName();
+        try (Arena tempArena = Arena.ofConfined()) {
+            MemorySegment symbolSegment = tempArena.allocateFrom(symbol);
+
+            long componentId = flecs_h.ecs_lookup_symbol(this.world.worldSeg(), symbolSegment, false, false);
+            if (componentId == 0) {
+                MemorySegment entityDesc = ecs_entity_desc_t.allocate(tempArena);
+                ecs_entity_desc_t.name(entityDesc, tempArena.allocateFrom(objectClass.getSimpleName()));
+                ecs_entity_desc_t.symbol(entityDesc, symbolSegment);
+                ecs_entity_desc_t.parent(entityDesc, flecs_h.ecs_get_scope(this.world.worldSeg()));
+
+                MemorySegment componentDesc = ecs_component_desc_t.allocate(tempArena);
+                ecs_component_desc_t.entity(componentDesc, flecs_h.ecs_entity_init(this.world.worldSeg(), entityDesc));
+                MemorySegment typeInfo = ecs_component_desc_t.type(componentDesc);
+                ecs_type_info_t.size(typeInfo, Long.BYTES);
+                ecs_type_info_t.alignment(typeInfo, Long.BYTES);
+
+                componentId = flecs_h.ecs_component_init(this.world.worldSeg(), componentDesc);
+                if (componentId == 0) {
+                    throw new IllegalStateException("Failed to register object component: " + symbol);
+                }
+                this.objects().install(componentId);
+            }
+
+            this.componentIds.put(objectClass, componentId);
+            this.componentClasses.put(componentId, objectClass);
+            return componentId;
+        }
+    }
+
+    // Dynamic components are keyed by name: without a class, the name is the only identity shared across registrations.
+    protected DynamicComponent registerDynamic(String name, MemoryLayout layout) {
+        DynamicComponent existing = this.dynamicComponents.get(name);
+        if (existing != null) {
+            if (!existing.layout().equals(layout)) {
+                throw new IllegalArgumentException("Dynamic component " + name + " is already registered with a different layout");
+            }
+            return existing;
+        }
+
+        DynamicComponent component = new DynamicComponent(name, layout);
+        try (Arena tempArena = Arena.ofConfined()) {
+            MemorySegment symbolSegment = tempArena.allocateFrom(name);
+
+            long componentId = flecs_h.ecs_lookup_symbol(this.world.worldSeg(), symbolSegment, false, false);
+            if (componentId == 0) {
+                MemorySegment entityDesc = ecs_entity_desc_t.allocate(tempArena);
+                ecs_entity_desc_t.name(entityDesc, symbolSegment);
+                ecs_entity_desc_t.symbol(entityDesc, symbolSegment);
+                ecs_entity_desc_t.parent(entityDesc, flecs_h.ecs_get_scope(this.world.worldSeg()));
+
+                MemorySegment componentDesc = ecs_component_desc_t.allocate(tempArena);
+                ecs_component_desc_t.entity(componentDesc, flecs_h.ecs_entity_init(this.world.worldSeg(), entityDesc));
+                MemorySegment typeInfo = ecs_component_desc_t.type(componentDesc);
+                ecs_type_info_t.size(typeInfo, component.tag() ? 0 : (int) component.size());
+                ecs_type_info_t.alignment(typeInfo, component.tag() ? 0 : (int) component.alignment());
+
+                componentId = flecs_h.ecs_component_init(this.world.worldSeg(), componentDesc);
+                if (componentId == 0) {
+                    throw new IllegalStateException("Failed to register dynamic component: " + name);
+                }
+                this.registerMembers(tempArena, componentId, component.members());
+            }
+
+            component.id(componentId);
+            this.components.put(componentId, component);
+            this.dynamicComponents.put(name, component);
+            return component;
+        }
+    }
+
+    protected ObjectStore objects() {
+        if (this.objects == null) {
+            this.objects = new ObjectStore(this.world);
+        }
+        return this.objects;
+    }
+
+    // Describing the members lets flecs serialize the component natively (JSON, REST, scripts). Larger components stay
+    // undescribed, which the annotation processor warns about at compile time.
+    private void registerMembers(Arena tempArena, long componentId, List<ComponentMember> members) {
+        if (members.isEmpty() || members.size() > flecs_h.ECS_MEMBER_DESC_CACHE_SIZE()) {
+            return;
+        }
+
+        MemorySegment structDesc = ecs_struct_desc_t.allocate(tempArena);
+        ecs_struct_desc_t.entity(structDesc, componentId);
+        for (int i = 0; i < members.size(); i++) {
+            ComponentMember member = members.get(i);
+            MemorySegment memberSeg = ecs_struct_desc_t.members(structDesc, i);
+            ecs_member_t.name(memberSeg, tempArena.allocateFrom(member.name()));
+            ecs_member_t.type(memberSeg, member.kind().typeId());
+            ecs_member_t.count(memberSeg, member.count());
+            ecs_member_t.offset(memberSeg, (int) member.offset());
+            ecs_member_t.use_offset(memberSeg, true);
+        }
+
+        if (flecs_h.ecs_struct_init(this.world.worldSeg(), structDesc) == 0) {
+            throw new IllegalStateException("Failed to register members of component: " + componentId);
+        }
+    }
+
+    // One hidden child component per field; (With, column) on the tag makes adding the tag add every column at once.
+    private ComponentColumns registerColumns(Arena tempArena, long componentId, String symbol, Component<?> component) {
+        List<MemoryLayout> fields = new ArrayList<>();
+        for (MemoryLayout memberLayout : ((StructLayout) component.layout()).memberLayouts()) {
+            if (!(memberLayout instanceof PaddingLayout)) {
+                fields.add(memberLayout);
+            }
+        }
+
+        long[] ids = new long[fields.size()];
+        long[] offsets = new long[fields.size()];
+        long[] sizes = new long[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            MemoryLayout field = fields.get(i);
+            String name = field.name().orElseThrow();
+            MemorySegment symbolSegment = tempArena.allocateFrom(symbol + "." + name);
+
+            long columnId = flecs_h.ecs_lookup_symbol(this.world.worldSeg(), symbolSegment, false, false);
+            if (columnId == 0) {
+                MemorySegment entityDesc = ecs_entity_desc_t.allocate(tempArena);
+                ecs_entity_desc_t.name(entityDesc, tempArena.allocateFrom(name));
+                ecs_entity_desc_t.symbol(entityDesc, symbolSegment);
+                ecs_entity_desc_t.parent(entityDesc, componentId);
+
+                MemorySegment componentDesc = ecs_component_desc_t.allocate(tempArena);
+                ecs_component_desc_t.entity(componentDesc, flecs_h.ecs_entity_init(this.world.worldSeg(), entityDesc));
+                MemorySegment typeInfo = ecs_component_desc_t.type(componentDesc);
+                ecs_type_info_t.size(typeInfo, (int) field.byteSize());
+                ecs_type_info_t.alignment(typeInfo, (int) field.byteAlignment());
+
+                columnId = flecs_h.ecs_component_init(this.world.worldSeg(), componentDesc);
+                if (columnId == 0) {
+                    throw new IllegalStateException("Failed to register column " + name + " of component: " + symbol);
+                }
+                flecs_h.ecs_add_id(this.world.worldSeg(), componentId, flecs_h.ecs_make_pair(Flecs.With, columnId));
+            }
+
+            ids[i] = columnId;
+            offsets[i] = component.layout().byteOffset(MemoryLayout.PathElement.groupElement(name));
+            sizes[i] = field.byteSize();
+        }
+        return new ComponentColumns(ids, offsets, sizes);
+    }
+
+    protected ComponentColumns getColumns(long componentId) {
+        ComponentColumns componentColumns = this.columns.get(componentId);
+        if (componentColumns == null) {
+            throw new IllegalArgumentException("Component is not stored per column: " + componentId);
+        }
+        return componentColumns;
+    }
+
+    // Counts the events that may free tables (empty table cleanup, component deletion), for callers caching table pointers.
+    protected long tableGeneration() {
+        return this.tableGeneration;
+    }
+
+    protected void bumpTableGeneration() {
+        this.tableGeneration++;
+    }
+
+    protected boolean isColumns(long componentId) {
+        return this.columns.containsKey(componentId);
+    }
+
+    // The SOA tag has no storage, so flecs callbacks that receive one pointer per component (hooks, order_by) never see its data.
+    protected void checkNotColumns(Class<?> componentClass, String api) {
+        Component<?> component = this.getComponent(componentClass);
+        if (component != null && component.soa()) {
+            throw new IllegalArgumentException(api + " is not supported for SOA component " + componentClass.getName() + ", its fields are stored in separate columns");
+        }
+    }
+
     protected <T> long getComponentId(Class<T> componentClass) {
-        long id = this.componentIds.get(componentClass);
+        int index = ComponentMap.getIndex(componentClass);
+        long id = index >= 0 ? this.indexedIds[index] : this.componentIds.get(componentClass);
 
         if (id <= 0) {
             throw new IllegalArgumentException("Component not registered: " + componentClass.getName());
@@ -82,6 +310,19 @@ public class ComponentRegistry {
         return id;
     }
 
+    protected long getComponentId(int index) {
+        if (index < 0 || index >= this.indexedIds.length) {
+            throw new IndexOutOfBoundsException("Invalid component index: " + index);
+        }
+
+        long id = this.indexedIds[index];
+        if (id == 0) {
+            throw new IllegalArgumentException("Component not registered for index: " + index);
+        }
+
+        return id;
+    }
+
     protected <T> Component<T> getComponent(Class<T> componentClass) {
         return ComponentMap.getInstance(componentClass);
     }
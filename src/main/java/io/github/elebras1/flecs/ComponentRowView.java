@@ -5,6 +5,10 @@ import java.lang.foreign.MemorySegment;
 public interface ComponentRowView {
     void setSegment(MemorySegment segment);
 
+    default void setColumn(int column, MemorySegment segment) {
+        throw new UnsupportedOperationException("Component is not stored per column");
+    }
+
     void setCount(int count);
 
     MemorySegment segment();
@@ -1,5 +1,15 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
+
 public interface ComponentView {
     void setBaseAddress(long baseAddress);
+
+    // Views of components with @VarString or @Blob fields write their blocks through the allocator of their world.
+    default void setBlobAllocator(BlobAllocator blobAllocator) {
+    }
+
+    default void setColumnAddress(int column, long address) {
+        throw new UnsupportedOperationException("Component is not stored per column");
+    }
 }
@@ -0,0 +1,134 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.PaddingLayout;
+import java.lang.foreign.SequenceLayout;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+// A component defined at runtime from a layout. Its data is exposed as slices of the component storage,
+// and field access goes through var handles derived from the layout, as the generated views do with offsets.
+public final class DynamicComponent implements Component<MemorySegment> {
+
+    private final String name;
+    private final MemoryLayout layout;
+    private final List<ComponentMember> members;
+    private long id;
+
+    DynamicComponent(String name, MemoryLayout layout) {
+        this.name = name;
+        this.layout = layout;
+        this.members = describe(layout);
+    }
+
+    void id(long id) {
+        this.id = id;
+    }
+
+    public long id() {
+        return this.id;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public MemoryLayout layout() {
+        return this.layout;
+    }
+
+    @Override
+    public List<ComponentMember> members() {
+        return this.members;
+    }
+
+    @Override
+    public boolean tag() {
+        return this.layout.byteSize() == 0;
+    }
+
+    // Coordinates are (MemorySegment, long offset); with World.WHOLE_MEMORY the offset is the absolute address of the component.
+    public VarHandle varHandle(String... path) {
+        return this.layout.varHandle(groupPath(path));
+    }
+
+    public long offset(String... path) {
+        return this.layout.byteOffset(groupPath(path));
+    }
+
+    @Override
+    public void write(MemorySegment segment, long offset, MemorySegment data) {
+        MemorySegment.copy(data, 0, World.WHOLE_MEMORY, segment.address() + offset, this.layout.byteSize());
+    }
+
+    // The slice aliases the storage: it stays valid until the entity changes tables.
+    @Override
+    public MemorySegment read(MemorySegment segment, long offset) {
+        return World.WHOLE_MEMORY.asSlice(segment.address() + offset, this.layout.byteSize());
+    }
+
+    @Override
+    public MemorySegment[] createArray(int size) {
+        return new MemorySegment[size];
+    }
+
+    private static MemoryLayout.PathElement[] groupPath(String... path) {
+        MemoryLayout.PathElement[] elements = new MemoryLayout.PathElement[path.length];
+        for (int i = 0; i < path.length; i++) {
+            elements[i] = MemoryLayout.PathElement.groupElement(path[i]);
+        }
+        return elements;
+    }
+
+    // Only flat structs of named primitives are described; a partial description would disagree with the component size.
+    private static List<ComponentMember> describe(MemoryLayout layout) {
+        if (!(layout instanceof StructLayout structLayout)) {
+            return List.of();
+        }
+        List<ComponentMember> members = new ArrayList<>();
+        long offset = 0;
+        for (MemoryLayout element : structLayout.memberLayouts()) {
+            if (!(element instanceof PaddingLayout)) {
+                MemoryLayout valueLayout = element;
+                int count = 0;
+                if (element instanceof SequenceLayout sequenceLayout) {
+                    valueLayout = sequenceLayout.elementLayout();
+                    count = (int) sequenceLayout.elementCount();
+                }
+                ComponentMember.Kind kind = valueLayout instanceof ValueLayout value ? kind(value.carrier()) : null;
+                if (kind == null || element.name().isEmpty()) {
+                    return List.of();
+                }
+                members.add(new ComponentMember(element.name().get(), kind, offset, count));
+            }
+            offset += element.byteSize();
+        }
+        return List.copyOf(members);
+    }
+
+    private static ComponentMember.Kind kind(Class<?> carrier) {
+        if (carrier == boolean.class) {
+            return ComponentMember.Kind.BOOL;
+        } else if (carrier == byte.class) {
+            return ComponentMember.Kind.I8;
+        } else if (carrier == short.class) {
+            return ComponentMember.Kind.I16;
+        } else if (carrier == char.class) {
+            return ComponentMember.Kind.U16;
+        } else if (carrier == int.class) {
+            return ComponentMember.Kind.I32;
+        } else if (carrier == long.class) {
+            return ComponentMember.Kind.I64;
+        } else if (carrier == float.class) {
+            return ComponentMember.Kind.F32;
+        } else if (carrier == double.class) {
+            return ComponentMember.Kind.F64;
+        }
+        return null;
+    }
+}
@@ -2,10 +2,14 @@ package io.github.elebras1.flecs;
 
 import io.github.elebras1.flecs.callback.EntityCallback;
 import io.github.elebras1.flecs.util.Flecs;
+import io.github.elebras1.flecs.util.internal.buffer.EventDescBuffer;
 
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
 import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
@@ -65,6 +69,12 @@ public class Entity extends Id {
 
     public <T> Entity remove(Class<T> componentClass) {
         long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        Component<T> component = this.world.componentRegistry().getComponent(componentClass);
+        if (component != null && component.soa()) {
+            for (long columnId : this.world.componentRegistry().getColumns(componentId).ids()) {
+                this.remove(columnId);
+            }
+        }
         return this.remove(componentId);
     }
 
@@ -89,6 +99,21 @@ public class Entity extends Id {
         return this.remove(firstId, secondId);
     }
 
+    public Entity addAll(long... ids) {
+        this.world.entityInit(this.id, ids, World.NO_COMPONENTS);
+        return this;
+    }
+
+    public Entity addAll(Class<?>... componentClasses) {
+        this.world.entityInit(this.id, this.world.componentIds(componentClasses), World.NO_COMPONENTS);
+        return this;
+    }
+
+    public Entity setAll(Object... components) {
+        this.world.entityInit(this.id, World.NO_IDS, components);
+        return this;
+    }
+
     public boolean has(long componentId) {
         return flecs_h.ecs_has_id(this.world.worldSeg(), this.id, componentId);
     }
@@ -124,10 +149,8 @@ public class Entity extends Id {
     }
 
     public Entity name(String name) {
-        try (Arena tempArena = Arena.ofConfined()) {
-            MemorySegment nameSeg = tempArena.allocateFrom(name);
-            flecs_h.ecs_set_name(this.world.worldSeg(), this.id, nameSeg);
-        }
+        MemorySegment nameSeg = this.world.getStringBuffer(name);
+        flecs_h.ecs_set_name(this.world.worldSeg(), this.id, nameSeg);
         return this;
     }
 
@@ -217,17 +240,94 @@ public class Entity extends Id {
         Class<T> componentClass = (Class<T>) data.getClass();
         long componentId = this.world.componentRegistry().getComponentId(componentClass);
         Component<T> component = this.world.componentRegistry().getComponent(componentClass);
+        if (component.tag()) {
+            return this.add(componentId);
+        }
+
+        if (component.blobOffsets().length > 0) {
+            return this.setInPlace(componentId, component, data);
+        }
 
         MemorySegment dataSeg = this.world.getComponentBuffer(component.size());
         component.write(dataSeg, 0, data);
+        if (component.soa()) {
+            return this.setColumns(componentId, dataSeg);
+        }
         flecs_h.ecs_set_id(this.world.worldSeg(), this.id, componentId, component.size(), dataSeg);
 
         return this;
     }
 
+    // Writing through a scratch buffer would allocate every blob twice, once for the buffer and once in the copy hook.
+    private <T> Entity setInPlace(long id, Component<T> component, T data) {
+        MemorySegment dataSeg = flecs_h.ecs_ensure_id(this.world.worldSeg(), this.id, id, component.size());
+        component.write(World.WHOLE_MEMORY, dataSeg.address(), data, this.world.blobAllocator());
+        flecs_h.ecs_modified_id(this.world.worldSeg(), this.id, id);
+        return this;
+    }
+
+    // Replacing the object keeps the slot, so the handle stored in the table does not change.
+    public <T> Entity setObject(Class<T> objectClass, T object) {
+        long componentId = this.world.componentRegistry().getComponentId(objectClass);
+        ObjectStore objects = this.world.componentRegistry().objects();
+        MemorySegment handleSeg = flecs_h.ecs_ensure_id(this.world.worldSeg(), this.id, componentId, Long.BYTES).reinterpret(Long.BYTES);
+        long handle = handleSeg.get(ValueLayout.JAVA_LONG, 0);
+        if (!objects.replace(handle, object)) {
+            handleSeg.set(ValueLayout.JAVA_LONG, 0, objects.put(object));
+        }
+        flecs_h.ecs_modified_id(this.world.worldSeg(), this.id, componentId);
+        return this;
+    }
+
+    public <T> T getObject(Class<T> objectClass) {
+        long componentId = this.world.componentRegistry().getComponentId(objectClass);
+        long address = flecs_h.ecs_get_id(this.world.worldSeg(), this.id, componentId);
+        if (address == 0) {
+            return null;
+        }
+        long handle = World.WHOLE_MEMORY.get(ValueLayout.JAVA_LONG, address);
+        return objectClass.cast(this.world.componentRegistry().objects().get(handle));
+    }
+
+    public Entity set(DynamicComponent component, MemorySegment data) {
+        MemorySegment dataSeg = flecs_h.ecs_ensure_id(this.world.worldSeg(), this.id, component.id(), component.size());
+        component.write(dataSeg, 0, data);
+        flecs_h.ecs_modified_id(this.world.worldSeg(), this.id, component.id());
+        return this;
+    }
+
+    public Entity insert(DynamicComponent component, Consumer<MemorySegment> consumer) {
+        MemorySegment dataSeg = flecs_h.ecs_ensure_id(this.world.worldSeg(), this.id, component.id(), component.size());
+        consumer.accept(component.read(dataSeg, 0));
+        flecs_h.ecs_modified_id(this.world.worldSeg(), this.id, component.id());
+        return this;
+    }
+
+    public MemorySegment get(DynamicComponent component) {
+        long address = flecs_h.ecs_get_id(this.world.worldSeg(), this.id, component.id());
+        if (address == 0) {
+            return null;
+        }
+        return component.read(World.WHOLE_MEMORY, address);
+    }
+
+    // Adding the tag first pulls in every column through (With, column), so the entity moves tables only once.
+    private Entity setColumns(long componentId, MemorySegment dataSeg) {
+        ComponentColumns columns = this.world.componentRegistry().getColumns(componentId);
+        flecs_h.ecs_add_id(this.world.worldSeg(), this.id, componentId);
+        for (int i = 0; i < columns.count(); i++) {
+            long size = columns.sizes()[i];
+            flecs_h.ecs_set_id(this.world.worldSeg(), this.id, columns.ids()[i], size, dataSeg.asSlice(columns.offsets()[i], size));
+        }
+        return this;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends ComponentView> Entity insert(Class<?> componentClass, Consumer<T> consumer) {
         long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        if (this.world.componentRegistry().getComponent(componentClass).soa()) {
+            return this.insertColumns(componentClass, componentId, consumer);
+        }
         long size = this.world.componentRegistry().getComponent(componentClass).size();
 
         MemorySegment dataSeg = flecs_h.ecs_ensure_id(this.world.worldSeg(), this.id, componentId, size);
@@ -240,6 +340,24 @@ public class Entity extends Id {
         return this;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends ComponentView> Entity insertColumns(Class<?> componentClass, long componentId, Consumer<T> consumer) {
+        ComponentColumns columns = this.world.componentRegistry().getColumns(componentId);
+        flecs_h.ecs_add_id(this.world.worldSeg(), this.id, componentId);
+
+        T view = (T) this.world.viewCache().getComponentView(componentClass);
+        for (int i = 0; i < columns.count(); i++) {
+            MemorySegment columnSeg = flecs_h.ecs_ensure_id(this.world.worldSeg(), this.id, columns.ids()[i], columns.sizes()[i]);
+            view.setColumnAddress(i, columnSeg.address());
+        }
+        consumer.accept(view);
+
+        for (long columnId : columns.ids()) {
+            flecs_h.ecs_modified_id(this.world.worldSeg(), this.id, columnId);
+        }
+        return this;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> Entity set(T data, long target) {
         Class<T> componentClass = (Class<T>) data.getClass();
@@ -248,6 +366,9 @@ public class Entity extends Id {
         long pairId = flecs_h.ecs_make_pair(componentId, target);
 
         Component<T> component = this.world.componentRegistry().getComponent(componentClass);
+        if (component.blobOffsets().length > 0) {
+            return this.setInPlace(pairId, component, data);
+        }
         MemorySegment dataSeg = this.world.getComponentBuffer(component.size());
         component.write(dataSeg, 0, data);
 
@@ -288,6 +409,9 @@ public class Entity extends Id {
 
     public <T> T get(long componentId) {
         Component<T> component = this.world.componentRegistry().getComponentById(componentId);
+        if (component.soa()) {
+            return this.getColumns(componentId, component);
+        }
         long address = flecs_h.ecs_get_id(this.world.worldSeg(), this.id, componentId);
 
         if (address == 0) {
@@ -299,6 +423,23 @@ public class Entity extends Id {
         return component.read(dataSeg, 0);
     }
 
+    private <T> T getColumns(long componentId, Component<T> component) {
+        if (!flecs_h.ecs_has_id(this.world.worldSeg(), this.id, componentId)) {
+            return null;
+        }
+
+        ComponentColumns columns = this.world.componentRegistry().getColumns(componentId);
+        MemorySegment dataSeg = this.world.getComponentBuffer(component.size());
+        for (int i = 0; i < columns.count(); i++) {
+            long address = flecs_h.ecs_get_id(this.world.worldSeg(), this.id, columns.ids()[i]);
+            if (address == 0) {
+                return null;
+            }
+            MemorySegment.copy(World.WHOLE_MEMORY, address, dataSeg, columns.offsets()[i], columns.sizes()[i]);
+        }
+        return component.read(dataSeg, 0);
+    }
+
     public <T> T get(Class<T> componentClass) {
         long componentId = this.world.componentRegistry().getComponentId(componentClass);
         return this.get(componentId);
@@ -364,6 +505,17 @@ public class Entity extends Id {
         ComponentView view = this.world.viewCache().getComponentView(componentClass);
         long componentId = this.world.componentRegistry().getComponentId(componentClass);
 
+        if (this.world.componentRegistry().getComponent(componentClass).soa()) {
+            if (!flecs_h.ecs_has_id(this.world.worldSeg(), this.id, componentId)) {
+                return null;
+            }
+            ComponentColumns columns = this.world.componentRegistry().getColumns(componentId);
+            for (int i = 0; i < columns.count(); i++) {
+                view.setColumnAddress(i, flecs_h.ecs_get_mut_id(this.world.worldSeg(), this.id, columns.ids()[i]));
+            }
+            return (T) view;
+        }
+
         long address = flecs_h.ecs_get_mut_id(this.world.worldSeg(), this.id, componentId);
 
         if (address == 0) {
@@ -394,6 +546,21 @@ public class Entity extends Id {
         return (T) view;
     }
 
+    public <T> ComponentRef<T> ref(Class<T> componentClass) {
+        long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        return new ComponentRef<>(this.world, this.id, componentClass, componentId);
+    }
+
+    public <T> ComponentRef<T> ref(Class<T> componentClass, long target) {
+        Component<T> component = this.world.componentRegistry().getComponent(componentClass);
+        if (component != null && component.soa()) {
+            throw new IllegalArgumentException("SOA components cannot be referenced as a pair: " + componentClass.getName());
+        }
+        long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        long pairId = flecs_h.ecs_make_pair(componentId, target);
+        return new ComponentRef<>(this.world, this.id, componentClass, pairId);
+    }
+
     public void enable() {
         flecs_h.ecs_enable(this.world.worldSeg(), this.id, true);
     }
@@ -405,66 +572,102 @@ public class Entity extends Id {
     public FlecsObserver observe(long eventId, Runnable callback) {
         return this.world.observer()
                 .event(eventId)
-                .with(Flecs.Any)
-                .each((entityId) -> {
-                    if (entityId == this.id) {
-                        callback.run();
+                .with(Flecs.Any).src(this.id)
+                .iter((it) -> callback.run());
+    }
+
+    public <T> FlecsObserver observe(Class<T> eventClass, Consumer<T> callback) {
+        long eventId = this.world.componentRegistry().getComponentId(eventClass);
+        return this.world.observer()
+                .event(eventId)
+                .with(Flecs.Any).src(this.id)
+                .iter((it) -> {
+                    T eventData = it.param(eventClass);
+                    if (eventData == null) {
+                        eventData = this.get(eventClass);
+                    }
+                    if (eventData != null) {
+                        callback.accept(eventData);
                     }
                 });
     }
 
-    public <T> FlecsObserver observe(Class<T> eventClass, Consumer<T> callback) {
+    public <V extends ComponentView> FlecsObserver observeView(Class<?> eventClass, Consumer<V> callback) {
         long eventId = this.world.componentRegistry().getComponentId(eventClass);
         return this.world.observer()
                 .event(eventId)
-                .with(Flecs.Any)
+                .with(Flecs.Any).src(this.id)
                 .iter((it) -> {
-                    for (int i = 0; i < it.count(); i++) {
-                        if (it.entityId(i) == this.id) {
-                            T eventData = this.get(eventClass);
-                            if (eventData != null) {
-                                callback.accept(eventData);
-                            }
-                        }
+                    V eventView = it.paramView(eventClass);
+                    if (eventView != null) {
+                        callback.accept(eventView);
                     }
                 });
     }
 
     public void emit(long eventId) {
-        try (Arena tempArena = Arena.ofConfined()) {
-            MemorySegment eventDescSeg = ecs_event_desc_t.allocate(tempArena);
+        this.dispatch(eventId, 0, null, null, false);
+    }
 
-            ecs_event_desc_t.event(eventDescSeg, eventId);
-            ecs_event_desc_t.entity(eventDescSeg, this.id);
+    public void emit(long eventId, long componentId) {
+        this.dispatch(eventId, componentId, null, null, false);
+    }
 
-            flecs_h.ecs_emit(this.world.worldSeg(), eventDescSeg);
-        }
+    public <T> void emit(long eventId, Class<T> componentClass) {
+        long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        this.emit(eventId, componentId);
     }
 
-    public void emit(long eventId, long componentId) {
-        try (Arena tempArena = Arena.ofConfined()) {
-            MemorySegment eventDescSeg = ecs_event_desc_t.allocate(tempArena);
+    @SuppressWarnings("unchecked")
+    public <T> void emit(T event) {
+        Class<T> eventClass = (Class<T>) event.getClass();
+        long eventId = this.world.componentRegistry().getComponentId(eventClass);
+        this.dispatch(eventId, 0, this.world.componentRegistry().getComponent(eventClass), event, false);
+    }
 
-            MemorySegment typeSeg = ecs_type_t.allocate(tempArena);
-            MemorySegment idsArraySeg = tempArena.allocate(ValueLayout.JAVA_LONG);
-            idsArraySeg.set(ValueLayout.JAVA_LONG, 0, componentId);
+    public void enqueue(long eventId) {
+        this.dispatch(eventId, 0, null, null, true);
+    }
 
-            ecs_type_t.array(typeSeg, idsArraySeg);
-            ecs_type_t.count(typeSeg, 1);
+    @SuppressWarnings("unchecked")
+    public <T> void enqueue(T event) {
+        Class<T> eventClass = (Class<T>) event.getClass();
+        long eventId = this.world.componentRegistry().getComponentId(eventClass);
+        this.dispatch(eventId, 0, this.world.componentRegistry().getComponent(eventClass), event, true);
+    }
 
+    private <T> void dispatch(long eventId, long componentId, Component<T> component, T payload, boolean enqueue) {
+        EventDescBuffer buffer = this.world.getEventDescBuffer();
+        MemorySegment eventDescSeg = buffer.push();
+        try {
             ecs_event_desc_t.event(eventDescSeg, eventId);
             ecs_event_desc_t.entity(eventDescSeg, this.id);
-            ecs_event_desc_t.ids(eventDescSeg, typeSeg);
+            if (componentId != 0) {
+                ecs_event_desc_t.ids(eventDescSeg, buffer.ids(componentId));
+            }
+            MemorySegment payloadSeg = MemorySegment.NULL;
+            if (component != null) {
+                if (enqueue && component.blobOffsets().length > 0) {
+                    throw new IllegalArgumentException("Events with @VarString or @Blob fields cannot be enqueued: " + payload.getClass().getName());
+                }
+                payloadSeg = buffer.payload(component.size());
+                component.write(payloadSeg, 0, payload, this.world.blobAllocator());
+                ecs_event_desc_t.param(eventDescSeg, payloadSeg);
+            }
 
-            flecs_h.ecs_emit(this.world.worldSeg(), eventDescSeg);
+            if (enqueue) {
+                flecs_h.ecs_enqueue(this.world.worldSeg(), eventDescSeg);
+            } else {
+                flecs_h.ecs_emit(this.world.worldSeg(), eventDescSeg);
+                if (component != null) {
+                    this.world.releaseBlobs(component, payloadSeg, 0);
+                }
+            }
+        } finally {
+            buffer.pop();
         }
     }
 
-    public <T> void emit(long eventId, Class<T> componentClass) {
-        long componentId = this.world.componentRegistry().getComponentId(componentClass);
-        this.emit(eventId, componentId);
-    }
-
     public long target(long relationId, int index) {
         return flecs_h.ecs_get_target(this.world.worldSeg(), this.id, relationId, index);
     }
@@ -544,12 +747,7 @@ public class Entity extends Id {
     }
 
     public long lookup(String path, boolean recursive) {
-        try (Arena tempArena = Arena.ofConfined()) {
-            MemorySegment pathSeg = tempArena.allocateFrom(path);
-            MemorySegment sepSeg = tempArena.allocateFrom("::");
-            MemorySegment rootSepSeg = tempArena.allocateFrom("::");
-            return flecs_h.ecs_lookup_path_w_sep(this.world.worldSeg(), this.id, pathSeg, sepSeg, rootSepSeg, recursive);
-        }
+        return this.world.lookup(this.id, path, recursive);
     }
 
     public void children(EntityCallback callback) {
@@ -587,6 +785,85 @@ public class Entity extends Id {
         }
     }
 
+    public int childCount() {
+        return flecs_h.ecs_count_id(this.world.worldSeg(), flecs_h.ecs_make_pair(Flecs.ChildOf, this.id));
+    }
+
+    public int childrenInto(MemorySegment dst) {
+        return this.childrenInto(dst, ByteOrder.nativeOrder());
+    }
+
+    public int childrenInto(LongBuffer dst) {
+        int total = this.childrenInto(MemorySegment.ofBuffer(dst), dst.order());
+        dst.position(dst.position() + Math.min(total, dst.remaining()));
+        return total;
+    }
+
+    // Returns the total number of children; a result larger than the buffer capacity means the copy was truncated.
+    private int childrenInto(MemorySegment dst, ByteOrder order) {
+        long capacity = dst.byteSize() / Long.BYTES;
+        int total = 0;
+        try (Arena tempArena = Arena.ofConfined()) {
+            MemorySegment iterSeg = flecs_h.ecs_children(tempArena, this.world.worldSeg(), this.id);
+
+            while (flecs_h.ecs_children_next(iterSeg)) {
+                int iterCount = ecs_iter_t.count(iterSeg);
+                int count = (int) Math.max(0, Math.min(iterCount, capacity - total));
+                if (count > 0) {
+                    MemorySegment entitiesSeg = ecs_iter_t.entities(iterSeg).reinterpret((long) count * Long.BYTES);
+                    MemorySegment.copy(entitiesSeg, ValueLayout.JAVA_LONG, 0, dst, ValueLayout.JAVA_LONG_UNALIGNED.withOrder(order), (long) total * Long.BYTES, count);
+                }
+                total += iterCount;
+            }
+        }
+        return total;
+    }
+
+    public EntityIdBuffer descendants(boolean depthFirst) {
+        return this.descendants(new EntityIdBuffer(), depthFirst);
+    }
+
+    public EntityIdBuffer descendants(EntityIdBuffer dst, boolean depthFirst) {
+        dst.clear();
+        try (Arena tempArena = Arena.ofConfined()) {
+            SegmentAllocator iterAllocator = SegmentAllocator.prefixAllocator(tempArena.allocate(ecs_iter_t.layout()));
+            if (depthFirst) {
+                this.appendDescendants(iterAllocator, dst);
+            } else {
+                this.appendChildren(iterAllocator, this.id, dst);
+                for (int head = 0; head < dst.size(); head++) {
+                    this.appendChildren(iterAllocator, dst.get(head), dst);
+                }
+            }
+        }
+        return dst;
+    }
+
+    private void appendChildren(SegmentAllocator iterAllocator, long parentId, EntityIdBuffer dst) {
+        MemorySegment iterSeg = flecs_h.ecs_children(iterAllocator, this.world.worldSeg(), parentId);
+        while (flecs_h.ecs_children_next(iterSeg)) {
+            int count = ecs_iter_t.count(iterSeg);
+            if (count > 0) {
+                dst.addAll(ecs_iter_t.entities(iterSeg).reinterpret((long) count * Long.BYTES), count);
+            }
+        }
+    }
+
+    // An explicit stack keeps deep chains off the Java stack; children are reversed so they pop in iteration order.
+    private void appendDescendants(SegmentAllocator iterAllocator, EntityIdBuffer dst) {
+        try (EntityIdBuffer stack = new EntityIdBuffer()) {
+            this.appendChildren(iterAllocator, this.id, stack);
+            stack.reverse(0);
+            while (!stack.isEmpty()) {
+                long entityId = stack.removeLast();
+                dst.add(entityId);
+                int mark = stack.size();
+                this.appendChildren(iterAllocator, entityId, stack);
+                stack.reverse(mark);
+            }
+        }
+    }
+
     public Type type() {
         MemorySegment typeSeg = flecs_h.ecs_get_type(this.world.worldSeg(), this.id);
         return new Type(this.world, typeSeg);
@@ -0,0 +1,96 @@
+package io.github.elebras1.flecs;
+
+import io.github.elebras1.flecs.util.internal.FlecsAllocator;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+public final class EntityIdBuffer implements AutoCloseable {
+    private MemorySegment segment;
+    private int capacity;
+    private int size;
+
+    public EntityIdBuffer() {
+        this(64);
+    }
+
+    public EntityIdBuffer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        this.capacity = initialCapacity;
+        this.segment = FlecsAllocator.malloc((long) initialCapacity * Long.BYTES);
+        this.size = 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+        return this.segment.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    public MemorySegment segment() {
+        return this.segment.asSlice(0, (long) this.size * Long.BYTES);
+    }
+
+    public long[] toArray() {
+        return this.segment().toArray(ValueLayout.JAVA_LONG);
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    void add(long entityId) {
+        this.ensure(this.size + 1);
+        this.segment.setAtIndex(ValueLayout.JAVA_LONG, this.size++, entityId);
+    }
+
+    void addAll(MemorySegment entitiesSeg, int count) {
+        this.ensure(this.size + count);
+        MemorySegment.copy(entitiesSeg, 0, this.segment, (long) this.size * Long.BYTES, (long) count * Long.BYTES);
+        this.size += count;
+    }
+
+    long removeLast() {
+        return this.segment.getAtIndex(ValueLayout.JAVA_LONG, --this.size);
+    }
+
+    void reverse(int fromIndex) {
+        for (int i = fromIndex, j = this.size - 1; i < j; i++, j--) {
+            long id = this.segment.getAtIndex(ValueLayout.JAVA_LONG, i);
+            this.segment.setAtIndex(ValueLayout.JAVA_LONG, i, this.segment.getAtIndex(ValueLayout.JAVA_LONG, j));
+            this.segment.setAtIndex(ValueLayout.JAVA_LONG, j, id);
+        }
+    }
+
+    private void ensure(int needed) {
+        if (needed > this.capacity) {
+            int newCapacity = Math.max(needed, this.capacity * 2);
+            MemorySegment newSeg = FlecsAllocator.malloc((long) newCapacity * Long.BYTES);
+            MemorySegment.copy(this.segment, 0, newSeg, 0, (long) this.size * Long.BYTES);
+            FlecsAllocator.free(this.segment);
+            this.segment = newSeg;
+            this.capacity = newCapacity;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.segment != null && this.segment.address() != 0) {
+            FlecsAllocator.free(this.segment);
+            this.segment = MemorySegment.NULL;
+            this.capacity = 0;
+            this.size = 0;
+        }
+    }
+}
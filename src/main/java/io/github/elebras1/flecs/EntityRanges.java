@@ -0,0 +1,155 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class EntityRanges implements AutoCloseable {
+
+    private final int rangeSize;
+    private final int limit;
+    private final AtomicInteger cursor;
+    private final Allocator[] stageAllocators;
+    private final List<Allocator> asyncAllocators;
+
+    EntityRanges(World world, int min, int rangeSize, int limit) {
+        if (min <= 0 || rangeSize <= 0 || limit <= min) {
+            throw new IllegalArgumentException("Invalid entity ranges: min " + min + ", range size " + rangeSize + ", limit " + limit);
+        }
+        this.rangeSize = rangeSize;
+        this.limit = limit;
+        this.cursor = new AtomicInteger(min);
+        // Allocators, and the stages they wrap, are created here on the calling thread so workers only ever read the table.
+        // The table follows the stage count at this point, so ranges must be recreated after setStageCount.
+        this.stageAllocators = new Allocator[world.getStageCount()];
+        for (int i = 0; i < this.stageAllocators.length; i++) {
+            this.stageAllocators[i] = new Allocator(world.getStage(i));
+        }
+        this.asyncAllocators = new ArrayList<>();
+    }
+
+    public int rangeSize() {
+        return this.rangeSize;
+    }
+
+    public Allocator allocator(int stageId) {
+        if (stageId < 0 || stageId >= this.stageAllocators.length) {
+            throw new IllegalArgumentException("Invalid stage ID: " + stageId);
+        }
+        return this.stageAllocators[stageId];
+    }
+
+    public Allocator allocator(World asyncStage) {
+        Allocator allocator = new Allocator(asyncStage);
+        synchronized (this.asyncAllocators) {
+            this.asyncAllocators.add(allocator);
+        }
+        return allocator;
+    }
+
+    public void prepare() {
+        for (Allocator allocator : this.stageAllocators) {
+            allocator.ensure();
+        }
+    }
+
+    private int reserve() {
+        int min = this.cursor.getAndAdd(this.rangeSize);
+        if (min < 0 || min >= this.limit) {
+            throw new IllegalStateException("Entity id space exhausted: limit " + this.limit);
+        }
+        return min;
+    }
+
+    @Override
+    public void close() {
+        for (Allocator allocator : this.stageAllocators) {
+            allocator.release();
+        }
+        synchronized (this.asyncAllocators) {
+            for (Allocator allocator : this.asyncAllocators) {
+                allocator.release();
+            }
+            this.asyncAllocators.clear();
+        }
+    }
+
+    public final class Allocator {
+
+        private final World stage;
+        private final List<MemorySegment> exhausted;
+        private MemorySegment rangeSeg;
+
+        private Allocator(World stage) {
+            this.stage = stage;
+            this.exhausted = new ArrayList<>();
+            this.rangeSeg = MemorySegment.NULL;
+        }
+
+        public World stage() {
+            return this.stage;
+        }
+
+        public long entity() {
+            this.ensure();
+            return this.stage.entity();
+        }
+
+        public long entity(Object... components) {
+            this.ensure();
+            return this.stage.entity(components);
+        }
+
+        public long entity(Class<?>... componentClasses) {
+            this.ensure();
+            return this.stage.entity(componentClasses);
+        }
+
+        public int remaining() {
+            if (this.rangeSeg.address() == 0) {
+                return 0;
+            }
+            return available(this.rangeSeg);
+        }
+
+        // Ranges whose ids were deleted and recycled are reused before a new slice of the id space is reserved.
+        void ensure() {
+            if (this.rangeSeg.address() != 0 && available(this.rangeSeg) > 0) {
+                return;
+            }
+
+            if (this.rangeSeg.address() != 0) {
+                this.exhausted.add(this.rangeSeg);
+            }
+
+            for (int i = 0; i < this.exhausted.size(); i++) {
+                MemorySegment candidate = this.exhausted.get(i);
+                if (available(candidate) > 0) {
+                    this.exhausted.remove(i);
+                    this.rangeSeg = candidate;
+                    flecs_h.ecs_entity_range_set(this.stage.worldSeg(), candidate);
+                    return;
+                }
+            }
+
+            int min = EntityRanges.this.reserve();
+            int max = (int) Math.min((long) min + EntityRanges.this.rangeSize - 1, EntityRanges.this.limit - 1L);
+            this.rangeSeg = flecs_h.ecs_entity_range_new(this.stage.worldSeg(), min, max)
+                    .reinterpret(ecs_entity_range_t.sizeof());
+        }
+
+        void release() {
+            if (this.rangeSeg.address() != 0) {
+                flecs_h.ecs_entity_range_set(this.stage.worldSeg(), MemorySegment.NULL);
+                this.rangeSeg = MemorySegment.NULL;
+            }
+            this.exhausted.clear();
+        }
+
+        private static int available(MemorySegment rangeSeg) {
+            int recycled = ecs_vec_t.count(ecs_entity_range_t.recycled(rangeSeg));
+            return recycled + Math.max(0, ecs_entity_range_t.max(rangeSeg) - ecs_entity_range_t.cur(rangeSeg));
+        }
+    }
+}
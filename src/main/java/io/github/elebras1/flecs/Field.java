@@ -1,5 +1,7 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
+
 import java.lang.foreign.MemorySegment;
 
 public class Field<T> {
@@ -8,14 +10,28 @@ public class Field<T> {
     private final long componentSize;
     private final Component<T> component;
     private final ComponentView componentView;
+    private final ColumnsCursor<T> columns;
+    private final BlobAllocator blobAllocator;
     private boolean shared;
 
     Field(MemorySegment memorySegment, int count, World world, Class<T> componentClass, boolean shared) {
+        this(memorySegment, count, world.componentRegistry().getComponent(componentClass), world.viewCache().getComponentView(componentClass),
+                ColumnsCursor.of(world, componentClass), world.blobAllocator(), shared);
+    }
+
+    Field(MemorySegment memorySegment, int count, Component<T> component, ComponentView componentView, BlobAllocator blobAllocator, boolean shared) {
+        this(memorySegment, count, component, componentView, null, blobAllocator, shared);
+    }
+
+    private Field(MemorySegment memorySegment, int count, Component<T> component, ComponentView componentView, ColumnsCursor<T> columns,
+                  BlobAllocator blobAllocator, boolean shared) {
         this.memorySegment = memorySegment;
         this.count = count;
-        this.component = world.componentRegistry().getComponent(componentClass);
-        this.componentSize = this.component.size();
-        this.componentView = world.viewCache().getComponentView(componentClass);
+        this.component = component;
+        this.componentSize = component.size();
+        this.componentView = componentView;
+        this.columns = columns;
+        this.blobAllocator = blobAllocator;
         this.shared = shared;
     }
 
@@ -23,6 +39,11 @@ public class Field<T> {
         return this.componentSize;
     }
 
+    // Set for SOA components, whose elements are spread over one column per field.
+    ColumnsCursor<T> columns() {
+        return this.columns;
+    }
+
     void reset(MemorySegment memorySegment, int count, boolean shared) {
         this.memorySegment = memorySegment;
         this.count = count;
@@ -33,10 +54,25 @@ public class Field<T> {
         return this.count;
     }
 
+    // Absolute address of element i, for var handle access through World.WHOLE_MEMORY.
+    public long address(int i) {
+        assert this.memorySegment.address() != 0 : "Field is not set";
+        assert i >= 0 && i < this.count : "Index " + i + " out of bounds";
+        assert !this.shared || i == 0 : "Non-zero index invalid for shared field";
+        if (this.columns != null) {
+            throw new UnsupportedOperationException("SOA components are stored per column");
+        }
+
+        return this.memorySegment.address() + i * this.componentSize;
+    }
+
     public T get(int i) {
         assert this.memorySegment.address() != 0 : "Field is not set";
         assert i >= 0 && i < this.count : "Index " + i + " out of bounds";
         assert !this.shared || i == 0 : "Non-zero index invalid for shared field";
+        if (this.columns != null) {
+            return this.columns.read(i);
+        }
 
         long elementOffset = i * this.componentSize;
         return this.component.read(this.memorySegment, elementOffset);
@@ -47,6 +83,11 @@ public class Field<T> {
         assert this.memorySegment.address() != 0 : "Field is not set";
         assert i >= 0 && i < this.count : "Index " + i + " out of bounds";
         assert !this.shared || i == 0 : "Non-zero index invalid for shared field";
+        assert this.componentView != null : "Dynamic components have no view";
+        if (this.columns != null) {
+            this.columns.moveView(this.componentView, i);
+            return (V) this.componentView;
+        }
 
         long elementOffset = i * this.componentSize;
         this.componentView.setBaseAddress(this.memorySegment.address() + elementOffset);
@@ -58,12 +99,20 @@ public class Field<T> {
         assert this.memorySegment.address() != 0 : "Field is not set";
         assert i >= 0 && i < this.count : "Index " + i + " out of bounds";
         assert !this.shared || i == 0 : "Non-zero index invalid for shared field";
+        if (this.columns != null) {
+            this.columns.write(i, componentData);
+            return;
+        }
 
         long elementOffset = i * this.componentSize;
-        this.component.write(this.memorySegment, elementOffset, componentData);
+        this.component.write(this.memorySegment, elementOffset, componentData, this.blobAllocator);
     }
 
     public void reset() {
+        if (this.columns != null) {
+            this.columns.fill(this.count);
+            return;
+        }
         this.memorySegment.reinterpret(this.count() * this.componentSize).fill((byte) 0);
     }
 }
@@ -0,0 +1,82 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+// Each byte of the slot is one Latin-1 char, so length(), charAt(), subSequence() and toString() agree on every content.
+// Slots hold UTF-8, which reads the same for ASCII; other text shows as its raw bytes here and decodes through the view's
+// String getter.
+public final class FixedChars implements CharSequence {
+
+    private long address;
+    private int length;
+
+    /**
+     * Internal API - Do not use.
+     */
+    public FixedChars set(long address, int capacity) {
+        int length = 0;
+        while (length < capacity && World.WHOLE_MEMORY.get(ValueLayout.JAVA_BYTE, address + length) != 0) {
+            length++;
+        }
+        this.address = address;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+        return (char) (World.WHOLE_MEMORY.get(ValueLayout.JAVA_BYTE, this.address + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + this.length);
+        }
+        return new String(this.segment().asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.ISO_8859_1);
+    }
+
+    public boolean equalsAscii(String value) {
+        return value.length() == this.length && this.startsWith(value);
+    }
+
+    public boolean startsWith(String prefix) {
+        if (prefix.length() > this.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (World.WHOLE_MEMORY.get(ValueLayout.JAVA_BYTE, this.address + i) != (byte) prefix.charAt(i) || prefix.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same polynomial as String.hashCode(), so ASCII names hash like the Strings they are compared against.
+    public int hash() {
+        int hash = 0;
+        for (int i = 0; i < this.length; i++) {
+            hash = 31 * hash + (World.WHOLE_MEMORY.get(ValueLayout.JAVA_BYTE, this.address + i) & 0xFF);
+        }
+        return hash;
+    }
+
+    public MemorySegment segment() {
+        return World.WHOLE_MEMORY.asSlice(this.address, this.length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.segment().toArray(ValueLayout.JAVA_BYTE), StandardCharsets.ISO_8859_1);
+    }
+}
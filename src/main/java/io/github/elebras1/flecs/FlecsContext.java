@@ -1,11 +1,14 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
+
 public class FlecsContext {
     private static final int BUFFER_SIZE = 48;
     private static final int MASK = BUFFER_SIZE - 1;
     private final ComponentViewPool[] componentViewPools;
     private final EntityView[] entityViewPool;
     private final ComponentRowViewPool[] componentRowViewPools;
+    private final BlobAllocator blobAllocator;
     private int entityViewCursor;
     private int epoch;
 
@@ -37,6 +40,7 @@ public class FlecsContext {
         this.componentViewPools = new ComponentViewPool[ComponentMap.size()];
         this.entityViewPool = new EntityView[BUFFER_SIZE];
         this.componentRowViewPools = new ComponentRowViewPool[ComponentMap.size()];
+        this.blobAllocator = world.blobAllocator();
         for (int i = 0; i < BUFFER_SIZE; i++) {
             this.entityViewPool[i] = new EntityView(world, 0);
         }
@@ -59,6 +63,7 @@ public class FlecsContext {
             ComponentView[] pool = new ComponentView[BUFFER_SIZE];
             for (int i = 0; i < BUFFER_SIZE; i++) {
                 pool[i] = ComponentMap.getView(componentClass);
+                pool[i].setBlobAllocator(this.blobAllocator);
             }
             viewPool = new ComponentViewPool(pool);
             this.componentViewPools[index] = viewPool;
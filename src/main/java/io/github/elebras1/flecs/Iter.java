@@ -24,6 +24,10 @@ public class Iter {
         this.count = ecs_iter_t.count(iterSeg);
     }
 
+    MemorySegment iterSeg() {
+        return this.iterSeg;
+    }
+
     public World world() {
         return this.world;
     }
@@ -38,6 +42,11 @@ public class Iter {
         return this.count;
     }
 
+    // Tables with toggled components are returned in runs of enabled rows, starting at offset.
+    public int offset() {
+        return ecs_iter_t.offset(this.iterSeg);
+    }
+
     public long entityId(int index) {
         assert (index >= 0 && index < 32) : "The index must be between 0 and 31.";
 
@@ -69,12 +78,30 @@ public class Iter {
         int fieldCount = shared ? 1 : this.count();
 
         if (field == null) {
-            Component<T> component = this.world.componentRegistry().getComponent(componentClass);
-            MemorySegment columnSeg = flecs_h.ecs_field_w_size(this.iterSeg, component.size(), (byte) index);
-            field = new Field<>(columnSeg, fieldCount, this.world, componentClass, shared);
+            field = new Field<>(MemorySegment.NULL, fieldCount, this.world, componentClass, shared);
+            this.fields[index] = field;
+        }
+        MemorySegment columnSeg = field.columns() == null
+                ? flecs_h.ecs_field_w_size(this.iterSeg, field.componentSize(), (byte) index)
+                : MemorySegment.ofAddress(field.columns().reset(this.iterSeg, index));
+        field.reset(columnSeg, fieldCount, shared);
+
+        return field;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Field<MemorySegment> field(DynamicComponent component, int index) {
+        assert (index >= 0 && index < 32) : "The field index must be between 0 and 31.";
+
+        Field<MemorySegment> field = (Field<MemorySegment>) this.fields[index];
+        boolean shared = !flecs_h.ecs_field_is_self(this.iterSeg, (byte) index);
+        int fieldCount = shared ? 1 : this.count();
+        MemorySegment columnSeg = flecs_h.ecs_field_w_size(this.iterSeg, component.size(), (byte) index);
+
+        if (field == null) {
+            field = new Field<>(columnSeg, fieldCount, component, null, this.world.blobAllocator(), shared);
             this.fields[index] = field;
         } else {
-            MemorySegment columnSeg = flecs_h.ecs_field_w_size(this.iterSeg, field.componentSize(), (byte) index);
             field.reset(columnSeg, fieldCount, shared);
         }
 
@@ -123,6 +150,34 @@ public class Iter {
         return ecs_iter_t.event(this.iterSeg);
     }
 
+    public <T> T param(Class<T> eventClass) {
+        long address = ecs_iter_t.param(this.iterSeg).address();
+        if (address == 0) {
+            return null;
+        }
+        return this.world.componentRegistry().getComponent(eventClass).read(World.WHOLE_MEMORY, address);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentView> V paramView(Class<?> eventClass) {
+        long address = ecs_iter_t.param(this.iterSeg).address();
+        if (address == 0) {
+            return null;
+        }
+
+        ComponentView view = this.world.viewCache().getComponentView(eventClass);
+        if (this.world.componentRegistry().getComponent(eventClass).soa()) {
+            // The payload is written as one record, so each column starts at its offset in the record layout.
+            ComponentColumns columns = this.world.componentRegistry().getColumns(this.world.componentRegistry().getComponentId(eventClass));
+            for (int i = 0; i < columns.count(); i++) {
+                view.setColumnAddress(i, address + columns.offsets()[i]);
+            }
+            return (V) view;
+        }
+        view.setBaseAddress(address);
+        return (V) view;
+    }
+
     public Type type() {
         MemorySegment tableSeg = ecs_iter_t.table(this.iterSeg);
         if (tableSeg.address() == 0) {
@@ -141,6 +196,14 @@ public class Iter {
         return this.table;
     }
 
+    public <V extends ComponentRowView> V getRowView(Class<?> componentClass) {
+        Table table = this.table();
+        if (table == null) {
+            return null;
+        }
+        return table.getRowView(componentClass, this.offset(), this.count);
+    }
+
     public void destroy() {
         int flags = ecs_iter_t.flags(this.iterSeg);
         MemorySegment tableSeg = ecs_iter_t.table(this.iterSeg);
@@ -0,0 +1,193 @@
+package io.github.elebras1.flecs;
+
+import io.github.elebras1.flecs.util.Flecs;
+import io.github.elebras1.flecs.util.internal.FlecsAllocator;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Invalidation is targeted: an entry is indexed under every entity its result went through (the entity, its parents and
+// the lookup scope) and under every name in its path. Renaming, deleting or reparenting an entity drops the entries indexed
+// under it, and a name appearing anywhere drops the entries that might now resolve to it instead.
+final class LookupCache implements AutoCloseable {
+    private static final int MAX_ENTRIES = 4096;
+    private static final String SEPARATOR = "::";
+
+    private final World world;
+    private final Map<Key, Entry> entries;
+    private final Map<Long, List<Entry>> entriesByEntity;
+    private final Map<String, List<Entry>> entriesByName;
+    private final MemorySegment separatorSeg;
+    private final FlecsObserver identifierObserver;
+    private final FlecsObserver parentObserver;
+
+    private record Key(long parentId, long scopeId, boolean recursive, String path) {
+    }
+
+    private static final class Entry {
+        final MemorySegment pathSeg;
+        final String[] names;
+        long entityId;
+        boolean valid;
+
+        Entry(String path) {
+            this.pathSeg = encode(path);
+            this.names = names(path);
+        }
+    }
+
+    LookupCache(World world) {
+        this.world = world;
+        this.entries = new HashMap<>();
+        this.entriesByEntity = new HashMap<>();
+        this.entriesByName = new HashMap<>();
+        this.separatorSeg = encode(SEPARATOR);
+
+        long identifierId = flecs_h.FLECS_IDEcsIdentifierID_();
+        this.identifierObserver = world.observer()
+                .event(Flecs.OnSet)
+                .event(Flecs.OnRemove)
+                .with(identifierId, Flecs.Wildcard)
+                .iter(it -> this.identifierChanged(it, 0));
+        // Moving a root entity under a parent only adds a ChildOf pair, so additions must invalidate as well.
+        this.parentObserver = world.observer()
+                .event(Flecs.OnAdd)
+                .event(Flecs.OnRemove)
+                .with(Flecs.ChildOf, Flecs.Wildcard)
+                .with(identifierId, Flecs.Name)
+                .iter(it -> this.identifierChanged(it, 1));
+    }
+
+    long lookup(long parentId, String path, boolean recursive) {
+        MemorySegment worldSeg = this.world.worldSeg();
+        long scopeId = parentId == 0 ? flecs_h.ecs_get_scope(worldSeg) : 0;
+
+        Key key = new Key(parentId, scopeId, recursive, path);
+        Entry entry = this.entries.get(key);
+        if (entry != null && entry.valid) {
+            return entry.entityId;
+        }
+
+        if (entry == null) {
+            if (this.entries.size() >= MAX_ENTRIES) {
+                this.clear();
+            }
+            entry = new Entry(path);
+            this.entries.put(key, entry);
+        }
+
+        long entityId = flecs_h.ecs_lookup_path_w_sep(worldSeg, parentId, entry.pathSeg, this.separatorSeg, this.separatorSeg, recursive);
+
+        // Misses and numeric ids are not tracked by the identifier observers, so they are never served from the cache.
+        if (entityId == 0 || isNumeric(path)) {
+            return entityId;
+        }
+
+        entry.entityId = entityId;
+        entry.valid = true;
+        for (long id = entityId; id != 0; id = flecs_h.ecs_get_parent(worldSeg, id)) {
+            index(this.entriesByEntity, id, entry);
+        }
+        // A recursive lookup also searches the parents of its scope, so moving that scope can change the result.
+        if (recursive) {
+            index(this.entriesByEntity, parentId != 0 ? parentId : scopeId, entry);
+        }
+        for (String name : entry.names) {
+            index(this.entriesByName, name, entry);
+        }
+        return entityId;
+    }
+
+    void invalidate() {
+        for (Entry entry : this.entries.values()) {
+            entry.valid = false;
+        }
+        this.entriesByEntity.clear();
+        this.entriesByName.clear();
+    }
+
+    // The identifier field holds the name being set or removed, which may shadow or stop shadowing other entries.
+    private void identifierChanged(Iter it, int identifierField) {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        long base = flecs_h.ecs_field_w_size(it.iterSeg(), EcsIdentifier.sizeof(), (byte) identifierField).address();
+        for (int i = 0; i < it.count(); i++) {
+            drop(this.entriesByEntity.remove(it.entityId(i)));
+            MemorySegment valueSeg = World.WHOLE_MEMORY.get(ValueLayout.ADDRESS, base + i * EcsIdentifier.sizeof());
+            if (valueSeg.address() != 0) {
+                drop(this.entriesByName.remove(valueSeg.reinterpret(Long.MAX_VALUE).getString(0)));
+            }
+        }
+    }
+
+    private void clear() {
+        for (Entry entry : this.entries.values()) {
+            FlecsAllocator.free(entry.pathSeg);
+        }
+        this.entries.clear();
+        this.entriesByEntity.clear();
+        this.entriesByName.clear();
+    }
+
+    // Indexes keep an entry until one of its keys fires, so a re-resolved entry is not added twice to the same list.
+    private static <K> void index(Map<K, List<Entry>> index, K key, Entry entry) {
+        List<Entry> indexed = index.computeIfAbsent(key, _ -> new ArrayList<>(2));
+        for (int i = 0; i < indexed.size(); i++) {
+            if (indexed.get(i) == entry) {
+                return;
+            }
+        }
+        indexed.add(entry);
+    }
+
+    private static void drop(List<Entry> indexed) {
+        if (indexed == null) {
+            return;
+        }
+        for (int i = 0; i < indexed.size(); i++) {
+            indexed.get(i).valid = false;
+        }
+    }
+
+    // Each segment of the path, plus the whole path since an alias can contain separators.
+    private static String[] names(String path) {
+        String[] segments = path.split(SEPARATOR, -1);
+        if (segments.length == 1) {
+            return segments;
+        }
+        String[] names = new String[segments.length + 1];
+        System.arraycopy(segments, 0, names, 0, segments.length);
+        names[segments.length] = path;
+        return names;
+    }
+
+    private static boolean isNumeric(String path) {
+        if (path.isEmpty()) {
+            return false;
+        }
+        char first = path.charAt(0);
+        return first == '#' || (first >= '0' && first <= '9');
+    }
+
+    private static MemorySegment encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        MemorySegment segment = FlecsAllocator.malloc(bytes.length + 1);
+        MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, 0, bytes.length);
+        segment.set(ValueLayout.JAVA_BYTE, bytes.length, (byte) 0);
+        return segment;
+    }
+
+    @Override
+    public void close() {
+        this.identifierObserver.destruct();
+        this.parentObserver.destruct();
+        this.clear();
+        FlecsAllocator.free(this.separatorSeg);
+    }
+}
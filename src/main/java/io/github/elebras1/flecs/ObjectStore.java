@@ -0,0 +1,147 @@
+package io.github.elebras1.flecs;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+import static java.lang.foreign.ValueLayout.*;
+
+// A handle packs the slot generation in its high 32 bits and the slot index + 1 in its low 32 bits,
+// so 0 is never a valid handle and a handle to a released slot never resolves.
+final class ObjectStore {
+
+    private static final FunctionDescriptor XTOR = FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS);
+    private static final FunctionDescriptor COPY_MOVE = FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS);
+
+    private final World world;
+    private volatile Object[] objects;
+    private int[] generations;
+    private int[] freeSlots;
+    private int freeCount;
+    private int size;
+    private MemorySegment hooks;
+
+    ObjectStore(World world) {
+        this.world = world;
+        this.objects = new Object[64];
+        this.generations = new int[64];
+        this.freeSlots = new int[64];
+    }
+
+    synchronized long put(Object object) {
+        int index;
+        if (this.freeCount > 0) {
+            index = this.freeSlots[--this.freeCount];
+        } else {
+            index = this.size++;
+            if (index == this.objects.length) {
+                this.generations = Arrays.copyOf(this.generations, index * 2);
+                this.objects = Arrays.copyOf(this.objects, index * 2);
+            }
+        }
+        this.objects[index] = object;
+        return ((long) this.generations[index] << 32) | (index + 1L);
+    }
+
+    // Lookups only compare the generation, so they stay a plain array load without taking the lock.
+    Object get(long handle) {
+        int index = (int) handle - 1;
+        Object[] objects = this.objects;
+        if (index < 0 || index >= objects.length || this.generations[index] != (int) (handle >>> 32)) {
+            return null;
+        }
+        return objects[index];
+    }
+
+    synchronized boolean replace(long handle, Object object) {
+        int index = (int) handle - 1;
+        if (index < 0 || index >= this.size || this.generations[index] != (int) (handle >>> 32)) {
+            return false;
+        }
+        this.objects[index] = object;
+        return true;
+    }
+
+    synchronized void release(long handle) {
+        int index = (int) handle - 1;
+        if (index < 0 || index >= this.size || this.generations[index] != (int) (handle >>> 32)) {
+            return;
+        }
+        this.objects[index] = null;
+        this.generations[index]++;
+        if (this.freeCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeCount * 2);
+        }
+        this.freeSlots[this.freeCount++] = index;
+    }
+
+    synchronized int size() {
+        return this.size - this.freeCount;
+    }
+
+    // The same hooks serve every object component: storage is always a single handle.
+    void install(long componentId) {
+        if (this.hooks == null) {
+            this.hooks = ecs_type_hooks_t.allocate(this.world.arena());
+            ecs_type_hooks_t.ctor(this.hooks, this.createStub("invokeCtor", XTOR, int.class));
+            ecs_type_hooks_t.dtor(this.hooks, this.createStub("invokeDtor", XTOR, int.class));
+            ecs_type_hooks_t.copy(this.hooks, this.createStub("invokeCopy", COPY_MOVE, MemorySegment.class));
+            ecs_type_hooks_t.move(this.hooks, this.createStub("invokeMove", COPY_MOVE, MemorySegment.class));
+            ecs_type_hooks_t.copy_ctor(this.hooks, this.createStub("invokeCopyCtor", COPY_MOVE, MemorySegment.class));
+            ecs_type_hooks_t.move_ctor(this.hooks, this.createStub("invokeMoveCtor", COPY_MOVE, MemorySegment.class));
+        }
+        flecs_h.ecs_set_hooks_id(this.world.worldSeg(), componentId, this.hooks);
+    }
+
+    private MemorySegment createStub(String methodName, FunctionDescriptor descriptor, Class<?> secondParameter) {
+        MethodType methodType = secondParameter == int.class
+                ? MethodType.methodType(void.class, MemorySegment.class, int.class, MemorySegment.class)
+                : MethodType.methodType(void.class, MemorySegment.class, MemorySegment.class, int.class, MemorySegment.class);
+        try {
+            return Linker.nativeLinker().upcallStub(MethodHandles.lookup().bind(this, methodName, methodType), descriptor, this.world.arena());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create object hook stub", e);
+        }
+    }
+
+    private void invokeCtor(MemorySegment segment, int count, MemorySegment typeInfo) {
+        segment.reinterpret((long) count * Long.BYTES).fill((byte) 0);
+    }
+
+    private void invokeDtor(MemorySegment segment, int count, MemorySegment typeInfo) {
+        MemorySegment handles = segment.reinterpret((long) count * Long.BYTES);
+        for (int i = 0; i < count; i++) {
+            this.release(handles.getAtIndex(JAVA_LONG, i));
+        }
+    }
+
+    // A copied component references the same object through its own slot, so either side can be removed independently.
+    private void invokeCopy(MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        this.invokeDtor(dstSeg, count, typeInfo);
+        this.invokeCopyCtor(dstSeg, srcSeg, count, typeInfo);
+    }
+
+    private void invokeCopyCtor(MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        MemorySegment dst = dstSeg.reinterpret((long) count * Long.BYTES);
+        MemorySegment src = srcSeg.reinterpret((long) count * Long.BYTES);
+        for (int i = 0; i < count; i++) {
+            Object object = this.get(src.getAtIndex(JAVA_LONG, i));
+            dst.setAtIndex(JAVA_LONG, i, object != null ? this.put(object) : 0L);
+        }
+    }
+
+    private void invokeMove(MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        this.invokeDtor(dstSeg, count, typeInfo);
+        this.invokeMoveCtor(dstSeg, srcSeg, count, typeInfo);
+    }
+
+    private void invokeMoveCtor(MemorySegment dstSeg, MemorySegment srcSeg, int count, MemorySegment typeInfo) {
+        MemorySegment dst = dstSeg.reinterpret((long) count * Long.BYTES);
+        MemorySegment src = srcSeg.reinterpret((long) count * Long.BYTES);
+        MemorySegment.copy(src, 0, dst, 0, dst.byteSize());
+        src.fill((byte) 0);
+    }
+}
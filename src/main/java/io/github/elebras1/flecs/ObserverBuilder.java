@@ -239,6 +239,22 @@ public class ObserverBuilder extends ObserverBuilderBase {
         return this.without(firstId, secondId);
     }
 
+    public ObserverBuilder src(long entityId) {
+        if (this.termCount == 0) {
+            throw new IllegalStateException("No term to apply 'src' modifier to");
+        }
+
+        MemorySegment termSeg = this.term(this.termCount - 1);
+        MemorySegment srcRefSeg = ecs_term_t.src(termSeg);
+        ecs_term_ref_t.id(srcRefSeg, entityId);
+
+        return this;
+    }
+
+    public ObserverBuilder src(Entity entity) {
+        return this.src(entity.id());
+    }
+
     public ObserverBuilder in() {
         if (this.termCount == 0) {
             throw new IllegalStateException("No term to apply 'in' modifier to");
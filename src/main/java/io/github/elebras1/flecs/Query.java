@@ -105,12 +105,54 @@ public class Query extends QueryBase {
             MemorySegment entities = ecs_iter_t.entities(iterSeg);
             if (count > 0) {
                 result[0] = entities.getAtIndex(ValueLayout.JAVA_LONG, 0);
+                flecs_h.ecs_iter_fini(iterSeg);
                 break;
             }
         }
         return result[0];
     }
 
+    public void emit(long eventId, long... ids) {
+        this.checkDestroyed();
+        MemorySegment iterSeg = this.createIterSeg();
+        if (iterSeg.address() == 0) {
+            throw new IllegalStateException("ecs_query_iter returned a null iterator");
+        }
+
+        long[] eventIds = ids.length > 0 ? ids : new long[ecs_iter_t.field_count(iterSeg)];
+
+        // Observers may change the entities being notified, so their commands are applied after the iteration.
+        flecs_h.ecs_defer_begin(this.world.worldSeg());
+        boolean exhausted = false;
+        try {
+            while (flecs_h.ecs_iter_next(iterSeg)) {
+                int count = ecs_iter_t.count(iterSeg);
+                if (count == 0) {
+                    continue;
+                }
+
+                int idCount = ids.length;
+                if (idCount == 0) {
+                    this.iter.setIterSeg(iterSeg);
+                    for (int i = 0; i < eventIds.length; i++) {
+                        if (this.iter.isFieldSet(i) && this.iter.fieldSource(i) == 0) {
+                            eventIds[idCount++] = this.iter.termId(i);
+                        }
+                    }
+                }
+
+                this.world.emit(eventId, ecs_iter_t.table(iterSeg), ecs_iter_t.offset(iterSeg), count, eventIds, idCount);
+            }
+            exhausted = true;
+        } finally {
+            // ecs_iter_next only releases the iterator once it returns false; an observer that throws leaves it to us.
+            if (!exhausted) {
+                flecs_h.ecs_iter_fini(iterSeg);
+            }
+            flecs_h.ecs_defer_end(this.world.worldSeg());
+        }
+    }
+
     @Override
     protected void checkDestroyed() {
         if (this.destroyed) {
@@ -265,6 +265,7 @@ public class QueryBuilder {
     }
 
     public <T> QueryBuilder orderBy(long componentId, ComparatorComponent<T> comparator) {
+        this.world.componentRegistry().checkNotColumns(this.world.componentRegistry().getComponentClassById(componentId), "orderBy");
         Component<T> component = this.world.componentRegistry().getComponentById(componentId);
         long componentSize = component.size();
         MemorySegment callbackStub = ecs_order_by_action_t.allocate((_, componentAdressA, _, componentAdressB) -> {
@@ -282,6 +283,7 @@ public class QueryBuilder {
     @SuppressWarnings("unchecked")
     public <V extends ComponentView> QueryBuilder orderBy(long componentId, ComparatorComponentView<V> comparator) {
         Class<?> componentClass = this.world.componentRegistry().getComponentClassById(componentId);
+        this.world.componentRegistry().checkNotColumns(componentClass, "orderBy");
         MemorySegment callbackStub = ecs_order_by_action_t.allocate((_, componentAdressA, _, componentAdressB) -> {
             V componentViewA = (V) this.world.viewCache().getComponentView(componentClass);
             componentViewA.setBaseAddress(componentAdressA);
@@ -332,6 +332,7 @@ public class SystemBuilder extends SystemBuilderBase {
     }
 
     public <T> SystemBuilder orderBy(long componentId, ComparatorComponent<T> comparator) {
+        this.world.componentRegistry().checkNotColumns(this.world.componentRegistry().getComponentClassById(componentId), "orderBy");
         Component<T> component = this.world.componentRegistry().getComponentById(componentId);
         long componentSize = component.size();
         MemorySegment callbackStub = ecs_order_by_action_t.allocate((_, componentAdressA, _, componentAdressB) -> {
@@ -352,6 +353,7 @@ public class SystemBuilder extends SystemBuilderBase {
     @SuppressWarnings("unchecked")
     public <V extends ComponentView> SystemBuilder orderBy(long componentId, ComparatorComponentView<V> comparator) {
         Class<?> componentClass = this.world.componentRegistry().getComponentClassById(componentId);
+        this.world.componentRegistry().checkNotColumns(componentClass, "orderBy");
         MemorySegment callbackStub = ecs_order_by_action_t.allocate((_, componentAdressA, _, componentAdressB) -> {
             V componentViewA = (V) this.world.viewCache().getComponentView(componentClass);
             componentViewA.setBaseAddress(componentAdressA);
@@ -26,6 +26,10 @@ public class Table {
         this.tableSeg = tableSeg;
     }
 
+    MemorySegment tableSeg() {
+        return this.tableSeg;
+    }
+
     public Type type() {
         MemorySegment typeSeg = flecs_h.ecs_table_get_type(this.tableSeg);
         return new Type(this.world, typeSeg);
@@ -114,6 +118,9 @@ public class Table {
 
     public <T> T get(Class<T> componentClass, int row) {
         assert row >= 0 && row < this.count() : "row " + row + " out of bound (count=" + this.count() + ")";
+        if (this.isColumns(componentClass)) {
+            return this.readColumnsAt(componentClass, row);
+        }
         int col = this.columnIndex(componentClass);
         assert col != -1 : "Component missing from the table " + componentClass.getSimpleName();
         return this.readAt(componentClass, col, row);
@@ -128,6 +135,9 @@ public class Table {
 
     public <V extends ComponentView> V getMutView(Class<?> componentClass, int row) {
         assert row >= 0 && row < this.count() : "row " + row + " out of bound (count=" + this.count() + ")";
+        if (this.isColumns(componentClass)) {
+            return this.readColumnsViewAt(componentClass, row);
+        }
         int col = this.columnIndex(componentClass);
         assert col != -1 : "Component missing from the table " + componentClass.getSimpleName();
         return this.readViewAt(componentClass, col, row);
@@ -143,6 +153,9 @@ public class Table {
 
     public <T> T tryGet(Class<T> componentClass, int row) {
         assert row >= 0 && row < this.count() : "row " + row + " out of bound (count=" + this.count() + ")";
+        if (this.isColumns(componentClass)) {
+            return this.readColumnsAt(componentClass, row);
+        }
         int col = this.columnIndex(componentClass);
         if (col == -1) {
             return null;
@@ -161,6 +174,9 @@ public class Table {
 
     public <V extends ComponentView> V tryGetMutView(Class<?> componentClass, int row) {
         assert row >= 0 && row < this.count() : "row " + row + " out of bound (count=" + this.count() + ")";
+        if (this.isColumns(componentClass)) {
+            return this.readColumnsViewAt(componentClass, row);
+        }
         int col = this.columnIndex(componentClass);
         if (col == -1) {
             return null;
@@ -180,6 +196,9 @@ public class Table {
     @SuppressWarnings("unchecked")
     public <V extends ComponentView> V getColumnView(Class<?> componentClass, int row) {
         assert row >= 0 && row < this.count() : "row " + row + " out of bound (count=" + this.count() + ")";
+        if (this.isColumns(componentClass)) {
+            return this.readColumnsViewAt(componentClass, row);
+        }
         int col = this.columnIndex(componentClass);
         if (col == -1) {
             return null;
@@ -196,6 +215,10 @@ public class Table {
 
     @SuppressWarnings("unchecked")
     public <V extends ComponentView> void forEachRow(Class<?> componentClass, RowCallback<V> callback) {
+        if (this.isColumns(componentClass)) {
+            this.forEachColumnsRow(componentClass, callback);
+            return;
+        }
         int col = this.columnIndex(componentClass);
         if (col == -1) {
             return;
@@ -256,22 +279,123 @@ public class Table {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public <V extends ComponentRowView> V getRowView(Class<?> componentClass) {
+        return this.getRowView(componentClass, 0, this.count());
+    }
+
+    // Rows are relative to offset, so an iterator's enabled range can be exposed without the disabled rows around it.
+    @SuppressWarnings("unchecked")
+    public <V extends ComponentRowView> V getRowView(Class<?> componentClass, int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count > this.count()) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + count) + ") out of bounds for count " + this.count());
+        }
+        if (this.world.componentRegistry().getComponent(componentClass).soa()) {
+            return this.getColumnsRowView(componentClass, offset, count);
+        }
         int col = this.columnIndex(componentClass);
         if (col == -1) {
             return null;
         }
-        MemorySegment columnSeg = this.getRawColumn(col);
+        MemorySegment columnSeg = this.getRawColumn(col, offset);
         if (columnSeg.address() == 0) {
             return null;
         }
         V view = (V) this.world.viewCache().getComponentRowView(componentClass);
         view.setSegment(columnSeg);
-        view.setCount(this.count());
+        view.setCount(count);
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends ComponentRowView> V getColumnsRowView(Class<?> componentClass, int offset, int count) {
+        long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        ComponentColumns columns = this.world.componentRegistry().getColumns(componentId);
+        V view = (V) this.world.viewCache().getComponentRowView(componentClass);
+        for (int i = 0; i < columns.count(); i++) {
+            int col = this.columnIndex(columns.ids()[i]);
+            if (col == -1) {
+                return null;
+            }
+            MemorySegment columnSeg = this.getRawColumn(col, offset);
+            view.setColumn(i, columnSeg.reinterpret(columns.sizes()[i] * count));
+        }
+        view.setCount(count);
         return view;
     }
 
+    private boolean isColumns(Class<?> componentClass) {
+        return this.world.componentRegistry().getComponent(componentClass).soa();
+    }
+
+    // A SOA component has no column of its own: each field is read from the table column of its (With, column) id.
+    private long columnAddress(ComponentColumns columns, int column, int row) {
+        int col = this.columnIndex(columns.ids()[column]);
+        if (col == -1) {
+            return 0;
+        }
+        MemorySegment columnSeg = this.getRawColumn(col);
+        if (columnSeg.address() == 0) {
+            return 0;
+        }
+        return columnSeg.address() + (long) row * columns.sizes()[column];
+    }
+
+    private ComponentColumns columnsOf(Class<?> componentClass) {
+        long componentId = this.world.componentRegistry().getComponentId(componentClass);
+        return this.world.componentRegistry().getColumns(componentId);
+    }
+
+    private <T> T readColumnsAt(Class<T> componentClass, int row) {
+        Component<T> component = this.world.componentRegistry().getComponent(componentClass);
+        ComponentColumns columns = this.columnsOf(componentClass);
+        MemorySegment dataSeg = this.world.getComponentBuffer(component.size());
+        for (int i = 0; i < columns.count(); i++) {
+            long address = this.columnAddress(columns, i, row);
+            if (address == 0) {
+                return null;
+            }
+            MemorySegment.copy(World.WHOLE_MEMORY, address, dataSeg, columns.offsets()[i], columns.sizes()[i]);
+        }
+        return component.read(dataSeg, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends ComponentView> V readColumnsViewAt(Class<?> componentClass, int row) {
+        ComponentColumns columns = this.columnsOf(componentClass);
+        long[] addresses = new long[columns.count()];
+        for (int i = 0; i < columns.count(); i++) {
+            addresses[i] = this.columnAddress(columns, i, row);
+            if (addresses[i] == 0) {
+                return null;
+            }
+        }
+        V view = (V) this.world.viewCache().getComponentView(componentClass);
+        for (int i = 0; i < columns.count(); i++) {
+            view.setColumnAddress(i, addresses[i]);
+        }
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends ComponentView> void forEachColumnsRow(Class<?> componentClass, RowCallback<V> callback) {
+        ComponentColumns columns = this.columnsOf(componentClass);
+        long[] addresses = new long[columns.count()];
+        for (int i = 0; i < columns.count(); i++) {
+            addresses[i] = this.columnAddress(columns, i, 0);
+            if (addresses[i] == 0) {
+                return;
+            }
+        }
+        V view = (V) this.world.viewCache().getComponentView(componentClass);
+        int count = this.count();
+        for (int row = 0; row < count; row++) {
+            for (int i = 0; i < columns.count(); i++) {
+                view.setColumnAddress(i, addresses[i] + row * columns.sizes()[i]);
+            }
+            callback.accept(view, row);
+        }
+    }
+
     private MemorySegment getRawColumn(int columnIndex) {
         return this.getRawColumn(columnIndex, 0);
     }
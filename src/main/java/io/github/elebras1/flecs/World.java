@@ -3,8 +3,11 @@ package io.github.elebras1.flecs;
 import io.github.elebras1.flecs.callback.*;
 import io.github.elebras1.flecs.util.EntityRange;
 import io.github.elebras1.flecs.util.Flecs;
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
 import io.github.elebras1.flecs.util.internal.FlecsLoader;
+import io.github.elebras1.flecs.util.internal.buffer.EventDescBuffer;
 import io.github.elebras1.flecs.util.internal.buffer.FlecsBuffers;
+import io.github.elebras1.flecs.util.internal.buffer.ScratchStack;
 
 import java.lang.foreign.*;
 import java.nio.charset.StandardCharsets;
@@ -16,6 +19,8 @@ import static java.lang.foreign.ValueLayout.*;
 
 public class World {
     public static final MemorySegment WHOLE_MEMORY = MemorySegment.NULL.reinterpret(Long.MAX_VALUE);
+    static final long[] NO_IDS = new long[0];
+    static final Object[] NO_COMPONENTS = new Object[0];
     private final MemorySegment worldSeg;
     private final Arena arena;
     private final ComponentRegistry componentRegistry;
@@ -23,6 +28,8 @@ public class World {
     private final Map<Long, ObserverCallbacks> observerCallbacks;
     private final FlecsBuffers buffers;
     private final FlecsContext context;
+    private final LookupCache lookupCache;
+    private final FlecsObserver componentObserver;
     private World[] stages;
     private final boolean owned;
     private boolean destroyed;
@@ -48,19 +55,27 @@ public class World {
         this.destroyed = false;
         this.importingModule = 0;
         this.owned = true;
+        this.lookupCache = new LookupCache(this);
+        // Deleting a component deletes every table holding it, so pointers cached against the table generation go stale.
+        this.componentObserver = this.observer()
+                .event(Flecs.OnRemove)
+                .with(flecs_h.FLECS_IDEcsComponentID_())
+                .iter(_ -> this.componentRegistry.bumpTableGeneration());
     }
 
-    World(MemorySegment stageSeg, ComponentRegistry componentRegistry) {
+    World(MemorySegment stageSeg, ComponentRegistry componentRegistry, BlobAllocator blobAllocator) {
         this.arena = Arena.ofShared();
         this.worldSeg = stageSeg;
         this.componentRegistry = componentRegistry;
         this.systemCallbacks = new HashMap<>();
         this.observerCallbacks = new HashMap<>();
-        this.buffers = new FlecsBuffers();
+        this.buffers = new FlecsBuffers(blobAllocator);
         this.context = new FlecsContext(this);
         this.destroyed = false;
         this.importingModule = 0;
         this.owned = false;
+        this.lookupCache = null;
+        this.componentObserver = null;
     }
 
     public long entity() {
@@ -93,6 +108,128 @@ public class World {
          return flecs_h.ecs_new_w_parent(this.worldSeg, parentId, nameSegment);
     }
 
+    public long entity(Object... components) {
+        this.checkDestroyed();
+        return this.entityInit(0, NO_IDS, components);
+    }
+
+    public long entity(Class<?>... componentClasses) {
+        this.checkDestroyed();
+        return this.entityInit(0, this.componentIds(componentClasses), NO_COMPONENTS);
+    }
+
+    long[] componentIds(Class<?>[] componentClasses) {
+        long[] ids = new long[componentClasses.length];
+        for (int i = 0; i < componentClasses.length; i++) {
+            ids[i] = this.componentRegistry.getComponentId(componentClasses[i]);
+        }
+        return ids;
+    }
+
+    // ecs_entity_init resolves the destination table from all ids first, so the entity is moved only once.
+    // Tags only contribute an id, SOA components contribute their tag and one value per column.
+    @SuppressWarnings("unchecked")
+    long entityInit(long entityId, long[] ids, Object[] components) {
+        int tagCount = 0;
+        int valueCount = 0;
+        for (Object data : components) {
+            Component<?> component = this.componentRegistry.getComponent(data.getClass());
+            if (component.tag()) {
+                tagCount++;
+            } else if (component.soa()) {
+                tagCount++;
+                valueCount += this.componentRegistry.getColumns(this.componentRegistry.getComponentId(data.getClass())).count();
+            } else {
+                valueCount++;
+            }
+        }
+
+        int idCount = ids.length + tagCount;
+        long idsOffset = ecs_entity_desc_t.sizeof();
+        long valuesOffset = idsOffset + (long) (idCount + 1) * Long.BYTES;
+        long dataOffset = valuesOffset + (valueCount + 1) * ecs_value_t.sizeof();
+
+        long size = dataOffset;
+        for (Object data : components) {
+            Component<?> component = this.componentRegistry.getComponent(data.getClass());
+            size = alignUp(size, component.alignment()) + component.size();
+        }
+
+        ScratchStack scratchStack = this.buffers.scratchStack();
+        MemorySegment frame = scratchStack.push(size);
+        try {
+            MemorySegment descSeg = frame.asSlice(0, idsOffset);
+            ecs_entity_desc_t.id(descSeg, entityId);
+
+            MemorySegment idsSeg = frame.asSlice(idsOffset, valuesOffset - idsOffset);
+            MemorySegment.copy(ids, 0, idsSeg, JAVA_LONG, 0, ids.length);
+
+            if (components.length > 0) {
+                MemorySegment valuesSeg = frame.asSlice(valuesOffset, dataOffset - valuesOffset);
+                long offset = dataOffset;
+                int tagIndex = ids.length;
+                int valueIndex = 0;
+                for (Object data : components) {
+                    Component<Object> component = (Component<Object>) this.componentRegistry.getComponent(data.getClass());
+                    long componentId = this.componentRegistry.getComponentId(data.getClass());
+                    if (component.tag()) {
+                        idsSeg.setAtIndex(JAVA_LONG, tagIndex++, componentId);
+                        continue;
+                    }
+                    offset = alignUp(offset, component.alignment());
+                    component.write(frame, offset, data, this.buffers.blobAllocator());
+
+                    if (component.soa()) {
+                        idsSeg.setAtIndex(JAVA_LONG, tagIndex++, componentId);
+                        ComponentColumns columns = this.componentRegistry.getColumns(componentId);
+                        for (int c = 0; c < columns.count(); c++) {
+                            MemorySegment valueSeg = ecs_value_t.asSlice(valuesSeg, valueIndex++);
+                            ecs_value_t.type(valueSeg, columns.ids()[c]);
+                            ecs_value_t.ptr(valueSeg, frame.asSlice(offset + columns.offsets()[c], columns.sizes()[c]));
+                        }
+                    } else {
+                        MemorySegment valueSeg = ecs_value_t.asSlice(valuesSeg, valueIndex++);
+                        ecs_value_t.type(valueSeg, componentId);
+                        ecs_value_t.ptr(valueSeg, frame.asSlice(offset, component.size()));
+                    }
+                    offset += component.size();
+                }
+                ecs_entity_desc_t.set(descSeg, valuesSeg);
+            }
+
+            if (idCount > 0) {
+                ecs_entity_desc_t.add(descSeg, idsSeg);
+            }
+
+            long entity = flecs_h.ecs_entity_init(this.worldSeg, descSeg);
+
+            // Flecs copied the values, so the blocks written into the frame are no longer referenced.
+            long offset = dataOffset;
+            for (Object data : components) {
+                Component<?> component = this.componentRegistry.getComponent(data.getClass());
+                if (component.tag()) {
+                    continue;
+                }
+                offset = alignUp(offset, component.alignment());
+                this.releaseBlobs(component, frame, offset);
+                offset += component.size();
+            }
+            return entity;
+        } finally {
+            scratchStack.pop();
+        }
+    }
+
+    void releaseBlobs(Component<?> component, MemorySegment segment, long offset) {
+        for (long blobOffset : component.blobOffsets()) {
+            this.buffers.blobAllocator().free(segment.get(JAVA_LONG_UNALIGNED, offset + blobOffset));
+        }
+    }
+
+    private static long alignUp(long value, long alignment) {
+        return (value + alignment - 1) & -alignment;
+    }
+
     public Entity obtainEntity(long entityId) {
         assert entityId >= 0 : "Invalid entity ID: " + entityId;
         return new Entity(this, entityId);
@@ -112,6 +249,22 @@ public class World {
         return this.buffers.componentBuffer().ensure(size);
     }
 
+    MemorySegment getStringBuffer(String value) {
+        return this.buffers.stringRing().set(value);
+    }
+
+    EventDescBuffer getEventDescBuffer() {
+        return this.buffers.eventDescBuffer();
+    }
+
+    BlobAllocator blobAllocator() {
+        return this.buffers.blobAllocator();
+    }
+
+    ScratchStack getScratchStack() {
+        return this.buffers.scratchStack();
+    }
+
     public long[] entityBulk(int count) {
         this.checkDestroyed();
         try(Arena tempArena = Arena.ofConfined()) {
@@ -170,6 +323,49 @@ public class World {
         }
     }
 
+    public long[] instantiate(long prefabId, int count) {
+        this.checkDestroyed();
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+
+        long[] ids = new long[count];
+        ids[0] = flecs_h.ecs_new_w_id(this.worldSeg, flecs_h.ecs_make_pair(Flecs.IsA, prefabId));
+        if (count > 1) {
+            MemorySegment idsSeg = this.instantiateBulk(ids[0], count - 1);
+            MemorySegment.copy(idsSeg, JAVA_LONG, 0, ids, 1, count - 1);
+        }
+        return ids;
+    }
+
+    public EntityIdBuffer instantiate(long prefabId, int count, EntityIdBuffer dst) {
+        this.checkDestroyed();
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+
+        long firstId = flecs_h.ecs_new_w_id(this.worldSeg, flecs_h.ecs_make_pair(Flecs.IsA, prefabId));
+        dst.add(firstId);
+        if (count > 1) {
+            dst.addAll(this.instantiateBulk(firstId, count - 1), count - 1);
+        }
+        return dst;
+    }
+
+    // The first instance goes through the regular add path so its table already holds the overridden components of the prefab.
+    private MemorySegment instantiateBulk(long firstId, int count) {
+        MemorySegment tableSeg = flecs_h.ecs_get_table(this.worldSeg, firstId);
+        try (Arena tempArena = Arena.ofConfined()) {
+            MemorySegment descSeg = ecs_bulk_desc_t.allocate(tempArena);
+            ecs_bulk_desc_t.entities(descSeg, MemorySegment.NULL);
+            ecs_bulk_desc_t.count(descSeg, count);
+            ecs_bulk_desc_t.data(descSeg, MemorySegment.NULL);
+            ecs_bulk_desc_t.table(descSeg, tableSeg);
+
+            return flecs_h.ecs_bulk_init(this.worldSeg, descSeg).reinterpret((long) count * Long.BYTES);
+        }
+    }
+
     public Id pair(long first, long second) {
         this.checkDestroyed();
         long pairId = flecs_h.ecs_make_pair(first, second);
@@ -213,6 +409,15 @@ public class World {
         return new EntityRange(ecs_entity_range_t.min(rangeSeg), ecs_entity_range_t.max(rangeSeg), ecs_entity_range_t.cur(rangeSeg), recycled);
     }
 
+    public EntityRanges entityRanges(int min, int rangeSize) {
+        return this.entityRanges(min, rangeSize, Integer.MAX_VALUE);
+    }
+
+    public EntityRanges entityRanges(int min, int rangeSize, int limit) {
+        this.checkDestroyed();
+        return new EntityRanges(this, min, rangeSize, limit);
+    }
+
     public long prefab() {
         this.checkDestroyed();
         return flecs_h.ecs_new_w_id(this.worldSeg, Flecs.Prefab);
@@ -242,11 +447,20 @@ public class World {
         return this.componentRegistry.register(componentClass);
     }
 
+    public long objectComponent(Class<?> objectClass) {
+        this.checkDestroyed();
+        return this.componentRegistry.registerObject(objectClass);
+    }
+
+    public DynamicComponent dynamicComponent(String name, MemoryLayout layout) {
+        this.checkDestroyed();
+        return this.componentRegistry.registerDynamic(name, layout);
+    }
+
     public <T> long component(Class<T> componentClass, Consumer<ComponentHooks<T>> configuration) {
         this.checkDestroyed();
         long id = this.component(componentClass);
-        Component<T> component = this.componentRegistry.getComponent(componentClass);
-        ComponentHooks<T> hooks = new ComponentHooks<>(this, component);
+        ComponentHooks<T> hooks = new ComponentHooks<>(this, componentClass);
         configuration.accept(hooks);
         hooks.install(this.worldSeg, id);
         return id;
@@ -257,6 +471,11 @@ public class World {
         return this.componentRegistry.getComponentId(componentClass);
     }
 
+    public long getComponentId(int componentIndex) {
+        this.checkDestroyed();
+        return this.componentRegistry.getComponentId(componentIndex);
+    }
+
     public int count(long componentId) {
         this.checkDestroyed();
         return flecs_h.ecs_count_id(this.worldSeg, componentId);
@@ -299,18 +518,29 @@ public class World {
         flecs_h.ecs_delete_with(this.worldSeg, componentId);
     }
 
-    public int deleteEmptyTables(int limit) {
+    // Flecs 4 bounds the cleanup by table age rather than by a table count: a table found empty by more than
+    // `clearGeneration` calls releases its storage, and by more than `deleteGeneration` calls is deleted. 0 skips a step.
+    public int deleteEmptyTables(int clearGeneration, int deleteGeneration) {
         this.checkDestroyed();
         try (Arena tempArena = Arena.ofConfined()) {
-            MemoryLayout memoryLayout = MemoryLayout.structLayout(JAVA_INT.withName("limit"), JAVA_INT.withName("flags"));
-            MemorySegment descSeg = tempArena.allocate(memoryLayout);
-            descSeg.set(JAVA_INT, memoryLayout.byteOffset(MemoryLayout.PathElement.groupElement("limit")), limit);
-            descSeg.set(JAVA_INT, memoryLayout.byteOffset(MemoryLayout.PathElement.groupElement("flags")), 0);
+            MemorySegment descSeg = ecs_delete_empty_tables_desc_t.allocate(tempArena);
+            ecs_delete_empty_tables_desc_t.clear_generation(descSeg, (short) clearGeneration);
+            ecs_delete_empty_tables_desc_t.delete_generation(descSeg, (short) deleteGeneration);
 
-            return flecs_h.ecs_delete_empty_tables(this.worldSeg, descSeg);
+            int deleted = flecs_h.ecs_delete_empty_tables(this.worldSeg, descSeg);
+            if (deleted > 0) {
+                this.componentRegistry.bumpTableGeneration();
+            }
+            return deleted;
         }
     }
 
+    // The table limit is gone in flecs 4, so the value is ignored and tables found empty by a previous call are deleted.
+    @Deprecated
+    public int deleteEmptyTables(int limit) {
+        return this.deleteEmptyTables(0, 1);
+    }
+
     public void deferBegin() {
         this.checkDestroyed();
         flecs_h.ecs_defer_begin(this.worldSeg);
@@ -356,6 +586,40 @@ public class World {
         return new ObserverBuilder(this).with(componentClass);
     }
 
+    public void emit(long eventId, Table table, long... ids) {
+        this.emit(eventId, table, 0, table.count(), ids);
+    }
+
+    public void emit(long eventId, Table table, int offset, int count, long... ids) {
+        this.checkDestroyed();
+        if (offset < 0 || count < 0 || offset + count > table.count()) {
+            throw new IndexOutOfBoundsException("Invalid table range: offset " + offset + ", count " + count + ", table count " + table.count());
+        }
+        this.emit(eventId, table.tableSeg(), offset, count, ids, ids.length);
+    }
+
+    void emit(long eventId, MemorySegment tableSeg, int offset, int count, long[] ids, int idCount) {
+        if (count == 0) {
+            return;
+        }
+
+        EventDescBuffer buffer = this.getEventDescBuffer();
+        MemorySegment eventDescSeg = buffer.push();
+        try {
+            ecs_event_desc_t.event(eventDescSeg, eventId);
+            ecs_event_desc_t.table(eventDescSeg, tableSeg);
+            ecs_event_desc_t.offset(eventDescSeg, offset);
+            ecs_event_desc_t.count(eventDescSeg, count);
+            if (idCount > 0) {
+                ecs_event_desc_t.ids(eventDescSeg, buffer.ids(ids, idCount));
+            }
+
+            flecs_h.ecs_emit(this.worldSeg, eventDescSeg);
+        } finally {
+            buffer.pop();
+        }
+    }
+
     public TimerBuilder timer() {
         this.checkDestroyed();
         return new TimerBuilder(this);
@@ -556,6 +820,11 @@ public class World {
         }
     }
 
+    // Shared with the stages, see ComponentRegistry.bumpTableGeneration.
+    long tableGeneration() {
+        return this.componentRegistry.tableGeneration();
+    }
+
     FlecsContext viewCache() {
         return this.context;
     }
@@ -593,7 +862,7 @@ public class World {
         World stage = this.stages[stageId];
         if(stage == null) {
             MemorySegment stageSeg = flecs_h.ecs_get_stage(this.worldSeg, stageId);
-            stage = new World(stageSeg, this.componentRegistry);
+            stage = new World(stageSeg, this.componentRegistry, this.buffers.blobAllocator());
             this.stages[stageId] = stage;
         }
         return stage;
@@ -607,14 +876,14 @@ public class World {
     public World stage() {
         this.checkDestroyed();
         MemorySegment stageSeg = flecs_h.ecs_stage_new(this.worldSeg);
-        return new World(stageSeg, this.componentRegistry);
+        return new World(stageSeg, this.componentRegistry, this.buffers.blobAllocator());
     }
 
     public World asyncStage() {
         this.checkDestroyed();
         MemorySegment stageSeg = flecs_h.ecs_stage_new(this.worldSeg);
         flecs_h.flecs_poly_release_(stageSeg);
-        return new World(stageSeg, this.componentRegistry);
+        return new World(stageSeg, this.componentRegistry, this.buffers.blobAllocator());
     }
 
     public void freeStage() {
@@ -676,6 +945,9 @@ public class World {
             MemorySegment pathSeg = tempArena.allocate(JAVA_LONG, searchPath.length + 1);
             MemorySegment.copy(searchPath, 0, pathSeg, JAVA_LONG, 0, searchPath.length);
             MemorySegment oldPathSeg = flecs_h.ecs_set_lookup_path(this.worldSeg, pathSeg);
+            if (this.lookupCache != null) {
+                this.lookupCache.invalidate();
+            }
             if (oldPathSeg.address() == 0) {
                 return new long[0];
             }
@@ -691,7 +963,18 @@ public class World {
     }
 
     public long lookup(String name) {
-        return lookup(name, "::", "::", true);
+        return this.lookup(0, name, true);
+    }
+
+    long lookup(long parentId, String path, boolean recursive) {
+        this.checkDestroyed();
+        if (this.lookupCache != null) {
+            return this.lookupCache.lookup(parentId, path, recursive);
+        }
+
+        MemorySegment pathSeg = this.buffers.stringRing().set(path);
+        MemorySegment sepSeg = this.buffers.stringRing().set("::");
+        return flecs_h.ecs_lookup_path_w_sep(this.worldSeg, parentId, pathSeg, sepSeg, sepSeg, recursive);
     }
 
     public long lookup(String name, String sep, String rootSep, boolean recursive) {
@@ -883,6 +1166,8 @@ public class World {
     public void destroy() {
         if (!this.destroyed) {
             if (this.owned && this.worldSeg != null && this.worldSeg.address() != 0) {
+                this.lookupCache.close();
+                this.componentObserver.destruct();
                 flecs_h.ecs_fini(this.worldSeg);
                 for(World stage : this.stages) {
                     if (stage != null && stage != this) {
@@ -892,6 +1177,10 @@ public class World {
             }
 
             this.buffers.close();
+            // The dtor hooks run by ecs_fini have returned the live blocks, so the slabs can go. Stages share the allocator.
+            if (this.owned) {
+                this.buffers.blobAllocator().close();
+            }
 
             if (this.arena != null) {
                 this.arena.close();
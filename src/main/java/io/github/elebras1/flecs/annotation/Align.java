@@ -0,0 +1,17 @@
+package io.github.elebras1.flecs.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Raises the alignment of a component or field in the generated layout, padding the component size to a multiple
+ * of it. The alignment is also reported to flecs. Column storage and scratch buffers only guarantee a 16-byte
+ * aligned base, so values above 16 are rejected at compile time.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE, ElementType.RECORD_COMPONENT})
+public @interface Align {
+    int value();
+}
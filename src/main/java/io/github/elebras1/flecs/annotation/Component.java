@@ -8,5 +8,27 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.SOURCE)
 @Target(ElementType.TYPE)
 public @interface Component {
-}
 
+    Layout layout() default Layout.DECLARED;
+
+    Trait[] traits() default {};
+
+    enum Layout {
+        DECLARED,
+        PACKED,
+        OPTIMIZED,
+        SOA
+    }
+
+    enum Trait {
+        SPARSE,
+        DONT_FRAGMENT,
+        CAN_TOGGLE,
+        EXCLUSIVE,
+        FINAL,
+        SINGLETON,
+        OVERRIDE,
+        INHERIT,
+        DONT_INHERIT
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.elebras1.flecs.callback;
+
+import io.github.elebras1.flecs.ComponentView;
+
+@FunctionalInterface
+public interface ReplaceHookViewCallback<V extends ComponentView> {
+    void invoke(V oldView, V newView);
+}
@@ -0,0 +1,8 @@
+package io.github.elebras1.flecs.callback;
+
+import io.github.elebras1.flecs.ComponentView;
+
+@FunctionalInterface
+public interface XtorViewCallback<V extends ComponentView> {
+    void invoke(V view);
+}
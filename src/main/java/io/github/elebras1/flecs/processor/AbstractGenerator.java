@@ -1,12 +1,27 @@
 package io.github.elebras1.flecs.processor;
 
+import io.github.elebras1.flecs.annotation.Align;
+import io.github.elebras1.flecs.annotation.Blob;
+import io.github.elebras1.flecs.annotation.Component;
+import io.github.elebras1.flecs.annotation.Default;
 import io.github.elebras1.flecs.annotation.FixedArray;
 import io.github.elebras1.flecs.annotation.FixedString;
+import io.github.elebras1.flecs.annotation.Tag;
+import io.github.elebras1.flecs.annotation.VarString;
+import io.github.elebras1.flecs.util.internal.codegen.LayoutRules;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import static io.github.elebras1.flecs.processor.ComponentGenerator.DEFAULT_STRING_SIZE;
 
@@ -29,6 +44,7 @@ public abstract class AbstractGenerator implements Generator {
             case "float" -> "getFloat";
             case "double" -> "getDouble";
             case "boolean" -> "getBoolean";
+            case "char" -> "getChar";
             case "byte[]" -> "getByteArray";
             case "short[]" -> "getShortArray";
             case "int[]" -> "getIntArray";
@@ -64,4 +80,279 @@ public abstract class AbstractGenerator implements Generator {
         }
         throw new IllegalArgumentException("Field '" + field.getSimpleName() + "': Missing @FixedArray annotation for array type.");
     }
+
+    protected boolean isRecord(VariableElement field) {
+        return this.isKind(field.asType(), ElementKind.RECORD);
+    }
+
+    protected boolean isEnum(VariableElement field) {
+        return this.isKind(field.asType(), ElementKind.ENUM);
+    }
+
+    protected boolean isVarString(VariableElement field) {
+        return field.getAnnotation(VarString.class) != null;
+    }
+
+    protected boolean isBlob(VariableElement field) {
+        return field.getAnnotation(Blob.class) != null;
+    }
+
+    // Variable-length fields are stored inline as a handle to an off-heap block.
+    protected boolean isHandle(VariableElement field) {
+        return this.isVarString(field) || this.isBlob(field);
+    }
+
+    protected boolean hasHandles(List<VariableElement> fields) {
+        for (VariableElement field : fields) {
+            if (this.isHandle(field) || (this.isRecord(field) && this.hasHandles(this.getRecordComponents(field)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasFixedStrings(List<VariableElement> fields) {
+        for (VariableElement field : fields) {
+            if (("java.lang.String".equals(field.asType().toString()) && !this.isHandle(field))
+                    || (this.isRecord(field) && this.hasFixedStrings(this.getRecordComponents(field)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasArrays(List<VariableElement> fields) {
+        for (VariableElement field : fields) {
+            if ((field.asType().toString().endsWith("[]") && !this.isHandle(field))
+                    || (this.isRecord(field) && this.hasArrays(this.getRecordComponents(field)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected List<VariableElement> getRecordComponents(VariableElement field) {
+        List<VariableElement> components = new ArrayList<>();
+        Element recordElement = ((DeclaredType) field.asType()).asElement();
+        for (Element e : recordElement.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.RECORD_COMPONENT) {
+                components.add((VariableElement) e);
+            }
+        }
+        return components;
+    }
+
+    static boolean isTag(TypeElement recordElement) {
+        if (recordElement.getAnnotation(Tag.class) != null) {
+            return true;
+        }
+        for (Element e : recordElement.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.RECORD_COMPONENT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean hasDefaults(List<VariableElement> fields) {
+        for (VariableElement field : fields) {
+            if (field.getAnnotation(Default.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean declaresDefault(TypeElement recordElement) {
+        for (Element e : recordElement.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.FIELD && e.getSimpleName().contentEquals("DEFAULT")
+                    && e.getModifiers().contains(Modifier.STATIC) && e.asType().equals(recordElement.asType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Fields without @Default keep the zero value flecs would give them, so the template only differs where asked.
+    protected String defaultLiteral(VariableElement field) {
+        String type = field.asType().toString();
+        Default annotation = field.getAnnotation(Default.class);
+        if (annotation == null) {
+            if (this.isRecord(field)) {
+                throw new IllegalArgumentException("Field '" + field.getSimpleName() + "': nested records are not supported in components with @Default");
+            }
+            if (this.isEnum(field)) {
+                return type + ".values()[0]";
+            }
+            if (type.endsWith("[]")) {
+                return "new " + type.substring(0, type.length() - 2) + "[" + this.getArrayLength(field) + "]";
+            }
+            return switch (type) {
+                case "boolean" -> "false";
+                case "byte", "short", "char" -> "(" + type + ") 0";
+                case "long" -> "0L";
+                case "float" -> "0f";
+                case "double" -> "0d";
+                case "java.lang.String" -> "\"\"";
+                default -> "0";
+            };
+        }
+
+        String value = annotation.value();
+        try {
+            if (this.isEnum(field)) {
+                Element enumElement = ((DeclaredType) field.asType()).asElement();
+                for (Element e : enumElement.getEnclosedElements()) {
+                    if (e.getKind() == ElementKind.ENUM_CONSTANT && e.getSimpleName().contentEquals(value)) {
+                        return type + "." + value;
+                    }
+                }
+                throw new IllegalArgumentException("unknown constant");
+            }
+            return switch (type) {
+                case "boolean" -> {
+                    if (!value.equals("true") && !value.equals("false")) {
+                        throw new IllegalArgumentException("expected true or false");
+                    }
+                    yield value;
+                }
+                case "byte" -> "(byte) " + Byte.parseByte(value);
+                case "short" -> "(short) " + Short.parseShort(value);
+                case "int" -> String.valueOf(Integer.parseInt(value));
+                case "long" -> Long.parseLong(value) + "L";
+                case "float" -> finite(Float.parseFloat(value)) + "f";
+                case "double" -> finite(Double.parseDouble(value)) + "d";
+                case "char" -> {
+                    if (value.length() != 1) {
+                        throw new IllegalArgumentException("expected a single character");
+                    }
+                    yield "(char) " + (int) value.charAt(0);
+                }
+                case "java.lang.String" -> {
+                    if (value.getBytes(StandardCharsets.UTF_8).length >= this.getStringSize(field)) {
+                        throw new IllegalArgumentException("longer than the fixed string size " + this.getStringSize(field));
+                    }
+                    yield stringLiteral(value);
+                }
+                default -> throw new IllegalArgumentException("@Default is not supported on type " + type);
+            };
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Field '" + field.getSimpleName() + "': invalid @Default(\"" + value + "\"): " + e.getMessage());
+        }
+    }
+
+    private static String finite(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("value must be finite");
+        }
+        return String.valueOf(value);
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // Nested record fields are flattened, so their constants are named after the whole path (OFFSET_POS_X).
+    protected String constantName(String prefix, VariableElement field) {
+        return prefix + field.getSimpleName().toString().toUpperCase();
+    }
+
+    protected Component.Layout getLayoutMode(TypeElement recordElement) {
+        Component annotation = recordElement.getAnnotation(Component.class);
+        return annotation != null ? annotation.layout() : Component.Layout.DECLARED;
+    }
+
+    protected Component.Trait[] getTraits(TypeElement recordElement) {
+        Component annotation = recordElement.getAnnotation(Component.class);
+        return annotation != null ? annotation.traits() : new Component.Trait[0];
+    }
+
+    protected int getAlignment(Element element) {
+        Align annotation = element.getAnnotation(Align.class);
+        return annotation != null ? annotation.value() : 0;
+    }
+
+    protected int getTypeAlignment(VariableElement field) {
+        return this.getAlignment(((DeclaredType) field.asType()).asElement());
+    }
+
+    // Sorting by descending alignment removes all interior padding; the sort is stable so ties keep declaration order.
+    protected List<VariableElement> orderFields(List<VariableElement> fields, Component.Layout mode) {
+        if (mode != Component.Layout.OPTIMIZED) {
+            return fields;
+        }
+        List<VariableElement> ordered = new ArrayList<>(fields);
+        ordered.sort(Comparator.comparingLong((VariableElement field) -> this.fieldLayout(field, mode).alignment()).reversed());
+        return ordered;
+    }
+
+    // Placement goes through LayoutRules, the same routine MemoryAccess uses to build the runtime layout.
+    protected LayoutInfo structLayout(List<VariableElement> fields, Component.Layout mode, int typeAlignment) {
+        List<VariableElement> ordered = this.orderFields(fields, mode);
+        long[] sizes = new long[ordered.size()];
+        long[] alignments = new long[ordered.size()];
+        long dataSize = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            LayoutInfo info = this.fieldLayout(ordered.get(i), mode);
+            sizes[i] = info.size();
+            alignments[i] = info.alignment();
+            dataSize += info.dataSize();
+        }
+        long end = LayoutRules.placeFields(sizes, alignments, new long[ordered.size()]);
+        long alignment = LayoutRules.structAlignment(alignments, typeAlignment);
+        return new LayoutInfo(LayoutRules.alignUp(end, alignment), alignment, dataSize);
+    }
+
+    protected LayoutInfo fieldLayout(VariableElement field, Component.Layout mode) {
+        LayoutInfo info;
+        if (this.isRecord(field)) {
+            info = this.structLayout(this.getRecordComponents(field), mode, this.getTypeAlignment(field));
+        } else if (this.isHandle(field)) {
+            info = new LayoutInfo(Long.BYTES, Long.BYTES, Long.BYTES);
+        } else {
+            String type = field.asType().toString();
+            long elementSize = switch (type) {
+                case "byte", "boolean", "byte[]", "boolean[]", "java.lang.String" -> 1L;
+                case "short", "char", "short[]" -> 2L;
+                case "long", "double", "long[]", "double[]" -> 8L;
+                default -> 4L;
+            };
+            long count = 1;
+            if ("java.lang.String".equals(type)) {
+                count = this.getStringSize(field);
+            } else if (type.endsWith("[]")) {
+                count = this.getArrayLength(field);
+            }
+            long alignment = mode == Component.Layout.PACKED ? 1 : elementSize;
+            info = new LayoutInfo(elementSize * count, alignment, elementSize * count);
+        }
+
+        int fieldAlignment = this.getAlignment(field);
+        if (fieldAlignment > info.alignment()) {
+            long size = this.isRecord(field) ? LayoutRules.alignUp(info.size(), fieldAlignment) : info.size();
+            info = new LayoutInfo(size, fieldAlignment, info.dataSize());
+        }
+        return info;
+    }
+
+    protected record LayoutInfo(long size, long alignment, long dataSize) {
+
+        long padding() {
+            return this.size - this.dataSize;
+        }
+    }
+
+    private boolean isKind(TypeMirror type, ElementKind kind) {
+        return type instanceof DeclaredType declaredType && declaredType.asElement().getKind() == kind;
+    }
 }
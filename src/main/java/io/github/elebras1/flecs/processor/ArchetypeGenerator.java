@@ -0,0 +1,111 @@
+package io.github.elebras1.flecs.processor;
+
+import io.github.elebras1.flecs.util.internal.codegen.CodeBuilder;
+import io.github.elebras1.flecs.util.internal.codegen.SourceFile;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import java.util.List;
+
+public class ArchetypeGenerator extends AbstractGenerator {
+
+    private static final String ARCHETYPE_CLASS = "io.github.elebras1.flecs.Archetype";
+    private static final String WORLD_CLASS = "io.github.elebras1.flecs.World";
+
+    @Override
+    public SourceFile generate(TypeElement recordElement, List<VariableElement> fields) {
+        String packageName = this.getPackageName(recordElement);
+        String recordName = recordElement.getSimpleName().toString();
+        String archetypeClassName = recordName + "Archetype";
+
+        CodeBuilder body = new CodeBuilder();
+        body.append("public final class ").append(archetypeClassName).append(" {").newline();
+
+        body.indent4().append("private final Archetype<").append(recordName).append("> archetype;").newline();
+
+        body.newline();
+        body.indent4().append("public ").append(archetypeClassName).append("(World world) {").newline();
+        body.indent8().append("this.archetype = new Archetype<").append(recordName).append(">(world,").newline();
+        body.indent12().append("List.of(");
+        for (int i = 0; i < fields.size(); i++) {
+            body.append(fields.get(i).asType().toString()).append(".class");
+            if (i < fields.size() - 1) body.append(", ");
+        }
+        body.append("),").newline();
+        body.indent12().append("List.of(");
+        for (int i = 0; i < fields.size(); i++) {
+            body.append(recordName).append("::").append(fields.get(i).getSimpleName().toString());
+            if (i < fields.size() - 1) body.append(", ");
+        }
+        body.append("));").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public Archetype<").append(recordName).append("> archetype() {").newline();
+        body.indent8().append("return this.archetype;").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public long spawn(").append(recordName).append(" row) {").newline();
+        body.indent8().append("return this.archetype.spawn(row);").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public long spawn(");
+        for (int i = 0; i < fields.size(); i++) {
+            body.append(fields.get(i).asType().toString()).append(" ").append(fields.get(i).getSimpleName().toString());
+            if (i < fields.size() - 1) body.append(", ");
+        }
+        body.append(") {").newline();
+        body.indent8().append("return this.archetype.spawn(new ").append(recordName).append("(");
+        for (int i = 0; i < fields.size(); i++) {
+            body.append(fields.get(i).getSimpleName().toString());
+            if (i < fields.size() - 1) body.append(", ");
+        }
+        body.append("));").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public long[] spawn(").append(recordName).append(" row, int count) {").newline();
+        body.indent8().append("return this.archetype.spawn(row, count);").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public long[] spawn(List<").append(recordName).append("> rows) {").newline();
+        body.indent8().append("return this.archetype.spawn(rows);").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public ").append(recordName).append(" get(long entityId) {").newline();
+        body.indent8().append("return new ").append(recordName).append("(");
+        for (int i = 0; i < fields.size(); i++) {
+            body.append("this.archetype.get(entityId, ").append(i).append(")");
+            if (i < fields.size() - 1) body.append(", ");
+        }
+        body.append(");").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public void set(long entityId, ").append(recordName).append(" row) {").newline();
+        body.indent8().append("this.archetype.set(entityId, row);").newline();
+        body.indent4().append("}").newline();
+
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            body.newline();
+            body.indent4().append("public ").append(field.asType().toString()).append(" ").append(field.getSimpleName().toString()).append("(long entityId) {").newline();
+            body.indent8().append("return this.archetype.get(entityId, ").append(i).append(");").newline();
+            body.indent4().append("}").newline();
+        }
+
+        body.append("}").newline();
+
+        return SourceFile.builder(packageName, archetypeClassName)
+                .fileComment("Generated by ArchetypeGenerator")
+                .addImport(ARCHETYPE_CLASS)
+                .addImport(WORLD_CLASS)
+                .addImport("java.util.List")
+                .classBody(body.toString())
+                .build();
+    }
+}
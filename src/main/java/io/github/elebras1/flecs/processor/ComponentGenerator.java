@@ -1,9 +1,12 @@
 package io.github.elebras1.flecs.processor;
+import io.github.elebras1.flecs.annotation.Component;
 import io.github.elebras1.flecs.util.internal.codegen.CodeBuilder;
 import io.github.elebras1.flecs.util.internal.codegen.SourceFile;
 
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ComponentGenerator extends AbstractGenerator {
@@ -11,6 +14,10 @@ public class ComponentGenerator extends AbstractGenerator {
 
     @Override
     public SourceFile generate(TypeElement recordElement, List<VariableElement> fields) {
+        return this.generate(recordElement, fields, -1);
+    }
+
+    public SourceFile generate(TypeElement recordElement, List<VariableElement> fields, int index) {
         String packageName = this.getPackageName(recordElement);
         String recordName = recordElement.getSimpleName().toString();
         String componentClassName = recordName + "Component";
@@ -19,10 +26,40 @@ public class ComponentGenerator extends AbstractGenerator {
         body.append("public final class ").append(componentClassName)
                 .append(" implements Component<").append(recordName).append("> {").newline();
 
-        body.append(buildLayoutField(recordName, fields));
+        body.indent4().append("public static final int INDEX = ").append(index).append(";").newline();
+        body.newline();
+
+        body.append(buildLayoutField(recordElement, fields));
+
+        for (VariableElement field : fields) {
+            this.buildConstantFields(body, field, "", "");
+        }
+
+        Component.Layout mode = this.getLayoutMode(recordElement);
+        body.append(buildMembersField(this.isDescribable(recordElement, fields) ? fields : List.of()));
 
+        String defaultValue = this.buildDefaultValue(body, recordElement, fields, mode);
+
+        List<String> blobOffsets = new ArrayList<>();
         for (VariableElement field : fields) {
-            body.append(buildOffsetField(field));
+            this.collectBlobOffsets(blobOffsets, field, "");
+        }
+        if (!blobOffsets.isEmpty()) {
+            body.newline();
+            body.indent4().append("private static final long[] BLOB_OFFSETS = {").append(String.join(", ", blobOffsets)).append("};").newline();
+        }
+
+        Component.Trait[] traits = this.getTraits(recordElement);
+        if (traits.length > 0) {
+            body.newline();
+            body.indent4().append("private static final long[] TRAITS = {");
+            for (int i = 0; i < traits.length; i++) {
+                body.append(this.traitExpression(traits[i]));
+                if (i < traits.length - 1) {
+                    body.append(", ");
+                }
+            }
+            body.append("};").newline();
         }
 
         body.newline();
@@ -40,6 +77,58 @@ public class ComponentGenerator extends AbstractGenerator {
         body.indent8().append("return LAYOUT;").newline();
         body.indent4().append("}").newline();
 
+        body.newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public int index() {").newline();
+        body.indent8().append("return INDEX;").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public List<ComponentMember> members() {").newline();
+        body.indent8().append("return MEMBERS;").newline();
+        body.indent4().append("}").newline();
+
+        if (traits.length > 0) {
+            body.newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public long[] traits() {").newline();
+            body.indent8().append("return TRAITS;").newline();
+            body.indent4().append("}").newline();
+        }
+
+        if (!blobOffsets.isEmpty()) {
+            body.newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public long[] blobOffsets() {").newline();
+            body.indent8().append("return BLOB_OFFSETS;").newline();
+            body.indent4().append("}").newline();
+        }
+
+        if (defaultValue != null) {
+            body.newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public ").append(recordName).append(" defaultValue() {").newline();
+            body.indent8().append("return ").append(defaultValue).append(";").newline();
+            body.indent4().append("}").newline();
+        }
+
+        if (isTag(recordElement)) {
+            body.newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public boolean tag() {").newline();
+            body.indent8().append("return true;").newline();
+            body.indent4().append("}").newline();
+        }
+
+        if (mode == Component.Layout.SOA) {
+            body.newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public boolean soa() {").newline();
+            body.indent8().append("return true;").newline();
+            body.indent4().append("}").newline();
+        }
+
         body.newline();
         body.append(buildWriteMethod(recordName, fields));
 
@@ -64,95 +153,308 @@ public class ComponentGenerator extends AbstractGenerator {
 
         body.append("}").newline();
 
-        return SourceFile.builder(packageName, componentClassName)
+        SourceFile.Builder builder = SourceFile.builder(packageName, componentClassName)
                 .fileComment("Generated by ComponentProcessor")
                 .addImport("io.github.elebras1.flecs.Component")
+                .addImport("io.github.elebras1.flecs.ComponentMember")
                 .addImport("io.github.elebras1.flecs.util.internal.MemoryAccess")
                 .addImport("java.lang.foreign.MemoryLayout")
                 .addImport("java.lang.foreign.MemorySegment")
-                .classBody(body.toString())
-                .build();
+                .addImport("java.util.List");
+        if (traits.length > 0) {
+            builder.addImport("io.github.elebras1.flecs.flecs_h")
+                    .addImport("io.github.elebras1.flecs.util.Flecs");
+        }
+        if (this.hasHandles(fields)) {
+            builder.addImport("io.github.elebras1.flecs.util.internal.BlobAllocator");
+        }
+        return builder.classBody(body.toString()).build();
     }
 
-    private String buildLayoutField(String recordName, List<VariableElement> fields) {
+    private String buildLayoutField(TypeElement recordElement, List<VariableElement> fields) {
+        Component.Layout mode = this.getLayoutMode(recordElement);
+        int alignment = this.getAlignment(recordElement);
+        List<VariableElement> ordered = this.orderFields(fields, mode);
+
         CodeBuilder sb = new CodeBuilder();
-        sb.indent4().append("protected static final MemoryLayout LAYOUT = MemoryAccess.createStructLayout(\"").append(recordName).append("\"");
+        sb.indent4().append("protected static final MemoryLayout LAYOUT = ");
+        if (alignment > 0) {
+            sb.append("MemoryAccess.align(");
+        }
+        sb.append("MemoryAccess.").append(this.structLayoutMethod(mode)).append("(\"").append(recordElement.getSimpleName().toString()).append("\"");
 
-        if (!fields.isEmpty()) {
+        if (!ordered.isEmpty()) {
             sb.append(",").newline();
-            for (int i = 0; i < fields.size(); i++) {
-                VariableElement field = fields.get(i);
-                String fieldName = field.getSimpleName().toString();
-                String type = field.asType().toString();
-                String layoutMethod = this.getLayoutMethod(type);
-
-                sb.indent8().append("MemoryAccess.");
-                if ("java.lang.String".equals(type)) {
-                    sb.append(layoutMethod).append("(").append(this.getStringSize(field)).append(")");
-                } else if (type.endsWith("[]")) {
-                    sb.append(layoutMethod).append("(").append(this.getArrayLength(field)).append(")");
-                } else {
-                    sb.append(layoutMethod).append("()");
-                }
-                sb.append(".withName(\"").append(fieldName).append("\")");
-                if (i < fields.size() - 1) {
+            for (int i = 0; i < ordered.size(); i++) {
+                sb.indent8().append(this.layoutExpression(ordered.get(i), mode));
+                if (i < ordered.size() - 1) {
                     sb.append(",").newline();
                 }
             }
         }
-        sb.append(");").newline();
+        sb.append(")");
+        if (alignment > 0) {
+            sb.append(", ").append(alignment).append(")");
+        }
+        sb.append(";").newline();
         return sb.toString();
     }
 
-    private String buildOffsetField(VariableElement field) {
+    private String layoutExpression(VariableElement field, Component.Layout mode) {
         String fieldName = field.getSimpleName().toString();
-        String constantName = "OFFSET_" + fieldName.toUpperCase();
-        return new CodeBuilder()
-                .indent4().append("protected static final long ").append(constantName)
-                .append(" = MemoryAccess.offsetOf(LAYOUT, \"").append(fieldName).append("\");").newline()
-                .toString();
+        String type = field.asType().toString();
+        int fieldAlignment = this.getAlignment(field);
+        CodeBuilder sb = new CodeBuilder();
+
+        if (fieldAlignment > 0) {
+            sb.append("MemoryAccess.align(");
+        }
+        if (this.isRecord(field)) {
+            String simpleName = ((DeclaredType) field.asType()).asElement().getSimpleName().toString();
+            int typeAlignment = this.getTypeAlignment(field);
+            if (typeAlignment > 0) {
+                sb.append("MemoryAccess.align(");
+            }
+            sb.append("MemoryAccess.").append(this.structLayoutMethod(mode)).append("(\"").append(simpleName).append("\"");
+            for (VariableElement component : this.orderFields(this.getRecordComponents(field), mode)) {
+                sb.append(", ").append(this.layoutExpression(component, mode));
+            }
+            sb.append(")");
+            if (typeAlignment > 0) {
+                sb.append(", ").append(typeAlignment).append(")");
+            }
+        } else if (this.isEnum(field)) {
+            sb.append("MemoryAccess.intLayout()");
+        } else if (this.isHandle(field)) {
+            sb.append("MemoryAccess.longLayout()");
+        } else if ("java.lang.String".equals(type)) {
+            sb.append("MemoryAccess.").append(this.getLayoutMethod(type)).append("(").append(this.getStringSize(field)).append(")");
+        } else if (type.endsWith("[]")) {
+            sb.append("MemoryAccess.").append(this.getLayoutMethod(type)).append("(").append(this.getArrayLength(field)).append(")");
+        } else {
+            sb.append("MemoryAccess.").append(this.getLayoutMethod(type)).append("()");
+        }
+        if (fieldAlignment > 0) {
+            sb.append(", ").append(fieldAlignment).append(")");
+        }
+        sb.append(".withName(\"").append(fieldName).append("\")");
+        return sb.toString();
+    }
+
+    // Returns the expression of the default instance, baked into the constructor template at registration.
+    private String buildDefaultValue(CodeBuilder sb, TypeElement recordElement, List<VariableElement> fields, Component.Layout mode) {
+        String recordName = recordElement.getSimpleName().toString();
+        boolean declared = this.declaresDefault(recordElement);
+        boolean annotated = this.hasDefaults(fields);
+        if (!declared && !annotated) {
+            return null;
+        }
+        if (declared && annotated) {
+            throw new IllegalArgumentException(recordName + " declares both a static DEFAULT and @Default fields");
+        }
+        if (mode == Component.Layout.SOA) {
+            throw new IllegalArgumentException(recordName + ": default values are not supported on SOA components");
+        }
+        // The template is copied byte for byte, which would share one off-heap block between every instance.
+        if (this.hasHandles(fields)) {
+            throw new IllegalArgumentException(recordName + ": default values are not supported on components with @VarString or @Blob fields");
+        }
+        if (declared) {
+            return recordName + ".DEFAULT";
+        }
+
+        sb.newline();
+        sb.indent4().append("public static final ").append(recordName).append(" DEFAULT = new ").append(recordName).append("(");
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append(this.defaultLiteral(fields.get(i)));
+            if (i < fields.size() - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append(");").newline();
+        return "DEFAULT";
+    }
+
+    private String traitExpression(Component.Trait trait) {
+        return switch (trait) {
+            case SPARSE -> "Flecs.Sparse";
+            case DONT_FRAGMENT -> "Flecs.DontFragment";
+            case CAN_TOGGLE -> "Flecs.CanToggle";
+            case EXCLUSIVE -> "Flecs.Exclusive";
+            case FINAL -> "Flecs.Final";
+            case SINGLETON -> "Flecs.Singleton";
+            case OVERRIDE -> "flecs_h.ecs_make_pair(Flecs.OnInstantiate, Flecs.Override)";
+            case INHERIT -> "flecs_h.ecs_make_pair(Flecs.OnInstantiate, Flecs.Inherit)";
+            case DONT_INHERIT -> "flecs_h.ecs_make_pair(Flecs.OnInstantiate, Flecs.DontInherit)";
+        };
     }
 
+    private String structLayoutMethod(Component.Layout mode) {
+        return mode == Component.Layout.PACKED ? "createPackedStructLayout" : "createStructLayout";
+    }
+
+    public String describeLayout(TypeElement recordElement, List<VariableElement> fields) {
+        Component.Layout mode = this.getLayoutMode(recordElement);
+        LayoutInfo info = this.structLayout(fields, mode, this.getAlignment(recordElement));
+        if (mode == Component.Layout.SOA) {
+            return recordElement.getSimpleName() + " (" + mode + "): " + fields.size() + " columns, " + info.dataSize() + " bytes per entity";
+        }
+        return recordElement.getSimpleName() + " (" + mode + "): " + info.size() + " bytes, alignment " + info.alignment() + ", " + info.padding() + " bytes of padding";
+    }
+
+    private void buildConstantFields(CodeBuilder sb, VariableElement field, String prefix, String path) {
+        String fieldName = field.getSimpleName().toString();
+        String constantName = this.constantName(prefix, field);
+        String fieldPath = path.isEmpty() ? "\"" + fieldName + "\"" : path + ", \"" + fieldName + "\"";
+
+        sb.indent4().append("protected static final long OFFSET_").append(constantName)
+                .append(" = MemoryAccess.offsetOf(LAYOUT, ").append(fieldPath).append(");").newline();
+
+        if (this.isRecord(field)) {
+            if (path.isEmpty()) {
+                sb.indent4().append("protected static final long SIZE_").append(constantName)
+                        .append(" = MemoryAccess.sizeOf(LAYOUT, ").append(fieldPath).append(");").newline();
+            }
+            for (VariableElement component : this.getRecordComponents(field)) {
+                this.buildConstantFields(sb, component, constantName + "_", fieldPath);
+            }
+        } else if (this.isEnum(field)) {
+            String type = field.asType().toString();
+            sb.indent4().append("protected static final ").append(type).append("[] VALUES_").append(constantName)
+                    .append(" = ").append(type).append(".values();").newline();
+        }
+    }
+
+    private void collectBlobOffsets(List<String> offsets, VariableElement field, String prefix) {
+        String constantName = this.constantName(prefix, field);
+        if (this.isRecord(field)) {
+            for (VariableElement component : this.getRecordComponents(field)) {
+                this.collectBlobOffsets(offsets, component, constantName + "_");
+            }
+        } else if (this.isHandle(field)) {
+            offsets.add("OFFSET_" + constantName);
+        }
+    }
+
+    // Packed members are not naturally aligned, which the flecs meta addon rejects, so packed components get no metadata.
+    // A handle means nothing to the meta addon, and describing only part of the struct would not match its size.
+    private boolean isDescribable(TypeElement recordElement, List<VariableElement> fields) {
+        Component.Layout mode = this.getLayoutMode(recordElement);
+        return mode != Component.Layout.PACKED && mode != Component.Layout.SOA && !this.hasHandles(fields);
+    }
+
+    // Number of flattened members the component describes to flecs, 0 when it gets no metadata.
+    int memberCount(TypeElement recordElement, List<VariableElement> fields) {
+        return this.isDescribable(recordElement, fields) ? this.collectMembers(fields).size() : 0;
+    }
+
+    private List<String> collectMembers(List<VariableElement> fields) {
+        List<String> members = new ArrayList<>();
+        for (VariableElement field : fields) {
+            this.collectMembers(members, field, "", "");
+        }
+        return members;
+    }
+
+    private String buildMembersField(List<VariableElement> fields) {
+        List<String> members = this.collectMembers(fields);
+
+        CodeBuilder sb = new CodeBuilder();
+        sb.indent4().append("private static final List<ComponentMember> MEMBERS = List.of(");
+        for (int i = 0; i < members.size(); i++) {
+            sb.newline().indent8().append(members.get(i));
+            if (i < members.size() - 1) {
+                sb.append(",");
+            }
+        }
+        sb.append(");").newline();
+        return sb.toString();
+    }
+
+    private void collectMembers(List<String> members, VariableElement field, String namePrefix, String constantPrefix) {
+        String memberName = namePrefix + field.getSimpleName().toString();
+        String constantName = this.constantName(constantPrefix, field);
+
+        if (this.isRecord(field)) {
+            for (VariableElement component : this.getRecordComponents(field)) {
+                this.collectMembers(members, component, memberName + "_", constantName + "_");
+            }
+            return;
+        }
+
+        String type = field.asType().toString();
+        int count = 0;
+        if ("java.lang.String".equals(type)) {
+            count = this.getStringSize(field);
+        } else if (type.endsWith("[]")) {
+            count = this.getArrayLength(field);
+        }
+        String kind = this.isEnum(field) ? "I32" : this.getMemberKind(type);
+        members.add("new ComponentMember(\"" + memberName + "\", ComponentMember.Kind." + kind + ", OFFSET_" + constantName + ", " + count + ")");
+    }
+
+    // Blocks of @VarString and @Blob fields belong to a world, so those components can only be written with its allocator.
     private String buildWriteMethod(String recordName, List<VariableElement> fields) {
         CodeBuilder sb = new CodeBuilder();
         sb.indent4().append("@Override").newline();
         sb.indent4().append("public void write(MemorySegment segment, long offset, ").append(recordName).append(" data) {").newline();
+        if (this.hasHandles(fields)) {
+            sb.indent8().append("throw new UnsupportedOperationException(\"").append(recordName)
+                    .append(" has @VarString or @Blob fields and must be written with the blob allocator of a world\");").newline();
+            sb.indent4().append("}").newline();
+            sb.newline();
+            sb.indent4().append("@Override").newline();
+            sb.indent4().append("public void write(MemorySegment segment, long offset, ").append(recordName)
+                    .append(" data, BlobAllocator blobAllocator) {").newline();
+        }
         for (VariableElement field : fields) {
-            String fieldName = field.getSimpleName().toString();
-            String offsetName = "OFFSET_" + fieldName.toUpperCase();
-            String typeName = field.asType().toString();
-            sb.indent8().append("MemoryAccess.set(segment, offset + ").append(offsetName)
-                    .append(", data.").append(fieldName).append("()");
-            if ("java.lang.String".equals(typeName)) {
-                sb.append(", ").append(this.getStringSize(field));
-            } else if (typeName.endsWith("[]")) {
-                sb.append(", ").append(this.getArrayLength(field));
-            }
-            sb.append(");").newline();
+            this.buildWriteStatements(sb, field, "", "data");
         }
         sb.indent4().append("}").newline();
         return sb.toString();
     }
 
+    private void buildWriteStatements(CodeBuilder sb, VariableElement field, String prefix, String owner) {
+        String fieldName = field.getSimpleName().toString();
+        String constantName = this.constantName(prefix, field);
+        String value = owner + "." + fieldName + "()";
+
+        if (this.isRecord(field)) {
+            for (VariableElement component : this.getRecordComponents(field)) {
+                this.buildWriteStatements(sb, component, constantName + "_", value);
+            }
+            return;
+        }
+
+        if (this.isHandle(field)) {
+            sb.indent8().append("MemoryAccess.").append(this.isBlob(field) ? "setBlob" : "setVarString")
+                    .append("(segment, offset + OFFSET_").append(constantName).append(", ").append(value).append(", blobAllocator);").newline();
+            return;
+        }
+
+        String typeName = field.asType().toString();
+        sb.indent8().append("MemoryAccess.set(segment, offset + OFFSET_").append(constantName).append(", ").append(value);
+        if (this.isEnum(field)) {
+            sb.append(".ordinal()");
+        } else if ("java.lang.String".equals(typeName)) {
+            sb.append(", ").append(this.getStringSize(field));
+        } else if (typeName.endsWith("[]")) {
+            sb.append(", ").append(this.getArrayLength(field));
+        }
+        sb.append(");").newline();
+    }
+
     private String buildReadMethod(String recordName, List<VariableElement> fields) {
         CodeBuilder sb = new CodeBuilder();
         sb.indent4().append("@Override").newline();
         sb.indent4().append("public ").append(recordName).append(" read(MemorySegment segment, long offset) {").newline();
         for (VariableElement field : fields) {
             String fieldName = field.getSimpleName().toString();
-            String offsetName = "OFFSET_" + fieldName.toUpperCase();
             String typeName = field.asType().toString();
-            String getter = this.getGetterMethod(typeName);
             String javaType = "java.lang.String".equals(typeName) ? "String" : typeName;
 
             sb.indent8().append(javaType).append(" ").append(fieldName)
-                    .append(" = MemoryAccess.").append(getter).append("(segment, offset + ").append(offsetName);
-            if ("java.lang.String".equals(typeName)) {
-                sb.append(", ").append(this.getStringSize(field));
-            } else if (typeName.endsWith("[]")) {
-                sb.append(", ").append(this.getArrayLength(field));
-            }
-            sb.append(");").newline();
+                    .append(" = ").append(this.readExpression(field, "")).append(";").newline();
         }
         sb.indent8().append("return new ").append(recordName).append("(");
         for (int i = 0; i < fields.size(); i++) {
@@ -164,6 +466,50 @@ public class ComponentGenerator extends AbstractGenerator {
         return sb.toString();
     }
 
+    private String readExpression(VariableElement field, String prefix) {
+        String constantName = this.constantName(prefix, field);
+        String typeName = field.asType().toString();
+        CodeBuilder sb = new CodeBuilder();
+
+        if (this.isRecord(field)) {
+            List<VariableElement> components = this.getRecordComponents(field);
+            sb.append("new ").append(typeName).append("(");
+            for (int i = 0; i < components.size(); i++) {
+                sb.append(this.readExpression(components.get(i), constantName + "_"));
+                if (i < components.size() - 1) sb.append(", ");
+            }
+            sb.append(")");
+        } else if (this.isHandle(field)) {
+            sb.append("MemoryAccess.").append(this.isBlob(field) ? "getBlob" : "getVarString").append("(segment, offset + OFFSET_").append(constantName).append(")");
+        } else if (this.isEnum(field)) {
+            sb.append("VALUES_").append(constantName).append("[MemoryAccess.getInt(segment, offset + OFFSET_").append(constantName).append(")]");
+        } else {
+            sb.append("MemoryAccess.").append(this.getGetterMethod(typeName)).append("(segment, offset + OFFSET_").append(constantName);
+            if ("java.lang.String".equals(typeName)) {
+                sb.append(", ").append(this.getStringSize(field));
+            } else if (typeName.endsWith("[]")) {
+                sb.append(", ").append(this.getArrayLength(field));
+            }
+            sb.append(")");
+        }
+        return sb.toString();
+    }
+
+    private String getMemberKind(String type) {
+        return switch (type) {
+            case "byte", "byte[]" -> "I8";
+            case "short", "short[]" -> "I16";
+            case "int", "int[]" -> "I32";
+            case "long", "long[]" -> "I64";
+            case "float", "float[]" -> "F32";
+            case "double", "double[]" -> "F64";
+            case "boolean", "boolean[]" -> "BOOL";
+            case "char" -> "U16";
+            case "java.lang.String" -> "CHAR";
+            default -> throw new IllegalArgumentException("Unsupported type: " + type);
+        };
+    }
+
     private String getLayoutMethod(String type) {
         return switch (type) {
             case "byte" -> "byteLayout";
@@ -173,6 +519,7 @@ public class ComponentGenerator extends AbstractGenerator {
             case "float" -> "floatLayout";
             case "double" -> "doubleLayout";
             case "boolean" -> "booleanLayout";
+            case "char" -> "charLayout";
             case "byte[]" -> "byteArrayLayout";
             case "short[]" -> "shortArrayLayout";
             case "int[]" -> "intArrayLayout";
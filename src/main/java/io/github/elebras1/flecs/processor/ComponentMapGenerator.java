@@ -31,17 +31,17 @@ public class ComponentMapGenerator {
         body.indent4().append("private static final Supplier<ComponentView>[] VIEWS;").newline();
 
         body.newline();
-        body.indent4().append("private static final ClassValue<Integer> COMPONENT_INDEX = new ClassValue<Integer>() {").newline();
+        body.indent4().append("private static final ClassValue<Component<?>> COMPONENT = new ClassValue<Component<?>>() {").newline();
         body.indent8().append("@Override").newline();
-        body.indent8().append("protected Integer computeValue(Class<?> clazz) {").newline();
+        body.indent8().append("protected Component<?> computeValue(Class<?> clazz) {").newline();
         for (int i = 0; i < components.size(); i++) {
             TypeElement component = components.get(i);
             String packageName = this.getPackageName(component);
             String recordName = component.getSimpleName().toString();
             String fqn = packageName.isEmpty() ? recordName : packageName + "." + recordName;
-            body.indent12().append("if (clazz == ").append(fqn).append(".class) return ").append(i).append(";").newline();
+            body.indent12().append("if (clazz == ").append(fqn).append(".class) return COMPONENTS[").append(i).append("];").newline();
         }
-        body.indent12().append("return -1;").newline();
+        body.indent12().append("return null;").newline();
         body.indent8().append("}").newline();
         body.indent4().append("};").newline();
 
@@ -62,6 +62,10 @@ public class ComponentMapGenerator {
         for (TypeElement component : components) {
             String packageName = this.getPackageName(component);
             String recordName = component.getSimpleName().toString();
+            if (AbstractGenerator.isTag(component)) {
+                body.indent12().append("null,").newline();
+                continue;
+            }
             String fqn = packageName.isEmpty() ? recordName + "View" : packageName + "." + recordName + "View";
             body.indent12().append(fqn).append("::new,").newline();
         }
@@ -71,6 +75,10 @@ public class ComponentMapGenerator {
         for (TypeElement component : components) {
             String packageName = this.getPackageName(component);
             String recordName = component.getSimpleName().toString();
+            if (AbstractGenerator.isTag(component)) {
+                body.indent12().append("null,").newline();
+                continue;
+            }
             String fqn = packageName.isEmpty() ? recordName + "RowView" : packageName + "." + recordName + "RowView";
             body.indent12().append(fqn).append("::new,").newline();
         }
@@ -84,7 +92,8 @@ public class ComponentMapGenerator {
 
         body.newline();
         body.indent4().append("public static int getIndex(Class<?> componentClass) {").newline();
-        body.indent8().append("return COMPONENT_INDEX.get(componentClass);").newline();
+        body.indent8().append("Component<?> component = COMPONENT.get(componentClass);").newline();
+        body.indent8().append("return component != null ? component.index() : -1;").newline();
         body.indent4().append("}").newline();
 
         body.newline();
@@ -94,20 +103,24 @@ public class ComponentMapGenerator {
 
         body.newline();
         body.indent4().append("public static <T> Component<T> getInstance(Class<T> componentClass) {").newline();
-        body.indent8().append("int index = COMPONENT_INDEX.get(componentClass);").newline();
-        body.indent8().append("return index >= 0 ? (Component<T>) COMPONENTS[index] : null;").newline();
+        body.indent8().append("return (Component<T>) COMPONENT.get(componentClass);").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("public static Component<?> getInstance(int index) {").newline();
+        body.indent8().append("return COMPONENTS[index];").newline();
         body.indent4().append("}").newline();
 
         body.newline();
         body.indent4().append("public static <T> ComponentView getView(Class<T> componentClass) {").newline();
-        body.indent8().append("int index = COMPONENT_INDEX.get(componentClass);").newline();
+        body.indent8().append("int index = getIndex(componentClass);").newline();
         body.indent8().append("Supplier<ComponentView> supplier = index >= 0 ? VIEWS[index] : null;").newline();
         body.indent8().append("return supplier != null ? supplier.get() : null;").newline();
         body.indent4().append("}").newline();
 
         body.newline();
         body.indent4().append("public static <T> ComponentRowView getRowView(Class<T> componentClass) {").newline();
-        body.indent8().append("int index = COMPONENT_INDEX.get(componentClass);").newline();
+        body.indent8().append("int index = getIndex(componentClass);").newline();
         body.indent8().append("Supplier<ComponentRowView> supplier = index >= 0 ? ROW_VIEWS[index] : null;").newline();
         body.indent8().append("return supplier != null ? supplier.get() : null;").newline();
         body.indent4().append("}").newline();
@@ -1,5 +1,12 @@
 package io.github.elebras1.flecs.processor;
 
+import io.github.elebras1.flecs.annotation.Align;
+import io.github.elebras1.flecs.annotation.Blob;
+import io.github.elebras1.flecs.annotation.Component;
+import io.github.elebras1.flecs.annotation.FixedArray;
+import io.github.elebras1.flecs.annotation.FixedString;
+import io.github.elebras1.flecs.annotation.Tag;
+import io.github.elebras1.flecs.annotation.VarString;
 import io.github.elebras1.flecs.util.internal.codegen.SourceFile;
 
 import javax.annotation.processing.*;
@@ -10,18 +17,29 @@ import javax.tools.Diagnostic;
 import java.io.IOException;
 import java.util.*;
 
-@SupportedAnnotationTypes("io.github.elebras1.flecs.annotation.Component")
+@SupportedAnnotationTypes({"io.github.elebras1.flecs.annotation.Component", "io.github.elebras1.flecs.annotation.Archetype"})
+@SupportedOptions(ComponentProcessor.LAYOUT_REPORT_OPTION)
 public class ComponentProcessor extends AbstractProcessor {
 
-    private static final Set<String> SUPPORTED_TYPES = Set.of("byte", "short", "int", "long", "float", "double", "boolean", "byte[]", "short[]", "int[]", "long[]", "float[]", "double[]", "boolean[]", "java.lang.String");
+    // -Aflecs.layoutReport=true prints the size, alignment and padding of every component.
+    static final String LAYOUT_REPORT_OPTION = "flecs.layoutReport";
+    private static final String ARCHETYPE_ANNOTATION = "io.github.elebras1.flecs.annotation.Archetype";
+    // Column storage and scratch buffers only guarantee a 16-byte aligned base.
+    private static final int MAX_ALIGNMENT = 16;
+    // ECS_MEMBER_DESC_CACHE_SIZE of flecs: ecs_struct_init takes at most this many members in one call.
+    private static final int MAX_MEMBERS = 32;
+
+    private static final Set<String> SUPPORTED_TYPES = Set.of("byte", "short", "int", "long", "float", "double", "boolean", "char", "byte[]", "short[]", "int[]", "long[]", "float[]", "double[]", "boolean[]", "java.lang.String");
     private Messager messager;
     private Filer filer;
     private ComponentGenerator componentGenerator;
     private ComponentViewGenerator componentViewGenerator;
     private ComponentRowViewGenerator componentRowViewGenerator;
     private ComponentMapGenerator mapGenerator;
+    private ArchetypeGenerator archetypeGenerator;
     private List<TypeElement> processedComponents;
     private boolean mapGenerated;
+    private boolean layoutReport;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -32,8 +50,10 @@ public class ComponentProcessor extends AbstractProcessor {
         this.componentViewGenerator = new ComponentViewGenerator();
         this.componentRowViewGenerator = new ComponentRowViewGenerator();
         this.mapGenerator = new ComponentMapGenerator();
+        this.archetypeGenerator = new ArchetypeGenerator();
         this.processedComponents = new ArrayList<>();
         this.mapGenerated = false;
+        this.layoutReport = Boolean.parseBoolean(processingEnv.getOptions().get(LAYOUT_REPORT_OPTION));
     }
 
     @Override
@@ -49,6 +69,11 @@ public class ComponentProcessor extends AbstractProcessor {
         }
 
         for (TypeElement annotation : annotations) {
+            if (annotation.getQualifiedName().contentEquals(ARCHETYPE_ANNOTATION)) {
+                this.processArchetypes(roundEnv.getElementsAnnotatedWith(annotation));
+                continue;
+            }
+
             for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
 
                 if (element.getKind() != ElementKind.RECORD) {
@@ -58,7 +83,7 @@ public class ComponentProcessor extends AbstractProcessor {
 
                 try {
                     TypeElement recordElement = (TypeElement) element;
-                    this.processRecord(recordElement);
+                    this.processRecord(recordElement, this.processedComponents.size());
                     this.processedComponents.add(recordElement);
                 } catch (Exception e) {
                     this.messager.printMessage(Diagnostic.Kind.ERROR, "Failed to process @Component: " + e.getMessage(), element);
@@ -79,20 +104,55 @@ public class ComponentProcessor extends AbstractProcessor {
         return true;
     }
 
-    private void processRecord(TypeElement recordElement) throws IOException {
+    private void processRecord(TypeElement recordElement, int index) throws IOException {
 
         List<VariableElement> fields = this.extractRecordComponents(recordElement);
+        Component.Layout mode = recordElement.getAnnotation(Component.class).layout();
+
+        if (recordElement.getAnnotation(Tag.class) != null && !fields.isEmpty()) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@Tag records cannot have fields", recordElement);
+            return;
+        }
+
+        if (!this.validateTraits(recordElement, mode)) {
+            return;
+        }
+
+        if (!this.validateAlignment(recordElement, mode == Component.Layout.SOA ? mode : Component.Layout.DECLARED)) {
+            return;
+        }
+
+        for (VariableElement field : fields) {
+            if (!this.validateField(field, mode, new HashSet<>())) {
+                return;
+            }
+        }
 
+        Map<String, String> constants = new HashMap<>();
         for (VariableElement field : fields) {
-            if (!isSupportedType(field.asType())) {
-                this.messager.printMessage(Diagnostic.Kind.ERROR, "Unsupported field type '" + field.asType() + "'. Supported: " + String.join(", ", SUPPORTED_TYPES), field);
+            if (!this.validateConstantNames(field, "", "", constants)) {
                 return;
             }
         }
 
-        SourceFile javaComponentFile = this.componentGenerator.generate(recordElement, fields);
+        int memberCount = this.componentGenerator.memberCount(recordElement, fields);
+        if (memberCount > MAX_MEMBERS) {
+            this.messager.printMessage(Diagnostic.Kind.WARNING, "Component has " + memberCount + " members once nested records are flattened, more than the "
+                    + MAX_MEMBERS + " flecs can describe, so it will not be visible to the flecs meta addon (JSON, REST, scripts)", recordElement);
+        }
+
+        if (this.layoutReport) {
+            this.messager.printMessage(Diagnostic.Kind.NOTE, this.componentGenerator.describeLayout(recordElement, fields), recordElement);
+        }
+
+        SourceFile javaComponentFile = this.componentGenerator.generate(recordElement, fields, index);
         javaComponentFile.writeTo(this.filer);
 
+        // Tags have no storage, so there is nothing for a view to point at.
+        if (AbstractGenerator.isTag(recordElement)) {
+            return;
+        }
+
         SourceFile javaComponentViewFile = this.componentViewGenerator.generate(recordElement, fields);
         javaComponentViewFile.writeTo(this.filer);
 
@@ -100,6 +160,54 @@ public class ComponentProcessor extends AbstractProcessor {
         javaComponentRowFile.writeTo(this.filer);
     }
 
+    private void processArchetypes(Set<? extends Element> elements) {
+        for (Element element : elements) {
+            if (element.getKind() != ElementKind.RECORD) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "@Archetype can only be applied to records", element);
+                continue;
+            }
+
+            try {
+                this.processArchetype((TypeElement) element);
+            } catch (Exception e) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Failed to process @Archetype: " + e.getMessage(), element);
+            }
+        }
+    }
+
+    private void processArchetype(TypeElement recordElement) throws IOException {
+        List<VariableElement> fields = this.extractRecordComponents(recordElement);
+
+        if (fields.isEmpty()) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@Archetype record must declare at least one component", recordElement);
+            return;
+        }
+
+        Set<String> componentTypes = new HashSet<>();
+        for (VariableElement field : fields) {
+            Element fieldType = this.processingEnv.getTypeUtils().asElement(field.asType());
+            if (fieldType == null || fieldType.getKind() != ElementKind.RECORD) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Archetype field type '" + field.asType() + "' must be a @Component record", field);
+                return;
+            }
+            if (fieldType.getAnnotation(Component.class) == null) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Archetype field type '" + field.asType() + "' is a record but not annotated with @Component", field);
+                return;
+            }
+            if (!componentTypes.add(field.asType().toString())) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Component '" + field.asType() + "' appears more than once in the archetype", field);
+                return;
+            }
+            if (field.getSimpleName().contentEquals("get")) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Archetype field name 'get' is reserved", field);
+                return;
+            }
+        }
+
+        SourceFile javaArchetypeFile = this.archetypeGenerator.generate(recordElement, fields);
+        javaArchetypeFile.writeTo(this.filer);
+    }
+
     private List<VariableElement> extractRecordComponents(TypeElement recordElement) {
         List<VariableElement> components = new ArrayList<>();
         for (Element e : recordElement.getEnclosedElements()) {
@@ -110,6 +218,142 @@ public class ComponentProcessor extends AbstractProcessor {
         return components;
     }
 
+    // Nested records are flattened into the parent layout, so they must be made of supported types all the way down.
+    private boolean validateField(VariableElement field, Component.Layout mode, Set<String> enclosingRecords) {
+        TypeMirror type = field.asType();
+        if (!this.validateAlignment(field, mode)) {
+            return false;
+        }
+        if (!this.validateHandle(field, mode)) {
+            return false;
+        }
+        if (isSupportedType(type)) {
+            return true;
+        }
+
+        Element typeElement = this.processingEnv.getTypeUtils().asElement(type);
+        if (typeElement != null && typeElement.getKind() == ElementKind.ENUM) {
+            return true;
+        }
+
+        if (typeElement != null && typeElement.getKind() == ElementKind.RECORD) {
+            if (mode == Component.Layout.SOA) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "SOA components cannot contain nested records, each field becomes its own column", field);
+                return false;
+            }
+            if (!this.validateAlignment(typeElement, mode)) {
+                return false;
+            }
+            if (!enclosingRecords.add(type.toString())) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Record '" + type + "' cannot contain itself", field);
+                return false;
+            }
+            for (VariableElement component : this.extractRecordComponents((TypeElement) typeElement)) {
+                if (!this.validateField(component, mode, enclosingRecords)) {
+                    return false;
+                }
+            }
+            enclosingRecords.remove(type.toString());
+            return true;
+        }
+
+        this.messager.printMessage(Diagnostic.Kind.ERROR, "Unsupported field type '" + type + "'. Supported: " + String.join(", ", SUPPORTED_TYPES) + ", enums and records", field);
+        return false;
+    }
+
+    private boolean validateHandle(VariableElement field, Component.Layout mode) {
+        boolean varString = field.getAnnotation(VarString.class) != null;
+        boolean blob = field.getAnnotation(Blob.class) != null;
+        if (!varString && !blob) {
+            return true;
+        }
+        String annotation = varString ? "@VarString" : "@Blob";
+        String expected = varString ? "java.lang.String" : "byte[]";
+        if (varString && blob) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@VarString and @Blob cannot be combined", field);
+            return false;
+        }
+        if (!expected.equals(field.asType().toString())) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, annotation + " can only be used on " + (varString ? "String" : "byte[]") + " fields", field);
+            return false;
+        }
+        if (field.getAnnotation(FixedString.class) != null || field.getAnnotation(FixedArray.class) != null) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, annotation + " cannot be combined with a fixed capacity", field);
+            return false;
+        }
+        if (mode == Component.Layout.PACKED || mode == Component.Layout.SOA) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, annotation + " cannot be used in a " + mode + " component", field);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean validateTraits(TypeElement recordElement, Component.Layout mode) {
+        Set<Component.Trait> traits = EnumSet.noneOf(Component.Trait.class);
+        for (Component.Trait trait : recordElement.getAnnotation(Component.class).traits()) {
+            if (!traits.add(trait)) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR, "Duplicate trait " + trait, recordElement);
+                return false;
+            }
+        }
+        if (!traits.isEmpty() && mode == Component.Layout.SOA) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "Traits cannot be applied to a SOA component", recordElement);
+            return false;
+        }
+        traits.retainAll(EnumSet.of(Component.Trait.OVERRIDE, Component.Trait.INHERIT, Component.Trait.DONT_INHERIT));
+        if (traits.size() > 1) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "Only one of OVERRIDE, INHERIT and DONT_INHERIT can be used", recordElement);
+            return false;
+        }
+        return true;
+    }
+
+    // Nested fields are flattened into upper-case constants (OFFSET_POS_X), so pos_x and pos.x, or posX and posx, would
+    // generate the same constant twice.
+    private boolean validateConstantNames(VariableElement field, String constantPrefix, String pathPrefix, Map<String, String> constants) {
+        String constantName = this.componentGenerator.constantName(constantPrefix, field);
+        String path = pathPrefix + field.getSimpleName();
+        String existing = constants.putIfAbsent(constantName, path);
+        if (existing != null) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "Fields '" + existing + "' and '" + path
+                    + "' both generate the constant OFFSET_" + constantName + ", rename one of them", field);
+            return false;
+        }
+        if (this.componentGenerator.isRecord(field)) {
+            for (VariableElement component : this.componentGenerator.getRecordComponents(field)) {
+                if (!this.validateConstantNames(component, constantName + "_", path + ".", constants)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean validateAlignment(Element element, Component.Layout mode) {
+        Align align = element.getAnnotation(Align.class);
+        if (align == null) {
+            return true;
+        }
+        if (align.value() <= 0 || (align.value() & (align.value() - 1)) != 0) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@Align value must be a positive power of 2. Got: " + align.value(), element);
+            return false;
+        }
+        if (align.value() > MAX_ALIGNMENT) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@Align value cannot exceed " + MAX_ALIGNMENT
+                    + ", the alignment guaranteed for component storage. Got: " + align.value(), element);
+            return false;
+        }
+        if (mode == Component.Layout.PACKED) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@Align cannot be used inside a PACKED component", element);
+            return false;
+        }
+        if (mode == Component.Layout.SOA) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "@Align cannot be used on a SOA component", element);
+            return false;
+        }
+        return true;
+    }
+
     private boolean isSupportedType(TypeMirror type) {
         return SUPPORTED_TYPES.contains(type.toString());
     }
@@ -1,5 +1,6 @@
 package io.github.elebras1.flecs.processor;
 
+import io.github.elebras1.flecs.annotation.Component;
 import io.github.elebras1.flecs.util.internal.codegen.CodeBuilder;
 import io.github.elebras1.flecs.util.internal.codegen.SourceFile;
 
@@ -18,6 +19,10 @@ public class ComponentRowViewGenerator extends AbstractGenerator {
         String componentRowViewClassName = recordName + "RowView";
         String componentReference = packageName + "." + recordName + "Component";
 
+        if (this.getLayoutMode(recordElement) == Component.Layout.SOA) {
+            return this.generateColumns(packageName, componentRowViewClassName, componentReference, fields);
+        }
+
         CodeBuilder body = new CodeBuilder();
         body.append("public final class ").append(componentRowViewClassName).append(" implements ComponentRowView {").newline();
 
@@ -63,8 +68,10 @@ public class ComponentRowViewGenerator extends AbstractGenerator {
 
         for (VariableElement field : fields) {
             String fieldName = field.getSimpleName().toString();
-            String offsetName = "OFFSET_" + fieldName.toUpperCase();
-            long byteSize = this.byteSize(field);
+            String offsetName = "OFFSET_" + this.constantName("", field);
+            String byteSize = this.isRecord(field)
+                    ? componentReference + ".SIZE_" + this.constantName("", field)
+                    : this.byteSize(field) + "L";
 
             body.newline();
             body.indent4().append("public long ").append(fieldName).append("Offset() {").newline();
@@ -73,7 +80,89 @@ public class ComponentRowViewGenerator extends AbstractGenerator {
 
             body.newline();
             body.indent4().append("public long ").append(fieldName).append("Size() {").newline();
-            body.indent8().append("return ").append(byteSize).append("L;").newline();
+            body.indent8().append("return ").append(byteSize).append(";").newline();
+            body.indent4().append("}").newline();
+        }
+
+        body.append("}").newline();
+
+        return SourceFile.builder(packageName, componentRowViewClassName)
+                .fileComment("Generated by ComponentRowViewGenerator")
+                .addImport(COMPONENT_ROW_VIEW_INTERFACE)
+                .addImport("java.lang.foreign.MemorySegment")
+                .classBody(body.toString())
+                .build();
+    }
+
+    // Each field lives in its own contiguous column, so rows are addressed per field instead of by stride.
+    private SourceFile generateColumns(String packageName, String componentRowViewClassName, String componentReference, List<VariableElement> fields) {
+        CodeBuilder body = new CodeBuilder();
+        body.append("public final class ").append(componentRowViewClassName).append(" implements ComponentRowView {").newline();
+
+        body.indent4().append("private final MemorySegment[] columns = new MemorySegment[").append(fields.size()).append("];").newline();
+        body.indent4().append("private int count;").newline();
+
+        body.newline();
+        body.indent4().append("/**").newline();
+        body.indent4().append(" * Internal API - Do not use.").newline();
+        body.indent4().append(" */").newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public void setSegment(MemorySegment segment) {").newline();
+        body.indent8().append("throw new UnsupportedOperationException(\"SOA components are stored per column\");").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("/**").newline();
+        body.indent4().append(" * Internal API - Do not use.").newline();
+        body.indent4().append(" */").newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public void setColumn(int column, MemorySegment segment) {").newline();
+        body.indent8().append("this.columns[column] = segment;").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("/**").newline();
+        body.indent4().append(" * Internal API - Do not use.").newline();
+        body.indent4().append(" */").newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public void setCount(int count) {").newline();
+        body.indent8().append("this.count = count;").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public MemorySegment segment() {").newline();
+        body.indent8().append("return this.columns[0];").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public int count() {").newline();
+        body.indent8().append("return this.count;").newline();
+        body.indent4().append("}").newline();
+
+        body.newline();
+        body.indent4().append("@Override").newline();
+        body.indent4().append("public long size() {").newline();
+        body.indent8().append("return ").append(componentReference).append(".LAYOUT.byteSize();").newline();
+        body.indent4().append("}").newline();
+
+        for (int i = 0; i < fields.size(); i++) {
+            String fieldName = fields.get(i).getSimpleName().toString();
+
+            body.newline();
+            body.indent4().append("public MemorySegment ").append(fieldName).append("Column() {").newline();
+            body.indent8().append("return this.columns[").append(i).append("];").newline();
+            body.indent4().append("}").newline();
+
+            body.newline();
+            body.indent4().append("public long ").append(fieldName).append("Offset() {").newline();
+            body.indent8().append("return 0L;").newline();
+            body.indent4().append("}").newline();
+
+            body.newline();
+            body.indent4().append("public long ").append(fieldName).append("Size() {").newline();
+            body.indent8().append("return ").append(this.byteSize(fields.get(i))).append("L;").newline();
             body.indent4().append("}").newline();
         }
 
@@ -88,6 +177,12 @@ public class ComponentRowViewGenerator extends AbstractGenerator {
     }
 
     private long byteSize(VariableElement field) {
+        if (this.isEnum(field)) {
+            return 4L;
+        }
+        if (this.isHandle(field)) {
+            return 8L;
+        }
         return switch (field.asType().toString()) {
             case "byte", "boolean" -> 1L;
             case "short", "char" -> 2L;
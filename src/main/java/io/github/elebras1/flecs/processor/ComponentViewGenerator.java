@@ -1,19 +1,28 @@
 package io.github.elebras1.flecs.processor;
 
+import io.github.elebras1.flecs.annotation.Component;
 import io.github.elebras1.flecs.util.internal.codegen.CodeBuilder;
 import io.github.elebras1.flecs.util.internal.codegen.SourceFile;
 
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ComponentViewGenerator extends AbstractGenerator {
 
     private static final String COMPONENT_VIEW_INTERFACE = "io.github.elebras1.flecs.ComponentView";
     private static final String MEMORY_ACCESS_CLASS = "io.github.elebras1.flecs.util.internal.MemoryAccess";
     private static final String WORLD_CLASS = "io.github.elebras1.flecs.World";
+    private static final String BLOB_STRING_CLASS = "io.github.elebras1.flecs.BlobString";
+    private static final String FIXED_CHARS_CLASS = "io.github.elebras1.flecs.FixedChars";
+    private static final String BLOB_ALLOCATOR_CLASS = "io.github.elebras1.flecs.util.internal.BlobAllocator";
 
     @Override
     public SourceFile generate(TypeElement recordElement, List<VariableElement> fields) {
@@ -25,39 +34,149 @@ public class ComponentViewGenerator extends AbstractGenerator {
         CodeBuilder body = new CodeBuilder();
         body.append("public final class ").append(componentViewClassName).append(" implements ComponentView {").newline();
 
-        body.indent4().append("private long baseAddress;").newline();
+        if (this.getLayoutMode(recordElement) == Component.Layout.SOA) {
+            body.append(this.buildColumnAddresses(fields));
+        } else {
+            body.indent4().append("private long baseAddress;").newline();
 
-        body.newline();
-        body.indent4().append("/**").newline();
-        body.indent4().append(" * Internal API - Do not use.").newline();
-        body.indent4().append(" */").newline();
-        body.indent4().append("@Override").newline();
-        body.indent4().append("public void setBaseAddress(long baseAddress) {").newline();
-        body.indent8().append("this.baseAddress = baseAddress;").newline();
-        body.indent4().append("}").newline();
+            body.newline();
+            body.indent4().append("/**").newline();
+            body.indent4().append(" * Internal API - Do not use.").newline();
+            body.indent4().append(" */").newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public void setBaseAddress(long baseAddress) {").newline();
+            body.indent8().append("this.baseAddress = baseAddress;").newline();
+            body.indent4().append("}").newline();
+        }
 
+        if (this.hasHandles(fields)) {
+            body.newline();
+            body.indent4().append("private BlobAllocator blobAllocator;").newline();
+            body.newline();
+            body.indent4().append("/**").newline();
+            body.indent4().append(" * Internal API - Do not use.").newline();
+            body.indent4().append(" */").newline();
+            body.indent4().append("@Override").newline();
+            body.indent4().append("public void setBlobAllocator(BlobAllocator blobAllocator) {").newline();
+            body.indent8().append("this.blobAllocator = blobAllocator;").newline();
+            body.indent4().append("}").newline();
+        }
+
+        Map<String, String> nestedViews = new LinkedHashMap<>();
+        Map<String, String> nestedViewNames = new HashMap<>();
+        nestedViewNames.put(packageName + "." + recordName, componentViewClassName);
         for (VariableElement field : fields) {
-            body.append(buildFieldMethods(field, componentReference, componentViewClassName));
+            String constantName = this.constantName("", field);
+            String address = this.getLayoutMode(recordElement) == Component.Layout.SOA
+                    ? "this." + field.getSimpleName() + "Address"
+                    : "baseAddress + " + componentReference + ".OFFSET_" + constantName;
+            body.append(buildFieldMethods(field, componentReference, address, constantName, componentViewClassName, nestedViews, nestedViewNames));
+        }
+
+        for (String nestedView : nestedViews.values()) {
+            body.append(nestedView);
         }
 
         body.append("}").newline();
 
-        return SourceFile.builder(packageName, componentViewClassName)
+        SourceFile.Builder builder = SourceFile.builder(packageName, componentViewClassName)
                 .fileComment("Generated by ComponentViewGenerator")
                 .addImport(COMPONENT_VIEW_INTERFACE)
                 .addImport(MEMORY_ACCESS_CLASS)
-                .addImport(WORLD_CLASS)
-                .classBody(body.toString())
-                .build();
+                .addImport(WORLD_CLASS);
+        if (this.hasHandles(fields)) {
+            builder.addImport(BLOB_STRING_CLASS);
+            builder.addImport(BLOB_ALLOCATOR_CLASS);
+        }
+        if (this.hasHandles(fields) || this.hasArrays(fields)) {
+            builder.addImport("java.lang.foreign.MemorySegment");
+        }
+        if (this.hasFixedStrings(fields)) {
+            builder.addImport(FIXED_CHARS_CLASS);
+        }
+        return builder.classBody(body.toString()).build();
+    }
+
+    // A SOA view points at one element of every column instead of a single struct.
+    private String buildColumnAddresses(List<VariableElement> fields) {
+        CodeBuilder sb = new CodeBuilder();
+        for (VariableElement field : fields) {
+            sb.indent4().append("private long ").append(field.getSimpleName().toString()).append("Address;").newline();
+        }
+
+        sb.newline();
+        sb.indent4().append("/**").newline();
+        sb.indent4().append(" * Internal API - Do not use.").newline();
+        sb.indent4().append(" */").newline();
+        sb.indent4().append("@Override").newline();
+        sb.indent4().append("public void setBaseAddress(long baseAddress) {").newline();
+        sb.indent8().append("throw new UnsupportedOperationException(\"SOA components are stored per column\");").newline();
+        sb.indent4().append("}").newline();
+
+        sb.newline();
+        sb.indent4().append("/**").newline();
+        sb.indent4().append(" * Internal API - Do not use.").newline();
+        sb.indent4().append(" */").newline();
+        sb.indent4().append("@Override").newline();
+        sb.indent4().append("public void setColumnAddress(int column, long address) {").newline();
+        sb.indent8().append("switch (column) {").newline();
+        for (int i = 0; i < fields.size(); i++) {
+            sb.indent12().append("case ").append(i).append(" -> this.").append(fields.get(i).getSimpleName().toString()).append("Address = address;").newline();
+        }
+        sb.indent12().append("default -> throw new IndexOutOfBoundsException(\"Invalid column: \" + column);").newline();
+        sb.indent8().append("}").newline();
+        sb.indent4().append("}").newline();
+        return sb.toString();
     }
 
-    private String buildFieldMethods(VariableElement field, String componentReference, String viewType) {
+    private String buildFieldMethods(VariableElement field, String componentReference, String address, String constantName, String viewType, Map<String, String> nestedViews, Map<String, String> nestedViewNames) {
         String fieldName = field.getSimpleName().toString();
-        String offsetName = "OFFSET_" + fieldName.toUpperCase();
         String typeName = field.asType().toString();
         CodeBuilder sb = new CodeBuilder();
 
-        if (typeName.endsWith("[]")) {
+        if (this.isRecord(field)) {
+            String nestedViewName = this.nestedViewName(field, nestedViewNames);
+            if (!nestedViews.containsKey(typeName)) {
+                nestedViews.put(typeName, "");
+                nestedViews.put(typeName, this.buildNestedView(field, componentReference, constantName, nestedViewName, nestedViews, nestedViewNames));
+            }
+
+            sb.newline();
+            sb.indent4().append("private final ").append(nestedViewName).append(" ").append(fieldName).append("View = new ").append(nestedViewName).append("();").newline();
+
+            sb.newline();
+            sb.indent4().append("public ").append(nestedViewName).append(" ").append(fieldName).append("() {").newline();
+            sb.indent8().append("this.").append(fieldName).append("View.setBaseAddress(").append(address).append(");").newline();
+            if (this.hasHandles(this.getRecordComponents(field))) {
+                sb.indent8().append("this.").append(fieldName).append("View.blobAllocator = this.blobAllocator;").newline();
+            }
+            sb.indent8().append("return this.").append(fieldName).append("View;").newline();
+            sb.indent4().append("}").newline();
+            return sb.toString();
+        }
+
+        if (this.isVarString(field)) {
+            sb.newline();
+            sb.indent4().append("private final BlobString ").append(fieldName).append("String = new BlobString();").newline();
+
+            sb.newline();
+            sb.indent4().append("public BlobString ").append(fieldName).append("() {").newline();
+            sb.indent8().append("return this.").append(fieldName).append("String.setHandle(MemoryAccess.getLong(World.WHOLE_MEMORY, ").append(address).append("));").newline();
+            sb.indent4().append("}").newline();
+
+            sb.newline();
+            sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("(CharSequence value) {").newline();
+            sb.indent8().append("MemoryAccess.setVarString(World.WHOLE_MEMORY, ").append(address).append(", value, this.blobAllocator);").newline();
+        } else if (this.isBlob(field)) {
+            sb.newline();
+            sb.indent4().append("public MemorySegment ").append(fieldName).append("() {").newline();
+            sb.indent8().append("return MemoryAccess.getBlobSegment(World.WHOLE_MEMORY, ").append(address).append(");").newline();
+            sb.indent4().append("}").newline();
+
+            sb.newline();
+            sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("(MemorySegment value) {").newline();
+            sb.indent8().append("MemoryAccess.setBlob(World.WHOLE_MEMORY, ").append(address).append(", value, this.blobAllocator);").newline();
+        } else if (typeName.endsWith("[]")) {
             int length = this.getArrayLength(field);
             String elementType = this.getElementTypeName(field);
             String suffix = Character.toUpperCase(elementType.charAt(0)) + elementType.substring(1);
@@ -72,38 +191,90 @@ public class ComponentViewGenerator extends AbstractGenerator {
             sb.newline();
             sb.indent4().append("public ").append(elementType).append(" ").append(fieldName).append("(int index) {").newline();
             sb.indent8().append("return MemoryAccess.").append(methodAtIndex)
-                    .append("(World.WHOLE_MEMORY, baseAddress + ").append(componentReference).append(".").append(offsetName).append(", index);").newline();
+                    .append("(World.WHOLE_MEMORY, ").append(address).append(", index);").newline();
+            sb.indent4().append("}").newline();
+
+            // Bulk accessors let whole arrays go through a single copy or a vector load instead of per-element calls.
+            // The slice is kept until the view moves to another element, so repeated calls on one row do not allocate.
+            sb.newline();
+            sb.indent4().append("private MemorySegment ").append(fieldName).append("Segment = MemorySegment.NULL;").newline();
+
+            sb.newline();
+            sb.indent4().append("public MemorySegment ").append(fieldName).append("Segment() {").newline();
+            sb.indent8().append("long address = ").append(address).append(";").newline();
+            sb.indent8().append("if (this.").append(fieldName).append("Segment.address() != address) {").newline();
+            sb.indent12().append("this.").append(fieldName).append("Segment = World.WHOLE_MEMORY.asSlice(address, ")
+                    .append(this.fieldLayout(field, Component.Layout.DECLARED).dataSize()).append("L);").newline();
+            sb.indent8().append("}").newline();
+            sb.indent8().append("return this.").append(fieldName).append("Segment;").newline();
+            sb.indent4().append("}").newline();
+
+            sb.newline();
+            sb.indent4().append("public void ").append(fieldName).append("CopyTo(").append(elementType).append("[] dst, int dstIndex) {").newline();
+            sb.indent8().append("MemoryAccess.copyTo(World.WHOLE_MEMORY, ").append(address)
+                    .append(", dst, dstIndex, ").append(length).append(");").newline();
+            sb.indent4().append("}").newline();
+
+            sb.newline();
+            sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("CopyFrom(").append(elementType).append("[] src, int srcIndex) {").newline();
+            sb.indent8().append("MemoryAccess.copyFrom(World.WHOLE_MEMORY, ").append(address)
+                    .append(", src, srcIndex, ").append(length).append(");").newline();
+            sb.indent8().append("return this;").newline();
             sb.indent4().append("}").newline();
 
             sb.newline();
             sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("(int index, ").append(elementType).append(" value) {").newline();
             sb.indent8().append("MemoryAccess.").append(setterAtIndex)
-                    .append("(World.WHOLE_MEMORY, baseAddress + ").append(componentReference).append(".").append(offsetName).append(", index, value);").newline();
+                    .append("(World.WHOLE_MEMORY, ").append(address).append(", index, value);").newline();
+        } else if (this.isEnum(field)) {
+            sb.newline();
+            sb.indent4().append("public ").append(typeName).append(" ").append(fieldName).append("() {").newline();
+            sb.indent8().append("return ").append(componentReference).append(".VALUES_").append(constantName)
+                    .append("[MemoryAccess.getInt(World.WHOLE_MEMORY, ").append(address).append(")];").newline();
+            sb.indent4().append("}").newline();
+
+            sb.newline();
+            sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("(").append(typeName).append(" value) {").newline();
+            sb.indent8().append("MemoryAccess.set(World.WHOLE_MEMORY, ").append(address).append(", value.ordinal());").newline();
         } else {
             String getter = this.getGetterMethod(typeName);
             String javaType = "java.lang.String".equals(typeName) ? "String" : typeName;
+            // Fixed strings are encoded straight into the slot, so any CharSequence can be assigned without a String.
+            String parameterType = "java.lang.String".equals(typeName) ? "CharSequence" : javaType;
+
+            if ("java.lang.String".equals(typeName)) {
+                sb.newline();
+                sb.indent4().append("private final FixedChars ").append(fieldName).append("Chars = new FixedChars();").newline();
+
+                // Reads the slot in place, for comparisons and hashing in hot loops without decoding a String.
+                sb.newline();
+                sb.indent4().append("public FixedChars ").append(fieldName).append("Chars() {").newline();
+                sb.indent8().append("return this.").append(fieldName).append("Chars.set(").append(address)
+                        .append(", ").append(this.getStringSize(field)).append(");").newline();
+                sb.indent4().append("}").newline();
+            }
 
             sb.newline();
             sb.indent4().append("public ").append(javaType).append(" ").append(fieldName).append("() {").newline();
             if ("java.lang.String".equals(typeName)) {
                 int size = this.getStringSize(field);
                 sb.indent8().append("return MemoryAccess.").append(getter)
-                        .append("(World.WHOLE_MEMORY, baseAddress + ").append(componentReference).append(".").append(offsetName)
+                        .append("(World.WHOLE_MEMORY, ").append(address)
                         .append(", ").append(size).append(");").newline();
             } else {
                 sb.indent8().append("return MemoryAccess.").append(getter)
-                        .append("(World.WHOLE_MEMORY, baseAddress + ").append(componentReference).append(".").append(offsetName).append(");").newline();
+                        .append("(World.WHOLE_MEMORY, ").append(address).append(");").newline();
             }
             sb.indent4().append("}").newline();
 
             sb.newline();
-            sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("(").append(javaType).append(" value) {").newline();
+            sb.indent4().append("public ").append(viewType).append(" ").append(fieldName).append("(").append(parameterType).append(" value) {").newline();
             if ("java.lang.String".equals(typeName)) {
                 int size = this.getStringSize(field);
-                sb.indent8().append("MemoryAccess.set(World.WHOLE_MEMORY, baseAddress + ").append(componentReference).append(".").append(offsetName)
+                sb.indent8().append("MemoryAccess.set(World.WHOLE_MEMORY, ").append(address)
                         .append(", value, ").append(size).append(");").newline();
             } else {
-                sb.indent8().append("MemoryAccess.set(World.WHOLE_MEMORY, baseAddress + ").append(componentReference).append(".").append(offsetName).append(", value);").newline();
+                sb.indent8().append("MemoryAccess.set(World.WHOLE_MEMORY, ").append(address).append(", value);").newline();
             }
         }
         sb.indent4().append("return this;").newline();
@@ -112,6 +283,56 @@ public class ComponentViewGenerator extends AbstractGenerator {
         return sb.toString();
     }
 
+    // Offsets inside a nested view are relative to the first field of that record type; every occurrence shares the same layout.
+    private String buildNestedView(VariableElement field, String componentReference, String constantName, String nestedViewName, Map<String, String> nestedViews, Map<String, String> nestedViewNames) {
+        String baseOffset = componentReference + ".OFFSET_" + constantName;
+        CodeBuilder members = new CodeBuilder();
+        for (VariableElement component : this.getRecordComponents(field)) {
+            String componentConstant = this.constantName(constantName + "_", component);
+            String offset = "(" + componentReference + ".OFFSET_" + componentConstant + " - " + baseOffset + ")";
+            members.append(this.buildFieldMethods(component, componentReference, "baseAddress + " + offset, componentConstant, nestedViewName, nestedViews, nestedViewNames));
+        }
+
+        CodeBuilder sb = new CodeBuilder();
+        sb.newline();
+        sb.indent4().append("public static final class ").append(nestedViewName).append(" {").newline();
+        sb.indent8().append("private long baseAddress;").newline();
+        if (this.hasHandles(this.getRecordComponents(field))) {
+            sb.indent8().append("private BlobAllocator blobAllocator;").newline();
+        }
+        sb.newline();
+        sb.indent8().append("private void setBaseAddress(long baseAddress) {").newline();
+        sb.indent12().append("this.baseAddress = baseAddress;").newline();
+        sb.indent8().append("}").newline();
+        for (String line : members.toString().split("\n")) {
+            if (!line.isEmpty()) {
+                sb.indent4().append(line);
+            }
+            sb.newline();
+        }
+        sb.indent4().append("}").newline();
+        return sb.toString();
+    }
+
+    // A nested @Component record already has a top-level <Name>View, and records from different packages can share
+    // a simple name, so those cases get a distinct member class name; the outer view name is reserved up front.
+    private String nestedViewName(VariableElement field, Map<String, String> nestedViewNames) {
+        String typeName = field.asType().toString();
+        String existing = nestedViewNames.get(typeName);
+        if (existing != null) {
+            return existing;
+        }
+
+        Element recordElement = ((DeclaredType) field.asType()).asElement();
+        String simpleName = recordElement.getSimpleName().toString();
+        String name = recordElement.getAnnotation(Component.class) == null ? simpleName + "View" : simpleName + "FieldView";
+        for (int i = 2; nestedViewNames.containsValue(name); i++) {
+            name = simpleName + "FieldView" + i;
+        }
+        nestedViewNames.put(typeName, name);
+        return name;
+    }
+
     private String getElementTypeName(VariableElement field) {
         TypeMirror typeMirror = field.asType();
         if (typeMirror instanceof ArrayType arrayType) {
@@ -119,4 +340,4 @@ public class ComponentViewGenerator extends AbstractGenerator {
         }
         return typeMirror.toString();
     }
-}
\ No newline at end of file
+}
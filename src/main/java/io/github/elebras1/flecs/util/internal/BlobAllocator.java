@@ -0,0 +1,140 @@
+package io.github.elebras1.flecs.util.internal;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Internal API - Do not use.
+ */
+public final class BlobAllocator implements AutoCloseable {
+
+    public static final long HEADER_SIZE = 8;
+    public static final byte LATIN1 = 0;
+    public static final byte UTF16 = 1;
+
+    private static final MemorySegment MEMORY = MemorySegment.NULL.reinterpret(Long.MAX_VALUE);
+    private static final int MIN_BLOCK_SHIFT = 4;
+    private static final int CLASS_COUNT = 9;
+    private static final long SLAB_SIZE = 64 * 1024;
+    private static final byte LARGE = -1;
+
+    // One allocator per world, shared with its stages; blocks never move between worlds.
+    private final Arena arena;
+    private final long[] freeLists;
+    private final Object[] locks;
+
+    public BlobAllocator() {
+        this.arena = Arena.ofShared();
+        this.freeLists = new long[CLASS_COUNT];
+        this.locks = new Object[CLASS_COUNT];
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    // Block header: int length, byte coder, byte size class. Free blocks reuse the first 8 bytes as the next pointer.
+    public long allocate(int length, byte coder, long byteSize) {
+        long blockSize = HEADER_SIZE + byteSize;
+        int sizeClass = sizeClass(blockSize);
+        long handle;
+        if (sizeClass == LARGE) {
+            handle = FlecsAllocator.malloc(blockSize).address();
+        } else {
+            synchronized (this.locks[sizeClass]) {
+                if (this.freeLists[sizeClass] == 0) {
+                    this.refill(sizeClass);
+                }
+                handle = this.freeLists[sizeClass];
+                this.freeLists[sizeClass] = MEMORY.get(ValueLayout.JAVA_LONG, handle);
+            }
+        }
+        MEMORY.set(ValueLayout.JAVA_INT, handle, length);
+        MEMORY.set(ValueLayout.JAVA_BYTE, handle + 4, coder);
+        MEMORY.set(ValueLayout.JAVA_BYTE, handle + 5, (byte) sizeClass);
+        return handle;
+    }
+
+    public void free(long handle) {
+        if (handle == 0) {
+            return;
+        }
+        int sizeClass = MEMORY.get(ValueLayout.JAVA_BYTE, handle + 5);
+        if (sizeClass == LARGE) {
+            FlecsAllocator.free(MemorySegment.ofAddress(handle));
+            return;
+        }
+        synchronized (this.locks[sizeClass]) {
+            MEMORY.set(ValueLayout.JAVA_LONG, handle, this.freeLists[sizeClass]);
+            this.freeLists[sizeClass] = handle;
+        }
+    }
+
+    public long copy(long handle) {
+        if (handle == 0) {
+            return 0;
+        }
+        long byteSize = byteSize(handle);
+        long copy = this.allocate(length(handle), coder(handle), byteSize);
+        MemorySegment.copy(MEMORY, data(handle), MEMORY, data(copy), byteSize);
+        return copy;
+    }
+
+    // Assigning into a block that is already large enough keeps its slot instead of going through the free list.
+    public long reuse(long handle, int length, byte coder, long byteSize) {
+        if (handle != 0 && capacity(handle) >= byteSize) {
+            MEMORY.set(ValueLayout.JAVA_INT, handle, length);
+            MEMORY.set(ValueLayout.JAVA_BYTE, handle + 4, coder);
+            return handle;
+        }
+        this.free(handle);
+        return this.allocate(length, coder, byteSize);
+    }
+
+    public static int length(long handle) {
+        return handle == 0 ? 0 : MEMORY.get(ValueLayout.JAVA_INT, handle);
+    }
+
+    public static byte coder(long handle) {
+        return handle == 0 ? LATIN1 : MEMORY.get(ValueLayout.JAVA_BYTE, handle + 4);
+    }
+
+    public static long byteSize(long handle) {
+        return (long) length(handle) << coder(handle);
+    }
+
+    public static long data(long handle) {
+        return handle + HEADER_SIZE;
+    }
+
+    public static MemorySegment segment(long handle) {
+        return MEMORY.asSlice(data(handle), byteSize(handle));
+    }
+
+    private static long capacity(long handle) {
+        int sizeClass = MEMORY.get(ValueLayout.JAVA_BYTE, handle + 5);
+        return sizeClass == LARGE ? byteSize(handle) : (1L << (sizeClass + MIN_BLOCK_SHIFT)) - HEADER_SIZE;
+    }
+
+    private static int sizeClass(long blockSize) {
+        int shift = Math.max(MIN_BLOCK_SHIFT, 64 - Long.numberOfLeadingZeros(blockSize - 1));
+        int sizeClass = shift - MIN_BLOCK_SHIFT;
+        return sizeClass < CLASS_COUNT ? sizeClass : LARGE;
+    }
+
+    // Slabs live until close: blocks cycle through the free lists, so memory stays bounded by the peak in use.
+    private void refill(int sizeClass) {
+        long blockSize = 1L << (sizeClass + MIN_BLOCK_SHIFT);
+        long slab = this.arena.allocate(SLAB_SIZE, Long.BYTES).address();
+        for (long block = slab + SLAB_SIZE - blockSize; block >= slab; block -= blockSize) {
+            MEMORY.set(ValueLayout.JAVA_LONG, block, this.freeLists[sizeClass]);
+            this.freeLists[sizeClass] = block;
+        }
+    }
+
+    // Frees every slab at once. Called after ecs_fini, whose dtor hooks have returned the live blocks.
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+}
@@ -1,11 +1,16 @@
 package io.github.elebras1.flecs.util.internal;
 
+import io.github.elebras1.flecs.util.internal.codegen.LayoutRules;
+
 import java.lang.foreign.MemoryLayout;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SequenceLayout;
+import java.lang.foreign.StructLayout;
 import java.lang.foreign.ValueLayout;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public final class MemoryAccess {
 
@@ -39,6 +44,10 @@ public final class MemoryAccess {
         return ValueLayout.JAVA_BOOLEAN;
     }
 
+    public static MemoryLayout charLayout() {
+        return ValueLayout.JAVA_CHAR;
+    }
+
     public static MemoryLayout intArrayLayout(int length) {
         return MemoryLayout.sequenceLayout(length, ValueLayout.JAVA_INT);
     }
@@ -72,11 +81,11 @@ public final class MemoryAccess {
     }
 
     public static void set(MemorySegment segment, long offset, float value) {
-        segment.set(ValueLayout.JAVA_FLOAT, offset, value);
+        segment.set(ValueLayout.JAVA_FLOAT_UNALIGNED, offset, value);
     }
 
     public static void set(MemorySegment segment, long offset, double value) {
-        segment.set(ValueLayout.JAVA_DOUBLE, offset, value);
+        segment.set(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset, value);
     }
 
     public static void set(MemorySegment segment, long offset, byte value) {
@@ -84,35 +93,39 @@ public final class MemoryAccess {
     }
 
     public static void set(MemorySegment segment, long offset, short value) {
-        segment.set(ValueLayout.JAVA_SHORT, offset, value);
+        segment.set(ValueLayout.JAVA_SHORT_UNALIGNED, offset, value);
     }
 
     public static void set(MemorySegment segment, long offset, int value) {
-        segment.set(ValueLayout.JAVA_INT, offset, value);
+        segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset, value);
     }
 
     public static void set(MemorySegment segment, long offset, long value) {
-        segment.set(ValueLayout.JAVA_LONG, offset, value);
+        segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, value);
     }
 
     public static void set(MemorySegment segment, long offset, boolean value) {
         segment.set(ValueLayout.JAVA_BOOLEAN, offset, value);
     }
 
+    public static void set(MemorySegment segment, long offset, char value) {
+        segment.set(ValueLayout.JAVA_CHAR_UNALIGNED, offset, value);
+    }
+
     public static void set(MemorySegment segment, long offset, int[] value, int capacity) {
-        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_INT, offset, capacity);
+        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_INT_UNALIGNED, offset, capacity);
     }
 
     public static void set(MemorySegment segment, long offset, long[] value, int capacity) {
-        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_LONG, offset, capacity);
+        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_LONG_UNALIGNED, offset, capacity);
     }
 
     public static void set(MemorySegment segment, long offset, float[] value, int capacity) {
-        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_FLOAT, offset, capacity);
+        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_FLOAT_UNALIGNED, offset, capacity);
     }
 
     public static void set(MemorySegment segment, long offset, double[] value, int capacity) {
-        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_DOUBLE, offset, capacity);
+        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_DOUBLE_UNALIGNED, offset, capacity);
     }
 
     public static void set(MemorySegment segment, long offset, byte[] value, int capacity) {
@@ -120,7 +133,7 @@ public final class MemoryAccess {
     }
 
     public static void set(MemorySegment segment, long offset, short[] value, int capacity) {
-        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_SHORT, offset, capacity);
+        MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_SHORT_UNALIGNED, offset, capacity);
     }
 
     public static void set(MemorySegment segment, long offset, boolean[] value, int capacity) {
@@ -130,24 +143,57 @@ public final class MemoryAccess {
         }
     }
 
-    public static void set(MemorySegment segment, long offset, String value, int capacity) {
-        MemorySegment slice = segment.asSlice(offset, capacity);
-        if (value == null || value.isEmpty()) {
-            slice.set(ValueLayout.JAVA_BYTE, 0, (byte) 0);
-            return;
+    // Encodes straight into the slot; a character that no longer fits is dropped whole so the bytes stay valid UTF-8.
+    public static void set(MemorySegment segment, long offset, CharSequence value, int capacity) {
+        int limit = capacity - 1;
+        int position = 0;
+        int length = value == null ? 0 : value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (position + 1 > limit) {
+                    break;
+                }
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) c);
+            } else if (c < 0x800) {
+                if (position + 2 > limit) {
+                    break;
+                }
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0xC0 | (c >> 6)));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                if (position + 4 > limit) {
+                    break;
+                }
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0xF0 | (codePoint >> 18)));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates become '?', as String.getBytes(UTF_8) does.
+                if (position + 1 > limit) {
+                    break;
+                }
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) '?');
+            } else {
+                if (position + 3 > limit) {
+                    break;
+                }
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0xE0 | (c >> 12)));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                segment.set(ValueLayout.JAVA_BYTE, offset + position++, (byte) (0x80 | (c & 0x3F)));
+            }
         }
-        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
-        int len = Math.min(bytes.length, capacity - 1);
-        MemorySegment.copy(bytes, 0, slice, ValueLayout.JAVA_BYTE, 0, len);
-        slice.set(ValueLayout.JAVA_BYTE, len, (byte) 0);
+        segment.set(ValueLayout.JAVA_BYTE, offset + position, (byte) 0);
     }
 
     public static float getFloat(MemorySegment segment, long offset) {
-        return segment.get(ValueLayout.JAVA_FLOAT, offset);
+        return segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, offset);
     }
 
     public static double getDouble(MemorySegment segment, long offset) {
-        return segment.get(ValueLayout.JAVA_DOUBLE, offset);
+        return segment.get(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset);
     }
 
     public static byte getByte(MemorySegment segment, long offset) {
@@ -155,35 +201,39 @@ public final class MemoryAccess {
     }
 
     public static short getShort(MemorySegment segment, long offset) {
-        return segment.get(ValueLayout.JAVA_SHORT, offset);
+        return segment.get(ValueLayout.JAVA_SHORT_UNALIGNED, offset);
     }
 
     public static int getInt(MemorySegment segment, long offset) {
-        return segment.get(ValueLayout.JAVA_INT, offset);
+        return segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset);
     }
 
     public static long getLong(MemorySegment segment, long offset) {
-        return segment.get(ValueLayout.JAVA_LONG, offset);
+        return segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
     }
 
     public static boolean getBoolean(MemorySegment segment, long offset) {
         return segment.get(ValueLayout.JAVA_BOOLEAN, offset);
     }
 
+    public static char getChar(MemorySegment segment, long offset) {
+        return segment.get(ValueLayout.JAVA_CHAR_UNALIGNED, offset);
+    }
+
     public static int[] getIntArray(MemorySegment segment, long offset, int length) {
-        return segment.asSlice(offset, length * ValueLayout.JAVA_INT.byteSize()).toArray(ValueLayout.JAVA_INT);
+        return segment.asSlice(offset, length * ValueLayout.JAVA_INT_UNALIGNED.byteSize()).toArray(ValueLayout.JAVA_INT_UNALIGNED);
     }
 
     public static long[] getLongArray(MemorySegment segment, long offset, int length) {
-        return segment.asSlice(offset, length * ValueLayout.JAVA_LONG.byteSize()).toArray(ValueLayout.JAVA_LONG);
+        return segment.asSlice(offset, length * ValueLayout.JAVA_LONG_UNALIGNED.byteSize()).toArray(ValueLayout.JAVA_LONG_UNALIGNED);
     }
 
     public static float[] getFloatArray(MemorySegment segment, long offset, int length) {
-        return segment.asSlice(offset, length * ValueLayout.JAVA_FLOAT.byteSize()).toArray(ValueLayout.JAVA_FLOAT);
+        return segment.asSlice(offset, length * ValueLayout.JAVA_FLOAT_UNALIGNED.byteSize()).toArray(ValueLayout.JAVA_FLOAT_UNALIGNED);
     }
 
     public static double[] getDoubleArray(MemorySegment segment, long offset, int length) {
-        return segment.asSlice(offset, length * ValueLayout.JAVA_DOUBLE.byteSize()).toArray(ValueLayout.JAVA_DOUBLE);
+        return segment.asSlice(offset, length * ValueLayout.JAVA_DOUBLE_UNALIGNED.byteSize()).toArray(ValueLayout.JAVA_DOUBLE_UNALIGNED);
     }
 
     public static byte[] getByteArray(MemorySegment segment, long offset, int length) {
@@ -191,7 +241,7 @@ public final class MemoryAccess {
     }
 
     public static short[] getShortArray(MemorySegment segment, long offset, int length) {
-        return segment.asSlice(offset, length * ValueLayout.JAVA_SHORT.byteSize()).toArray(ValueLayout.JAVA_SHORT);
+        return segment.asSlice(offset, length * ValueLayout.JAVA_SHORT_UNALIGNED.byteSize()).toArray(ValueLayout.JAVA_SHORT_UNALIGNED);
     }
 
     public static boolean[] getBooleanArray(MemorySegment segment, long offset, int length) {
@@ -207,36 +257,112 @@ public final class MemoryAccess {
         return segment.asSlice(offset, capacity).getString(0);
     }
 
+    // Variable-length fields store a handle owned by the component; assigning reuses or releases the previous block.
+    public static void setVarString(MemorySegment segment, long offset, CharSequence value, BlobAllocator blobAllocator) {
+        long handle = segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
+        if (value == null || value.isEmpty()) {
+            blobAllocator.free(handle);
+            segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, 0L);
+            return;
+        }
+
+        int length = value.length();
+        byte coder = BlobAllocator.LATIN1;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                coder = BlobAllocator.UTF16;
+                break;
+            }
+        }
+
+        handle = blobAllocator.reuse(handle, length, coder, (long) length << coder);
+        MemorySegment data = BlobAllocator.segment(handle);
+        if (coder == BlobAllocator.LATIN1) {
+            for (int i = 0; i < length; i++) {
+                data.set(ValueLayout.JAVA_BYTE, i, (byte) value.charAt(i));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                data.setAtIndex(ValueLayout.JAVA_CHAR_UNALIGNED, i, value.charAt(i));
+            }
+        }
+        segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, handle);
+    }
+
+    public static String getVarString(MemorySegment segment, long offset) {
+        return varString(segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset));
+    }
+
+    public static String varString(long handle) {
+        if (handle == 0) {
+            return "";
+        }
+        MemorySegment data = BlobAllocator.segment(handle);
+        if (BlobAllocator.coder(handle) == BlobAllocator.LATIN1) {
+            return new String(data.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.ISO_8859_1);
+        }
+        return new String(data.toArray(ValueLayout.JAVA_CHAR_UNALIGNED));
+    }
+
+    public static void setBlob(MemorySegment segment, long offset, byte[] value, BlobAllocator blobAllocator) {
+        setBlob(segment, offset, value == null ? MemorySegment.NULL : MemorySegment.ofArray(value), blobAllocator);
+    }
+
+    public static void setBlob(MemorySegment segment, long offset, MemorySegment value, BlobAllocator blobAllocator) {
+        long handle = segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
+        if (value.byteSize() == 0) {
+            blobAllocator.free(handle);
+            segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, 0L);
+            return;
+        }
+
+        if (value.byteSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Blob too large: " + value.byteSize() + " bytes");
+        }
+        handle = blobAllocator.reuse(handle, (int) value.byteSize(), BlobAllocator.LATIN1, value.byteSize());
+        MemorySegment.copy(value, 0, BlobAllocator.segment(handle), 0, value.byteSize());
+        segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, handle);
+    }
+
+    public static byte[] getBlob(MemorySegment segment, long offset) {
+        return getBlobSegment(segment, offset).toArray(ValueLayout.JAVA_BYTE);
+    }
+
+    public static MemorySegment getBlobSegment(MemorySegment segment, long offset) {
+        long handle = segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
+        return handle == 0 ? MemorySegment.NULL : BlobAllocator.segment(handle);
+    }
+
     public static int getIntAtIndex(MemorySegment segment, long offset, int index) {
-        return segment.get(ValueLayout.JAVA_INT, offset + ((long) index * Integer.BYTES));
+        return segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset + ((long) index * Integer.BYTES));
     }
 
     public static void setIntAtIndex(MemorySegment segment, long offset, int index, int value) {
-        segment.set(ValueLayout.JAVA_INT, offset + ((long) index * Integer.BYTES), value);
+        segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset + ((long) index * Integer.BYTES), value);
     }
 
     public static float getFloatAtIndex(MemorySegment segment, long offset, int index) {
-        return segment.get(ValueLayout.JAVA_FLOAT, offset + ((long) index * Float.BYTES));
+        return segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, offset + ((long) index * Float.BYTES));
     }
 
     public static void setFloatAtIndex(MemorySegment segment, long offset, int index, float value) {
-        segment.set(ValueLayout.JAVA_FLOAT, offset + ((long) index * Float.BYTES), value);
+        segment.set(ValueLayout.JAVA_FLOAT_UNALIGNED, offset + ((long) index * Float.BYTES), value);
     }
 
     public static long getLongAtIndex(MemorySegment segment, long offset, int index) {
-        return segment.get(ValueLayout.JAVA_LONG, offset + ((long) index * Long.BYTES));
+        return segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset + ((long) index * Long.BYTES));
     }
 
     public static void setLongAtIndex(MemorySegment segment, long offset, int index, long value) {
-        segment.set(ValueLayout.JAVA_LONG, offset + ((long) index * Long.BYTES), value);
+        segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset + ((long) index * Long.BYTES), value);
     }
 
     public static double getDoubleAtIndex(MemorySegment segment, long offset, int index) {
-        return segment.get(ValueLayout.JAVA_DOUBLE, offset + ((long) index * Double.BYTES));
+        return segment.get(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset + ((long) index * Double.BYTES));
     }
 
     public static void setDoubleAtIndex(MemorySegment segment, long offset, int index, double value) {
-        segment.set(ValueLayout.JAVA_DOUBLE, offset + ((long) index * Double.BYTES), value);
+        segment.set(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset + ((long) index * Double.BYTES), value);
     }
 
     public static byte getByteAtIndex(MemorySegment segment, long offset, int index) {
@@ -248,11 +374,11 @@ public final class MemoryAccess {
     }
 
     public static short getShortAtIndex(MemorySegment segment, long offset, int index) {
-        return segment.get(ValueLayout.JAVA_SHORT, offset + ((long) index * Short.BYTES));
+        return segment.get(ValueLayout.JAVA_SHORT_UNALIGNED, offset + ((long) index * Short.BYTES));
     }
 
     public static void setShortAtIndex(MemorySegment segment, long offset, int index, short value) {
-        segment.set(ValueLayout.JAVA_SHORT, offset + ((long) index * Short.BYTES), value);
+        segment.set(ValueLayout.JAVA_SHORT_UNALIGNED, offset + ((long) index * Short.BYTES), value);
     }
 
     public static boolean getBooleanAtIndex(MemorySegment segment, long offset, int index) {
@@ -263,43 +389,162 @@ public final class MemoryAccess {
         segment.set(ValueLayout.JAVA_BYTE, offset + index, (byte)(value ? 1 : 0));
     }
 
+    public static void copyTo(MemorySegment segment, long offset, int[] dst, int dstIndex, int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_INT_UNALIGNED, offset, dst, dstIndex, length);
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, int[] src, int srcIndex, int length) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_INT_UNALIGNED, offset, length);
+    }
+
+    public static void copyTo(MemorySegment segment, long offset, long[] dst, int dstIndex, int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_LONG_UNALIGNED, offset, dst, dstIndex, length);
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, long[] src, int srcIndex, int length) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_LONG_UNALIGNED, offset, length);
+    }
+
+    public static void copyTo(MemorySegment segment, long offset, float[] dst, int dstIndex, int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_FLOAT_UNALIGNED, offset, dst, dstIndex, length);
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, float[] src, int srcIndex, int length) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_FLOAT_UNALIGNED, offset, length);
+    }
+
+    public static void copyTo(MemorySegment segment, long offset, double[] dst, int dstIndex, int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_DOUBLE_UNALIGNED, offset, dst, dstIndex, length);
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, double[] src, int srcIndex, int length) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_DOUBLE_UNALIGNED, offset, length);
+    }
+
+    public static void copyTo(MemorySegment segment, long offset, byte[] dst, int dstIndex, int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, dst, dstIndex, length);
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, byte[] src, int srcIndex, int length) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_BYTE, offset, length);
+    }
+
+    public static void copyTo(MemorySegment segment, long offset, short[] dst, int dstIndex, int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_SHORT_UNALIGNED, offset, dst, dstIndex, length);
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, short[] src, int srcIndex, int length) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_SHORT_UNALIGNED, offset, length);
+    }
+
+    public static void copyTo(MemorySegment segment, long offset, boolean[] dst, int dstIndex, int length) {
+        Objects.checkFromIndexSize(dstIndex, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            dst[dstIndex + i] = segment.get(ValueLayout.JAVA_BYTE, offset + i) != 0;
+        }
+    }
+
+    public static void copyFrom(MemorySegment segment, long offset, boolean[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        for (int i = 0; i < length; i++) {
+            segment.set(ValueLayout.JAVA_BYTE, offset + i, (byte) (src[srcIndex + i] ? 1 : 0));
+        }
+    }
+
     public static long offsetOf(MemoryLayout layout, String fieldName) {
         return layout.byteOffset(MemoryLayout.PathElement.groupElement(fieldName));
     }
 
+    public static long offsetOf(MemoryLayout layout, String... path) {
+        return layout.byteOffset(groupPath(path));
+    }
+
+    public static long sizeOf(MemoryLayout layout, String... path) {
+        return layout.select(groupPath(path)).byteSize();
+    }
+
+    private static MemoryLayout.PathElement[] groupPath(String... path) {
+        MemoryLayout.PathElement[] elements = new MemoryLayout.PathElement[path.length];
+        for (int i = 0; i < path.length; i++) {
+            elements[i] = MemoryLayout.PathElement.groupElement(path[i]);
+        }
+        return elements;
+    }
+
     public static MemoryLayout createStructLayout(String name, MemoryLayout... elements) {
+        // An empty record is a flecs tag: no column, no storage.
         if (elements == null || elements.length == 0) {
-            return MemoryLayout.structLayout(
-                    MemoryLayout.paddingLayout(1)
-            ).withName(name);
+            return MemoryLayout.structLayout().withName(name);
         }
+        return placeStruct(name, elements);
+    }
 
-        List<MemoryLayout> layouts = new ArrayList<>();
-        long offset = 0;
-        long maxAlign = 1;
-
-        for (MemoryLayout elem : elements) {
-            long align = elem.byteAlignment();
-            if (align > maxAlign) {
-                maxAlign = align;
-            }
-
-            if (offset % align != 0) {
-                long pad = align - (offset % align);
-                layouts.add(MemoryLayout.paddingLayout(pad));
-                offset += pad;
-            }
+    public static MemoryLayout createPackedStructLayout(String name, MemoryLayout... elements) {
+        if (elements == null || elements.length == 0) {
+            return createStructLayout(name);
+        }
 
-            layouts.add(elem);
-            offset += elem.byteSize();
+        MemoryLayout[] layouts = new MemoryLayout[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            layouts[i] = unaligned(elements[i]);
         }
+        return placeStruct(name, layouts);
+    }
 
-        if (offset % maxAlign != 0) {
-            long pad = maxAlign - (offset % maxAlign);
-            layouts.add(MemoryLayout.paddingLayout(pad));
+    // Offsets come from LayoutRules, which the processor also uses for its layout report.
+    private static MemoryLayout placeStruct(String name, MemoryLayout[] elements) {
+        long[] sizes = new long[elements.length];
+        long[] alignments = new long[elements.length];
+        long[] offsets = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            sizes[i] = elements[i].byteSize();
+            alignments[i] = elements[i].byteAlignment();
         }
+        long end = LayoutRules.placeFields(sizes, alignments, offsets);
+        long size = LayoutRules.alignUp(end, LayoutRules.structAlignment(alignments, 1));
 
+        List<MemoryLayout> layouts = new ArrayList<>();
+        long offset = 0;
+        for (int i = 0; i < elements.length; i++) {
+            if (offsets[i] > offset) {
+                layouts.add(MemoryLayout.paddingLayout(offsets[i] - offset));
+            }
+            layouts.add(elements[i]);
+            offset = offsets[i] + sizes[i];
+        }
+        if (size > offset) {
+            layouts.add(MemoryLayout.paddingLayout(size - offset));
+        }
         return MemoryLayout.structLayout(layouts.toArray(new MemoryLayout[0])).withName(name);
     }
+
+    // Pads the struct to a multiple of the alignment so consecutive rows never share an aligned block.
+    public static MemoryLayout align(MemoryLayout layout, long alignment) {
+        if (layout instanceof StructLayout struct && LayoutRules.alignUp(struct.byteSize(), alignment) != struct.byteSize()) {
+            List<MemoryLayout> layouts = new ArrayList<>(struct.memberLayouts());
+            layouts.add(MemoryLayout.paddingLayout(LayoutRules.alignUp(struct.byteSize(), alignment) - struct.byteSize()));
+            MemoryLayout padded = MemoryLayout.structLayout(layouts.toArray(new MemoryLayout[0]));
+            layout = struct.name().isPresent() ? padded.withName(struct.name().get()) : padded;
+        }
+        return layout.withByteAlignment(Math.max(alignment, layout.byteAlignment()));
+    }
+
+    private static MemoryLayout unaligned(MemoryLayout layout) {
+        MemoryLayout result;
+        if (layout instanceof ValueLayout valueLayout) {
+            result = valueLayout.withByteAlignment(1);
+        } else if (layout instanceof SequenceLayout sequenceLayout) {
+            result = MemoryLayout.sequenceLayout(sequenceLayout.elementCount(), unaligned(sequenceLayout.elementLayout()));
+        } else if (layout instanceof StructLayout structLayout) {
+            MemoryLayout[] members = new MemoryLayout[structLayout.memberLayouts().size()];
+            for (int i = 0; i < members.length; i++) {
+                members[i] = unaligned(structLayout.memberLayouts().get(i));
+            }
+            result = MemoryLayout.structLayout(members);
+        } else {
+            return layout;
+        }
+        return layout.name().isPresent() ? result.withName(layout.name().get()) : result;
+    }
 }
 
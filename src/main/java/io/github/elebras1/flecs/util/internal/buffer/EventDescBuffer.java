@@ -0,0 +1,83 @@
+package io.github.elebras1.flecs.util.internal.buffer;
+
+import io.github.elebras1.flecs.ecs_event_desc_t;
+import io.github.elebras1.flecs.ecs_type_t;
+import io.github.elebras1.flecs.util.internal.FlecsAllocator;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+public final class EventDescBuffer implements AutoCloseable {
+    private static final int MAX_DEPTH = 16;
+    private static final long TYPE_OFFSET = ecs_event_desc_t.sizeof();
+    private static final long FRAME_SIZE = TYPE_OFFSET + ecs_type_t.sizeof();
+
+    private final MemorySegment[] frames;
+    private final ComponentBuffer[] ids;
+    private final ComponentBuffer[] payloads;
+    private int depth;
+
+    public EventDescBuffer() {
+        this.frames = new MemorySegment[MAX_DEPTH];
+        this.ids = new ComponentBuffer[MAX_DEPTH];
+        this.payloads = new ComponentBuffer[MAX_DEPTH];
+        this.depth = 0;
+    }
+
+    // Observers may emit while an event is being dispatched, so each nesting level gets its own frame.
+    public MemorySegment push() {
+        if (this.depth >= MAX_DEPTH) {
+            throw new IllegalStateException("Maximum event nesting depth (" + MAX_DEPTH + ") reached");
+        }
+
+        MemorySegment frame = this.frames[this.depth];
+        if (frame == null) {
+            frame = FlecsAllocator.malloc(FRAME_SIZE);
+            this.frames[this.depth] = frame;
+            this.ids[this.depth] = new ComponentBuffer(8 * ValueLayout.JAVA_LONG.byteSize());
+            this.payloads[this.depth] = new ComponentBuffer(64);
+        }
+        this.depth++;
+
+        frame.fill((byte) 0);
+        return frame.asSlice(0, TYPE_OFFSET);
+    }
+
+    public MemorySegment ids(long id) {
+        MemorySegment idsSeg = this.ids[this.depth - 1].ensure(ValueLayout.JAVA_LONG.byteSize());
+        idsSeg.set(ValueLayout.JAVA_LONG, 0, id);
+        return this.type(idsSeg, 1);
+    }
+
+    public MemorySegment ids(long[] ids, int count) {
+        MemorySegment idsSeg = this.ids[this.depth - 1].ensure(count * ValueLayout.JAVA_LONG.byteSize());
+        MemorySegment.copy(ids, 0, idsSeg, ValueLayout.JAVA_LONG, 0, count);
+        return this.type(idsSeg, count);
+    }
+
+    private MemorySegment type(MemorySegment idsSeg, int count) {
+        MemorySegment typeSeg = this.frames[this.depth - 1].asSlice(TYPE_OFFSET, ecs_type_t.sizeof());
+        ecs_type_t.array(typeSeg, idsSeg);
+        ecs_type_t.count(typeSeg, count);
+        return typeSeg;
+    }
+
+    public MemorySegment payload(long size) {
+        return this.payloads[this.depth - 1].ensure(size);
+    }
+
+    public void pop() {
+        this.depth--;
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < MAX_DEPTH; i++) {
+            if (this.frames[i] != null) {
+                FlecsAllocator.free(this.frames[i]);
+                this.ids[i].close();
+                this.payloads[i].close();
+            }
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package io.github.elebras1.flecs.util.internal.buffer;
 
-public record FlecsBuffers(StringRing stringRing, ComponentBuffer componentBuffer, EntityDescBuffer entityDescBuffer) implements AutoCloseable {
+import io.github.elebras1.flecs.util.internal.BlobAllocator;
+
+// The blob allocator is shared between a world and its stages, so the owning world closes it rather than close().
+public record FlecsBuffers(StringRing stringRing, ComponentBuffer componentBuffer, EntityDescBuffer entityDescBuffer, EventDescBuffer eventDescBuffer, ScratchStack scratchStack, BlobAllocator blobAllocator) implements AutoCloseable {
     public FlecsBuffers() {
-        this(new StringRing(8, 64), new ComponentBuffer(256), new EntityDescBuffer());
+        this(new BlobAllocator());
+    }
+
+    public FlecsBuffers(BlobAllocator blobAllocator) {
+        this(new StringRing(8, 64), new ComponentBuffer(256), new EntityDescBuffer(), new EventDescBuffer(), new ScratchStack(), blobAllocator);
     }
 
     @Override
@@ -10,5 +17,7 @@ public record FlecsBuffers(StringRing stringRing, ComponentBuffer componentBuffe
         this.stringRing.close();
         this.componentBuffer.close();
         this.entityDescBuffer.close();
+        this.eventDescBuffer.close();
+        this.scratchStack.close();
     }
 }
@@ -0,0 +1,44 @@
+package io.github.elebras1.flecs.util.internal.buffer;
+
+import java.lang.foreign.MemorySegment;
+
+public final class ScratchStack implements AutoCloseable {
+    private static final int MAX_DEPTH = 16;
+
+    private final ComponentBuffer[] frames;
+    private int depth;
+
+    public ScratchStack() {
+        this.frames = new ComponentBuffer[MAX_DEPTH];
+        this.depth = 0;
+    }
+
+    // Hooks and observers run while a frame is still read by flecs, so nested calls get their own frame.
+    public MemorySegment push(long size) {
+        if (this.depth >= MAX_DEPTH) {
+            throw new IllegalStateException("Maximum scratch nesting depth (" + MAX_DEPTH + ") reached");
+        }
+
+        ComponentBuffer frame = this.frames[this.depth];
+        if (frame == null) {
+            frame = new ComponentBuffer(Math.max(size, 256));
+            this.frames[this.depth] = frame;
+        }
+        this.depth++;
+
+        return frame.ensure(size);
+    }
+
+    public void pop() {
+        this.depth--;
+    }
+
+    @Override
+    public void close() {
+        for (ComponentBuffer frame : this.frames) {
+            if (frame != null) {
+                frame.close();
+            }
+        }
+    }
+}
@@ -23,7 +23,7 @@ public final class StringRing implements AutoCloseable {
         int i = this.cursor;
         this.cursor = (this.cursor + 1) % this.slots.length;
 
-        long needed = value.length() + 1L;
+        long needed = (long) value.length() * 3 + 1L;
         if (needed > this.capacities[i]) {
             FlecsAllocator.free(this.slots[i]);
             this.capacities[i] = Math.max(needed * 2, this.capacities[i] * 2);
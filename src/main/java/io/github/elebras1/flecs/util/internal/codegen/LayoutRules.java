@@ -0,0 +1,32 @@
+package io.github.elebras1.flecs.util.internal.codegen;
+
+// Field placement shared by the runtime layouts (MemoryAccess) and the layout report of the annotation processor, which
+// cannot build a MemoryLayout for a record that is still being compiled. Each field starts at the next multiple of its
+// alignment and the struct size is rounded up to the largest alignment.
+public final class LayoutRules {
+
+    private LayoutRules() {}
+
+    public static long alignUp(long value, long alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    // Writes the offset of each field and returns the end of the last one, before the tail padding.
+    public static long placeFields(long[] sizes, long[] alignments, long[] offsets) {
+        long offset = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            offset = alignUp(offset, alignments[i]);
+            offsets[i] = offset;
+            offset += sizes[i];
+        }
+        return offset;
+    }
+
+    public static long structAlignment(long[] alignments, long minAlignment) {
+        long alignment = Math.max(1, minAlignment);
+        for (long fieldAlignment : alignments) {
+            alignment = Math.max(alignment, fieldAlignment);
+        }
+        return alignment;
+    }
+}
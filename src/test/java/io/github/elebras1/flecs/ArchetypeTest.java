@@ -0,0 +1,113 @@
+package io.github.elebras1.flecs;
+
+import io.github.elebras1.flecs.component.Mass;
+import io.github.elebras1.flecs.component.Mover;
+import io.github.elebras1.flecs.component.MoverArchetype;
+import io.github.elebras1.flecs.component.Position;
+import io.github.elebras1.flecs.component.Velocity;
+import io.github.elebras1.flecs.util.Flecs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchetypeTest {
+
+    private World world;
+
+    @BeforeEach
+    void init() {
+        this.world = new World();
+        this.world.component(Position.class);
+        this.world.component(Velocity.class);
+        this.world.component(Mass.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.world.destroy();
+    }
+
+    @Test
+    void spawn() {
+        MoverArchetype movers = new MoverArchetype(this.world);
+        long e = movers.spawn(new Position(1, 2), new Velocity(3, 4), new Mass(5));
+
+        Entity entity = this.world.obtainEntity(e);
+        assertEquals(new Position(1, 2), entity.get(Position.class));
+        assertEquals(new Velocity(3, 4), entity.get(Velocity.class));
+        assertEquals(new Mass(5), entity.get(Mass.class));
+        assertEquals(3, entity.type().count());
+    }
+
+    @Test
+    void spawnAfterTableDeleted() {
+        MoverArchetype movers = new MoverArchetype(this.world);
+        long[] ids = movers.spawn(new Mover(new Position(1, 1), new Velocity(2, 2), new Mass(3)), 10);
+        for (long id : ids) {
+            this.world.obtainEntity(id).destruct();
+        }
+
+        int deleted = 0;
+        for (int i = 0; i < 3; i++) {
+            deleted += this.world.deleteEmptyTables(0, 1);
+        }
+        assertTrue(deleted > 0);
+
+        long e = movers.spawn(new Position(4, 5), new Velocity(6, 7), new Mass(8));
+        Entity entity = this.world.obtainEntity(e);
+        assertEquals(new Position(4, 5), entity.get(Position.class));
+        assertEquals(new Mass(8), entity.get(Mass.class));
+        assertEquals(1, movers.archetype().table().count());
+    }
+
+    @Test
+    void spawnCount() {
+        MoverArchetype movers = new MoverArchetype(this.world);
+        long[] ids = movers.spawn(new Mover(new Position(1, 1), new Velocity(2, 2), new Mass(3)), 1000);
+
+        assertEquals(1000, ids.length);
+        assertEquals(1000, movers.archetype().table().count());
+        for (long id : ids) {
+            assertEquals(new Velocity(2, 2), this.world.obtainEntity(id).get(Velocity.class));
+        }
+    }
+
+    @Test
+    void spawnRows() {
+        MoverArchetype movers = new MoverArchetype(this.world);
+        List<Mover> rows = List.of(
+                new Mover(new Position(1, 0), new Velocity(0, 0), new Mass(1)),
+                new Mover(new Position(2, 0), new Velocity(0, 0), new Mass(2)),
+                new Mover(new Position(3, 0), new Velocity(0, 0), new Mass(3)));
+
+        long[] ids = movers.spawn(rows);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(rows.get(i), movers.get(ids[i]));
+        }
+    }
+
+    @Test
+    void spawnTriggersOnSet() {
+        AtomicInteger count = new AtomicInteger();
+        this.world.observer().event(Flecs.OnSet).with(Velocity.class).each(entityId -> count.incrementAndGet());
+
+        MoverArchetype movers = new MoverArchetype(this.world);
+        movers.spawn(new Mover(new Position(0, 0), new Velocity(1, 1), new Mass(1)), 10);
+        assertEquals(10, count.get());
+    }
+
+    @Test
+    void rowAccessors() {
+        MoverArchetype movers = new MoverArchetype(this.world);
+        long e = movers.spawn(new Position(1, 2), new Velocity(3, 4), new Mass(5));
+
+        assertEquals(new Position(1, 2), movers.position(e));
+        movers.set(e, new Mover(new Position(6, 7), new Velocity(8, 9), new Mass(10)));
+        assertEquals(new Mover(new Position(6, 7), new Velocity(8, 9), new Mass(10)), movers.get(e));
+    }
+}
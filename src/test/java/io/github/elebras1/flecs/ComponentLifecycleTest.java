@@ -1,8 +1,11 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.component.Particle;
 import io.github.elebras1.flecs.component.Position;
 import io.github.elebras1.flecs.component.PositionView;
+import io.github.elebras1.flecs.component.Stats;
 import io.github.elebras1.flecs.component.Velocity;
+import io.github.elebras1.flecs.component.VelocityView;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -98,6 +101,40 @@ class ComponentLifecycleTest {
         assertEquals(0, this.onAdd.get());
     }
 
+    @Test
+    void viewHooks() {
+        World world2 = new World();
+        AtomicInteger onSetX = new AtomicInteger();
+        world2.component(Velocity.class, hooks -> hooks
+                .ctorView((VelocityView view) -> view.x(1).y(2))
+                .onSetView((VelocityView view) -> onSetX.addAndGet((int) view.x())));
+
+        Entity entity = world2.obtainEntity(world2.entity()).add(Velocity.class);
+        assertEquals(new Velocity(1, 2), entity.get(Velocity.class));
+
+        entity.set(new Velocity(5, 6));
+        assertEquals(5, onSetX.get());
+        world2.destroy();
+    }
+
+    @Test
+    void hooksRejectSoaComponents() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> this.world.component(Particle.class, hooks -> hooks.onSet(particles -> {})));
+        assertTrue(error.getMessage().contains(Particle.class.getName()));
+    }
+
+    @Test
+    void defaultValues() {
+        this.world.component(Stats.class);
+
+        for (int i = 0; i < 100; i++) {
+            this.world.obtainEntity(this.world.entity()).add(Stats.class);
+        }
+        Entity entity = this.world.obtainEntity(this.world.entity()).add(Stats.class).add(Position.class);
+        assertEquals(new Stats(100, 1.5f, 0), entity.get(Stats.class));
+    }
+
     @Test
     void insertWithModified() {
         Entity entity = this.world.obtainEntity(this.world.entity());
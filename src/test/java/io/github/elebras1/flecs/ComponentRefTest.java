@@ -0,0 +1,159 @@
+package io.github.elebras1.flecs;
+
+import io.github.elebras1.flecs.component.Particle;
+import io.github.elebras1.flecs.component.ParticleView;
+import io.github.elebras1.flecs.component.Position;
+import io.github.elebras1.flecs.component.PositionView;
+import io.github.elebras1.flecs.component.Velocity;
+import io.github.elebras1.flecs.util.Flecs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentRefTest {
+
+    private World world;
+
+    @BeforeEach
+    void init() {
+        this.world = new World();
+        this.world.component(Position.class);
+        this.world.component(Velocity.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.world.destroy();
+    }
+
+    @Test
+    void refIsInvalidAfterEntityDeletion() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Position(1, 2));
+        ComponentRef<Position> ref = e.ref(Position.class);
+        assertTrue(ref.has());
+
+        e.destruct();
+        assertFalse(ref.has());
+        assertNull(ref.get());
+        assertNull(ref.getMutView());
+        assertThrows(IllegalStateException.class, () -> ref.set(new Position(3, 4)));
+    }
+
+    @Test
+    void refsDoNotShareState() {
+        Entity first = this.world.obtainEntity(this.world.entity()).set(new Position(1, 2));
+        Entity second = this.world.obtainEntity(this.world.entity()).set(new Position(3, 4));
+        ComponentRef<Position> firstRef = first.ref(Position.class);
+        ComponentRef<Position> secondRef = second.ref(Position.class);
+        ComponentRef<Position> otherFirstRef = first.ref(Position.class);
+
+        firstRef.set(new Position(5, 6));
+        assertEquals(new Position(5, 6), otherFirstRef.get());
+        assertEquals(new Position(3, 4), secondRef.get());
+
+        second.remove(Position.class);
+        assertFalse(secondRef.has());
+        assertTrue(firstRef.has());
+        assertTrue(otherFirstRef.has());
+
+        first.set(new Velocity(1, 1));
+        assertEquals(new Position(5, 6), firstRef.get());
+        assertEquals(new Position(5, 6), otherFirstRef.get());
+    }
+
+    @Test
+    void getFromRef() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Position(10, 20));
+
+        ComponentRef<Position> ref = e.ref(Position.class);
+        Position p = ref.get();
+        assertNotNull(p);
+        assertEquals(10.0f, p.x());
+        assertEquals(20.0f, p.y());
+        assertEquals(e.id(), ref.entity());
+    }
+
+    @Test
+    void refSurvivesTableChange() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Position(10, 20));
+        ComponentRef<Position> ref = e.ref(Position.class);
+
+        e.set(new Velocity(1, 2));
+        this.world.obtainEntity(this.world.entity()).set(new Position(0, 0)).set(new Velocity(0, 0));
+
+        Position p = ref.get();
+        assertNotNull(p);
+        assertEquals(10.0f, p.x());
+        assertEquals(20.0f, p.y());
+    }
+
+    @Test
+    void refAfterRemove() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Position(10, 20));
+        ComponentRef<Position> ref = e.ref(Position.class);
+        assertTrue(ref.has());
+
+        e.remove(Position.class);
+        assertFalse(ref.has());
+        assertNull(ref.get());
+    }
+
+    @Test
+    void setThroughRef() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Position(10, 20));
+        ComponentRef<Position> ref = e.ref(Position.class);
+
+        ref.set(new Position(30, 40));
+
+        Position p = e.get(Position.class);
+        assertEquals(30.0f, p.x());
+        assertEquals(40.0f, p.y());
+    }
+
+    @Test
+    void mutViewFromRef() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Position(10, 20));
+        ComponentRef<Position> ref = e.ref(Position.class);
+
+        PositionView view = ref.getMutView();
+        view.x(50);
+
+        assertEquals(50.0f, e.get(Position.class).x());
+    }
+
+    @Test
+    void soaRef() {
+        this.world.component(Particle.class);
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Particle(1, 2, (byte) 3, 4));
+        ComponentRef<Particle> ref = e.ref(Particle.class);
+
+        assertTrue(ref.has());
+        assertEquals(new Particle(1, 2, (byte) 3, 4), ref.get());
+
+        ParticleView view = ref.getMutView();
+        view.life(40);
+        assertEquals(40, e.get(Particle.class).life());
+
+        e.add(Velocity.class);
+        ref.set(new Particle(5, 6, (byte) 7, 8));
+        assertEquals(new Particle(5, 6, (byte) 7, 8), e.get(Particle.class));
+
+        e.remove(Particle.class);
+        assertFalse(ref.has());
+        assertNull(ref.get());
+        assertNull(ref.getMutView());
+        assertThrows(IllegalArgumentException.class, () -> e.ref(Particle.class, this.world.entity()));
+    }
+
+    @Test
+    void singletonRef() {
+        Entity worldEntity = this.world.obtainEntity(Flecs.World).set(new Position(1, 2));
+        ComponentRef<Position> ref = worldEntity.ref(Position.class);
+
+        Position p = ref.get();
+        assertEquals(1.0f, p.x());
+        assertEquals(2.0f, p.y());
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.elebras1.flecs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicComponentTest {
+
+    private static final MemoryLayout MANA = MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withName("current"),
+            ValueLayout.JAVA_INT.withName("max"),
+            ValueLayout.JAVA_FLOAT.withName("regen"));
+
+    private World world;
+
+    @BeforeEach
+    void init() {
+        this.world = new World();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.world.destroy();
+    }
+
+    @Test
+    void registerDynamicComponent() {
+        DynamicComponent mana = this.world.dynamicComponent("Mana", MANA);
+        assertTrue(mana.id() > 0);
+        assertEquals(12, mana.size());
+        assertEquals(3, mana.members().size());
+        assertSame(mana, this.world.dynamicComponent("Mana", MANA));
+        assertThrows(IllegalArgumentException.class, () -> this.world.dynamicComponent("Mana", MemoryLayout.structLayout(ValueLayout.JAVA_INT.withName("current"))));
+    }
+
+    @Test
+    void setAndGetThroughVarHandles() {
+        DynamicComponent mana = this.world.dynamicComponent("Mana", MANA);
+        VarHandle current = mana.varHandle("current");
+        VarHandle regen = mana.varHandle("regen");
+
+        Entity entity = this.world.obtainEntity(this.world.entity()).insert(mana, segment -> {
+            current.set(segment, 0L, 50);
+            regen.set(segment, 0L, 1.5f);
+        });
+
+        MemorySegment data = entity.get(mana);
+        assertNotNull(data);
+        assertEquals(50, (int) current.get(data, 0L));
+        assertEquals(1.5f, (float) regen.get(data, 0L));
+        assertEquals(50, data.get(ValueLayout.JAVA_INT, mana.offset("current")));
+
+        MemorySegment replacement = MemorySegment.ofArray(new int[]{10, 100, Float.floatToIntBits(2f)});
+        entity.set(mana, replacement);
+        assertEquals(100, (int) mana.varHandle("max").get(entity.get(mana), 0L));
+
+        MemorySegment byId = entity.get(mana.id());
+        assertEquals(10, (int) current.get(byId, 0L));
+
+        entity.remove(mana.id());
+        assertNull(entity.get(mana));
+    }
+
+    @Test
+    void queryDynamicComponent() {
+        DynamicComponent mana = this.world.dynamicComponent("Mana", MANA);
+        VarHandle current = mana.varHandle("current");
+        VarHandle regen = mana.varHandle("regen");
+        for (int i = 0; i < 3; i++) {
+            int value = i * 10;
+            this.world.obtainEntity(this.world.entity()).insert(mana, segment -> {
+                current.set(segment, 0L, value);
+                regen.set(segment, 0L, 2f);
+            });
+        }
+
+        Query query = this.world.query().with(mana.id()).build();
+        query.iter(it -> {
+            Field<MemorySegment> field = it.field(mana, 0);
+            for (int i = 0; i < it.count(); i++) {
+                long address = field.address(i);
+                int value = (int) current.get(World.WHOLE_MEMORY, address);
+                current.set(World.WHOLE_MEMORY, address, value + (int) (float) regen.get(World.WHOLE_MEMORY, address));
+            }
+        });
+
+        int[] total = new int[1];
+        query.iter(it -> {
+            Field<MemorySegment> field = it.field(mana, 0);
+            for (int i = 0; i < it.count(); i++) {
+                total[0] += (int) current.get(field.get(i), 0L);
+            }
+        });
+        assertEquals(36, total[0]);
+
+        query.destroy();
+    }
+}
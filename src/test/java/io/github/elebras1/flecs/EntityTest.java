@@ -1,14 +1,39 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.component.Inventory;
+import io.github.elebras1.flecs.component.InventoryView;
+import io.github.elebras1.flecs.component.Label;
+import io.github.elebras1.flecs.component.LabelView;
 import io.github.elebras1.flecs.component.Mass;
+import io.github.elebras1.flecs.component.Optimized;
+import io.github.elebras1.flecs.component.OptimizedComponent;
+import io.github.elebras1.flecs.component.Packed;
+import io.github.elebras1.flecs.component.PackedComponent;
+import io.github.elebras1.flecs.component.PackedSample;
+import io.github.elebras1.flecs.component.PackedSampleComponent;
+import io.github.elebras1.flecs.component.PackedSampleView;
+import io.github.elebras1.flecs.component.PackedView;
+import io.github.elebras1.flecs.component.Particle;
+import io.github.elebras1.flecs.component.ParticleView;
 import io.github.elebras1.flecs.component.PositionView;
+import io.github.elebras1.flecs.component.Profile;
+import io.github.elebras1.flecs.component.ProfileView;
+import io.github.elebras1.flecs.component.Route;
+import io.github.elebras1.flecs.component.RouteView;
+import io.github.elebras1.flecs.component.Tag;
 import io.github.elebras1.flecs.component.Position;
+import io.github.elebras1.flecs.component.Transform;
+import io.github.elebras1.flecs.component.TransformView;
 import io.github.elebras1.flecs.component.Velocity;
 import io.github.elebras1.flecs.util.Flecs;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -290,6 +315,46 @@ class EntityTest {
         }
     }
 
+    @Test
+    void setAll() {
+        Entity e = this.world.obtainEntity(this.world.entity()).set(new Mass(1));
+
+        AtomicInteger onSet = new AtomicInteger();
+        this.world.observer().event(Flecs.OnSet).with(Position.class).each(entityId -> onSet.incrementAndGet());
+
+        e.setAll(new Position(10, 20), new Velocity(1, 2), new Mass(5));
+
+        assertEquals(new Position(10, 20), e.get(Position.class));
+        assertEquals(new Velocity(1, 2), e.get(Velocity.class));
+        assertEquals(new Mass(5), e.get(Mass.class));
+        assertEquals(1, onSet.get());
+    }
+
+    @Test
+    void addAll() {
+        long tag = this.world.entity();
+        Entity e = this.world.obtainEntity(this.world.entity()).addAll(tag, this.world.component(Position.class));
+        assertTrue(e.has(tag));
+        assertTrue(e.has(Position.class));
+
+        e.addAll(Velocity.class, Mass.class);
+        assertTrue(e.has(Velocity.class));
+        assertTrue(e.has(Mass.class));
+        assertEquals(4, e.type().count());
+    }
+
+    @Test
+    void entityWithComponents() {
+        long e = this.world.entity(new Position(1, 2), new Velocity(3, 4));
+        Entity entity = this.world.obtainEntity(e);
+        assertEquals(new Position(1, 2), entity.get(Position.class));
+        assertEquals(new Velocity(3, 4), entity.get(Velocity.class));
+
+        long e2 = this.world.entity(Position.class, Mass.class);
+        assertTrue(this.world.obtainEntity(e2).has(Position.class));
+        assertTrue(this.world.obtainEntity(e2).has(Mass.class));
+    }
+
     @Test
     void children() {
         Entity parent = this.world.obtainEntity(this.world.entity());
@@ -303,6 +368,102 @@ class EntityTest {
         assertTrue(children.contains(c2));
     }
 
+    @Test
+    void childCount() {
+        Entity parent = this.world.obtainEntity(this.world.entity());
+        assertEquals(0, parent.childCount());
+
+        this.world.obtainEntity(this.world.entity()).childOf(parent);
+        this.world.obtainEntity(this.world.entity()).childOf(parent).add(Position.class);
+        assertEquals(2, parent.childCount());
+    }
+
+    @Test
+    void childrenIntoSegment() {
+        Entity parent = this.world.obtainEntity(this.world.entity());
+        long c1 = this.world.obtainEntity(this.world.entity()).childOf(parent).id();
+        long c2 = this.world.obtainEntity(this.world.entity()).childOf(parent).add(Position.class).id();
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment dst = arena.allocate(ValueLayout.JAVA_LONG, 4);
+            assertEquals(2, parent.childrenInto(dst));
+
+            List<Long> children = List.of(dst.getAtIndex(ValueLayout.JAVA_LONG, 0), dst.getAtIndex(ValueLayout.JAVA_LONG, 1));
+            assertTrue(children.contains(c1));
+            assertTrue(children.contains(c2));
+
+            MemorySegment small = arena.allocate(ValueLayout.JAVA_LONG, 1);
+            assertEquals(2, parent.childrenInto(small));
+            assertTrue(children.contains(small.getAtIndex(ValueLayout.JAVA_LONG, 0)));
+        }
+    }
+
+    @Test
+    void childrenIntoLongBuffer() {
+        Entity parent = this.world.obtainEntity(this.world.entity());
+        long c1 = this.world.obtainEntity(this.world.entity()).childOf(parent).id();
+        long c2 = this.world.obtainEntity(this.world.entity()).childOf(parent).id();
+
+        LongBuffer buffer = LongBuffer.allocate(8);
+        buffer.put(42L);
+        assertEquals(2, parent.childrenInto(buffer));
+        assertEquals(3, buffer.position());
+        assertEquals(42L, buffer.get(0));
+        assertTrue(List.of(buffer.get(1), buffer.get(2)).containsAll(List.of(c1, c2)));
+    }
+
+    @Test
+    void descendantsBreadthFirst() {
+        Entity root = this.world.obtainEntity(this.world.entity());
+        Entity a = this.world.obtainEntity(this.world.entity()).childOf(root);
+        Entity a1 = this.world.obtainEntity(this.world.entity()).childOf(a);
+        Entity a1x = this.world.obtainEntity(this.world.entity()).childOf(a1);
+        Entity b = this.world.obtainEntity(this.world.entity()).childOf(root);
+
+        try (EntityIdBuffer descendants = root.descendants(false)) {
+            assertEquals(4, descendants.size());
+            List<Long> firstLevel = List.of(descendants.get(0), descendants.get(1));
+            assertTrue(firstLevel.containsAll(List.of(a.id(), b.id())));
+            assertEquals(a1.id(), descendants.get(2));
+            assertEquals(a1x.id(), descendants.get(3));
+        }
+    }
+
+    @Test
+    void descendantsDepthFirst() {
+        Entity root = this.world.obtainEntity(this.world.entity());
+        Entity a = this.world.obtainEntity(this.world.entity()).childOf(root);
+        Entity a1 = this.world.obtainEntity(this.world.entity()).childOf(a);
+        Entity a2 = this.world.obtainEntity(this.world.entity()).childOf(a);
+        Entity a1x = this.world.obtainEntity(this.world.entity()).childOf(a1);
+
+        try (EntityIdBuffer descendants = new EntityIdBuffer(1)) {
+            root.descendants(descendants, true);
+            assertEquals(4, descendants.size());
+            assertEquals(a.id(), descendants.get(0));
+
+            int indexA1 = descendants.get(1) == a1.id() ? 1 : 2;
+            assertEquals(a1x.id(), descendants.get(indexA1 + 1));
+
+            root.descendants(descendants, true);
+            assertEquals(4, descendants.size());
+        }
+    }
+
+    @Test
+    void descendantsDepthFirstDeepChain() {
+        Entity root = this.world.obtainEntity(this.world.entity());
+        long parent = root.id();
+        for (int i = 0; i < 100_000; i++) {
+            parent = this.world.obtainEntity(this.world.entity()).childOf(parent).id();
+        }
+
+        try (EntityIdBuffer descendants = root.descendants(true)) {
+            assertEquals(100_000, descendants.size());
+            assertEquals(parent, descendants.get(99_999));
+        }
+    }
+
     @Test
     void lookupChild() {
         Entity parent = this.world.obtainEntity(this.world.entity("parent"));
@@ -390,6 +551,130 @@ class EntityTest {
         this.world.deferEnd();
     }
 
+    @Test
+    void setGetNestedRecord() {
+        this.world.component(Transform.class);
+        Transform transform = new Transform(new Transform.Vec3(1, 2, 3), new Transform.Quat(0, 0, 0, 1),
+                new Transform.Vec3(2, 2, 2), Transform.Layer.OVERLAY, 'k');
+
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(transform);
+
+        assertEquals(transform, entity.get(Transform.class));
+    }
+
+    @Test
+    void nestedViewAccessors() {
+        this.world.component(Transform.class);
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new Transform(new Transform.Vec3(1, 2, 3),
+                new Transform.Quat(0, 0, 0, 1), new Transform.Vec3(1, 1, 1), Transform.Layer.WORLD, 'a'));
+
+        TransformView view = entity.getMutView(Transform.class);
+        assertEquals(2.0f, view.pos().y());
+        assertEquals(1.0f, view.rot().w());
+        assertEquals(Transform.Layer.WORLD, view.layer());
+        assertEquals('a', view.glyph());
+
+        view.pos().x(10).z(30);
+        view.scale().y(5);
+        view.layer(Transform.Layer.BACKGROUND).glyph('z');
+
+        Transform transform = entity.get(Transform.class);
+        assertEquals(new Transform.Vec3(10, 2, 30), transform.pos());
+        assertEquals(new Transform.Vec3(1, 5, 1), transform.scale());
+        assertEquals(Transform.Layer.BACKGROUND, transform.layer());
+        assertEquals('z', transform.glyph());
+    }
+
+    @Test
+    void nestedViewsWithSharedSimpleNames() {
+        this.world.component(Route.class);
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new Route(new Position(1, 2),
+                new io.github.elebras1.flecs.component.geo.Position(45.5, -73.5), new Position(3, 4)));
+
+        RouteView view = entity.getMutView(Route.class);
+        RouteView.PositionFieldView start = view.start();
+        assertEquals(2.0f, start.y());
+        assertEquals(45.5, view.target().latitude());
+        assertEquals(3.0f, view.end().x());
+
+        view.end().x(30);
+        view.target().longitude(10.0);
+        Route route = entity.get(Route.class);
+        assertEquals(new Position(30, 4), route.end());
+        assertEquals(new io.github.elebras1.flecs.component.geo.Position(45.5, 10.0), route.target());
+        assertEquals(new Position(1, 2), route.start());
+    }
+
+    @Test
+    void packedLayout() {
+        assertEquals(18, PackedComponent.getInstance().size());
+        this.world.component(Packed.class);
+
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new Packed((byte) 1, 2L, (byte) 3, 4L));
+        assertEquals(new Packed((byte) 1, 2L, (byte) 3, 4L), entity.get(Packed.class));
+
+        PackedView view = entity.getMutView(Packed.class);
+        view.d(40L);
+        assertEquals(40L, entity.get(Packed.class).d());
+    }
+
+    @Test
+    void packedLayoutUnalignedScalars() {
+        assertEquals(10, PackedSampleComponent.getInstance().size());
+        this.world.component(PackedSample.class);
+
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new PackedSample((byte) 1, 2.5f, (byte) 3, 4));
+        assertEquals(new PackedSample((byte) 1, 2.5f, (byte) 3, 4), entity.get(PackedSample.class));
+
+        PackedSampleView view = entity.getMutView(PackedSample.class);
+        view.weight(7.5f).count(40);
+        assertEquals(new PackedSample((byte) 1, 7.5f, (byte) 3, 40), entity.get(PackedSample.class));
+    }
+
+    @Test
+    void optimizedAlignedLayout() {
+        assertEquals(32, OptimizedComponent.getInstance().size());
+        assertEquals(16, OptimizedComponent.getInstance().alignment());
+        this.world.component(Optimized.class);
+
+        Entity first = this.world.obtainEntity(this.world.entity()).set(new Optimized((byte) 1, 2L, (byte) 3, 4L));
+        Entity second = this.world.obtainEntity(this.world.entity()).set(new Optimized((byte) 5, 6L, (byte) 7, 8L));
+        assertEquals(new Optimized((byte) 1, 2L, (byte) 3, 4L), first.get(Optimized.class));
+        assertEquals(new Optimized((byte) 5, 6L, (byte) 7, 8L), second.get(Optimized.class));
+    }
+
+    @Test
+    void emptyRecordIsTag() {
+        this.world.component(Tag.class);
+        assertEquals(0, this.world.componentRegistry().getComponent(Tag.class).size());
+
+        Entity entity = this.world.obtainEntity(this.world.entity(new Position(1, 2), new Tag()));
+        assertTrue(entity.has(Tag.class));
+        assertEquals(-1, entity.table().columnIndex(Tag.class));
+
+        Entity other = this.world.obtainEntity(this.world.entity()).set(new Tag());
+        assertTrue(other.has(Tag.class));
+        assertNull(other.get(Tag.class));
+    }
+
+    @Test
+    void soaLayout() {
+        this.world.component(Particle.class);
+
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new Particle(1f, 2f, (byte) 3, 4));
+        assertTrue(entity.has(Particle.class));
+        assertEquals(new Particle(1f, 2f, (byte) 3, 4), entity.get(Particle.class));
+
+        ParticleView view = entity.getMutView(Particle.class);
+        view.life(40);
+        assertEquals(40, entity.get(Particle.class).life());
+
+        entity.remove(Particle.class);
+        assertFalse(entity.has(Particle.class));
+        assertNull(entity.get(Particle.class));
+        assertEquals(0, entity.type().count());
+    }
+
     @Test
     void insert() {
         Entity entity = this.world.obtainEntity(this.world.entity());
@@ -453,4 +738,126 @@ class EntityTest {
 
         query.destroy();
     }
+
+    @Test
+    void blobFieldsAreOwnedPerWorld() {
+        World other = new World();
+        other.component(Profile.class);
+        Entity otherEntity = other.obtainEntity(other.entity(new Profile("other", new byte[]{1}, 1)));
+        assertEquals("other", otherEntity.get(Profile.class).name());
+        other.destroy();
+
+        this.world.component(Profile.class);
+        Entity entity = this.world.obtainEntity(this.world.entity(new Profile("kept", new byte[]{2}, 2)));
+        entity.set(new Profile("kept after reuse", new byte[]{3, 4}, 3));
+        assertEquals("kept after reuse", entity.get(Profile.class).name());
+        assertArrayEquals(new byte[]{3, 4}, entity.get(Profile.class).data());
+    }
+
+    @Test
+    void varStringAndBlobFields() {
+        this.world.component(Profile.class);
+        Entity entity = this.world.obtainEntity(this.world.entity(new Profile("Zo\u00eb \u2713", new byte[]{1, 2, 3}, 7)));
+
+        Profile profile = entity.get(Profile.class);
+        assertEquals("Zo\u00eb \u2713", profile.name());
+        assertArrayEquals(new byte[]{1, 2, 3}, profile.data());
+        assertEquals(7, profile.level());
+
+        entity.set(new Profile("short", new byte[0], 8));
+        ProfileView view = entity.getMutView(Profile.class);
+        assertTrue(view.name().contentEquals("short"));
+        assertEquals('h', view.name().charAt(1));
+        assertEquals(0, view.data().byteSize());
+
+        view.name("a name long enough to need a larger block than before");
+        view.data(MemorySegment.ofArray(new byte[]{4, 5}));
+        assertEquals("a name long enough to need a larger block than before", entity.get(Profile.class).name());
+        assertArrayEquals(new byte[]{4, 5}, entity.get(Profile.class).data());
+
+        Entity clone = this.world.obtainEntity(entity.clone(true));
+        entity.set(new Profile("changed", new byte[]{6}, 9));
+        assertEquals("a name long enough to need a larger block than before", clone.get(Profile.class).name());
+        assertArrayEquals(new byte[]{4, 5}, clone.get(Profile.class).data());
+
+        clone.remove(Profile.class);
+        entity.destruct();
+        assertFalse(clone.has(Profile.class));
+    }
+
+    @Test
+    void fixedStringViewAccess() {
+        this.world.component(Label.class);
+        Entity entity = this.world.obtainEntity(this.world.entity(new Label("player", 1)));
+
+        LabelView view = entity.getMutView(Label.class);
+        FixedChars text = view.textChars();
+        assertEquals(6, text.length());
+        assertTrue(text.equalsAscii("player"));
+        assertFalse(text.equalsAscii("players"));
+        assertTrue(text.startsWith("play"));
+        assertFalse(text.startsWith("plan"));
+        assertEquals("player".hashCode(), text.hash());
+        assertEquals('y', text.charAt(3));
+
+        view.text(new StringBuilder("enemy"));
+        assertEquals("enemy", entity.get(Label.class).text());
+        assertTrue(view.textChars().equalsAscii("enemy"));
+
+        view.text("a label longer than its slot");
+        assertEquals("a label longer ", view.text());
+
+        view.text("\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9");
+        assertEquals("\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9", view.text());
+        assertEquals(14, view.textChars().segment().byteSize());
+        assertEquals(view.textChars().length(), view.textChars().toString().length());
+        assertEquals(view.textChars().charAt(1), view.textChars().toString().charAt(1));
+    }
+
+    @Test
+    void fixedArrayBulkAccess() {
+        this.world.component(Inventory.class);
+        Entity entity = this.world.obtainEntity(this.world.entity(new Inventory(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, new float[4])));
+
+        InventoryView view = entity.getMutView(Inventory.class);
+        int[] slots = new int[10];
+        view.slotsCopyTo(slots, 2);
+        assertArrayEquals(new int[]{0, 0, 1, 2, 3, 4, 5, 6, 7, 8}, slots);
+
+        view.weightsCopyFrom(new float[]{9f, 0.5f, 1.5f, 2.5f, 3.5f}, 1);
+        assertArrayEquals(new float[]{0.5f, 1.5f, 2.5f, 3.5f}, entity.get(Inventory.class).weights());
+
+        MemorySegment segment = view.slotsSegment();
+        assertSame(segment, view.slotsSegment());
+        assertEquals(8 * Integer.BYTES, segment.byteSize());
+        segment.setAtIndex(ValueLayout.JAVA_INT_UNALIGNED, 7, 42);
+        assertEquals(42, view.slots(7));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> view.slotsCopyTo(new int[8], 1));
+    }
+
+    @Test
+    void objectComponent() {
+        this.world.objectComponent(StringBuilder.class);
+        StringBuilder tree = new StringBuilder("root");
+        Entity entity = this.world.obtainEntity(this.world.entity()).setObject(StringBuilder.class, tree);
+        assertSame(tree, entity.getObject(StringBuilder.class));
+
+        entity.set(new Position(1, 2));
+        assertSame(tree, entity.getObject(StringBuilder.class));
+
+        Entity clone = this.world.obtainEntity(entity.clone(true));
+        StringBuilder other = new StringBuilder("other");
+        entity.setObject(StringBuilder.class, other);
+        assertSame(other, entity.getObject(StringBuilder.class));
+        assertSame(tree, clone.getObject(StringBuilder.class));
+        assertEquals(2, this.world.componentRegistry().objects().size());
+
+        entity.remove(StringBuilder.class);
+        assertFalse(entity.has(StringBuilder.class));
+        assertNull(entity.getObject(StringBuilder.class));
+
+        clone.destruct();
+        assertEquals(0, this.world.componentRegistry().objects().size());
+    }
 }
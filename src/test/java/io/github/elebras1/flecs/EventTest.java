@@ -1,5 +1,10 @@
 package io.github.elebras1.flecs;
 
+import io.github.elebras1.flecs.component.Particle;
+import io.github.elebras1.flecs.component.ParticleView;
+import io.github.elebras1.flecs.component.Position;
+import io.github.elebras1.flecs.component.PositionView;
+import io.github.elebras1.flecs.component.Velocity;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,6 +100,156 @@ class EventTest {
         assertEquals(1, count.get());
     }
 
+    @Test
+    void entityObserveIgnoresOtherEntities() {
+        long evt = this.world.entity();
+        Entity e1 = this.world.obtainEntity(this.world.entity());
+        Entity e2 = this.world.obtainEntity(this.world.entity());
+
+        AtomicInteger count1 = new AtomicInteger();
+        AtomicInteger count2 = new AtomicInteger();
+        e1.observe(evt, count1::incrementAndGet);
+        e2.observe(evt, count2::incrementAndGet);
+
+        e1.emit(evt);
+        assertEquals(1, count1.get());
+        assertEquals(0, count2.get());
+
+        e2.emit(evt);
+        e2.emit(evt);
+        assertEquals(1, count1.get());
+        assertEquals(2, count2.get());
+    }
+
+    @Test
+    void entityEmitPayload() {
+        this.world.component(Position.class);
+        Entity e = this.world.obtainEntity(this.world.entity());
+
+        List<Position> received = new ArrayList<>();
+        e.observe(Position.class, received::add);
+
+        e.emit(new Position(10, 20));
+        e.emit(new Position(30, 40));
+
+        assertEquals(List.of(new Position(10, 20), new Position(30, 40)), received);
+        assertFalse(e.has(Position.class));
+    }
+
+    @Test
+    void entityEmitPayloadView() {
+        this.world.component(Position.class);
+        Entity e = this.world.obtainEntity(this.world.entity());
+
+        List<Float> xs = new ArrayList<>();
+        e.<PositionView>observeView(Position.class, view -> xs.add(view.x()));
+
+        e.emit(new Position(5, 6));
+        assertEquals(List.of(5.0f), xs);
+    }
+
+    @Test
+    void entityEmitSoaPayloadView() {
+        this.world.component(Particle.class);
+        Entity e = this.world.obtainEntity(this.world.entity());
+
+        List<Integer> lives = new ArrayList<>();
+        e.<ParticleView>observeView(Particle.class, view -> lives.add(view.life() + view.charge()));
+
+        e.emit(new Particle(1, 2, (byte) 3, 40));
+        assertEquals(List.of(43), lives);
+    }
+
+    @Test
+    void entityEnqueuePayload() {
+        this.world.component(Position.class);
+        Entity e = this.world.obtainEntity(this.world.entity());
+
+        List<Position> received = new ArrayList<>();
+        e.observe(Position.class, received::add);
+
+        this.world.deferBegin();
+        e.enqueue(new Position(1, 2));
+        assertTrue(received.isEmpty());
+        this.world.deferEnd();
+
+        assertEquals(List.of(new Position(1, 2)), received);
+    }
+
+    @Test
+    void entityEmitNested() {
+        long evt = this.world.entity();
+        this.world.component(Position.class);
+        Entity e1 = this.world.obtainEntity(this.world.entity());
+        Entity e2 = this.world.obtainEntity(this.world.entity());
+
+        List<Position> received = new ArrayList<>();
+        e1.observe(Position.class, p -> {
+            e2.emit(evt);
+            received.add(p);
+        });
+        AtomicInteger count = new AtomicInteger();
+        e2.observe(evt, count::incrementAndGet);
+
+        e1.emit(new Position(7, 8));
+        assertEquals(1, count.get());
+        assertEquals(List.of(new Position(7, 8)), received);
+    }
+
+    @Test
+    void emitTableRange() {
+        long evt = this.world.entity();
+        long positionId = this.world.component(Position.class);
+        long[] entities = new long[5];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = this.world.obtainEntity(this.world.entity()).set(new Position(i, i)).id();
+        }
+
+        List<Long> ids = new ArrayList<>();
+        this.world.observer().event(evt).with(Position.class).each(ids::add);
+
+        Table table = this.world.obtainEntity(entities[0]).table();
+        this.world.emit(evt, table, 1, 3, positionId);
+
+        assertEquals(List.of(entities[1], entities[2], entities[3]), ids);
+    }
+
+    @Test
+    void emitWholeTable() {
+        long evt = this.world.entity();
+        long positionId = this.world.component(Position.class);
+        for (int i = 0; i < 4; i++) {
+            this.world.obtainEntity(this.world.entity()).set(new Position(i, i));
+        }
+        long e = this.world.obtainEntity(this.world.entity()).set(new Position(0, 0)).id();
+
+        AtomicInteger count = new AtomicInteger();
+        this.world.observer().event(evt).with(Position.class).each(entityId -> count.incrementAndGet());
+
+        this.world.emit(evt, this.world.obtainEntity(e).table(), positionId);
+        assertEquals(5, count.get());
+    }
+
+    @Test
+    void queryEmit() {
+        long evt = this.world.entity();
+        this.world.component(Position.class);
+        this.world.component(Velocity.class);
+        long e1 = this.world.obtainEntity(this.world.entity()).set(new Position(0, 0)).id();
+        long e2 = this.world.obtainEntity(this.world.entity()).set(new Position(0, 0)).set(new Velocity(0, 0)).id();
+        this.world.obtainEntity(this.world.entity()).set(new Velocity(0, 0));
+
+        List<Long> ids = new ArrayList<>();
+        this.world.observer().event(evt).with(Position.class).each(ids::add);
+
+        Query query = this.world.query().with(Position.class).build();
+        query.emit(evt);
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains(e1));
+        assertTrue(ids.contains(e2));
+    }
+
     @Test
     void entityEmitEventNoSrc() {
         long evt = this.world.entity();
@@ -89,4 +89,92 @@ class PathsTest {
         long byName = this.world.lookup("Position");
         assertEquals(componentId, byName);
     }
+
+    @Test
+    void lookupAfterRename() {
+        Entity e = this.world.obtainEntity(this.world.entity("foo"));
+        assertEquals(e.id(), this.world.lookup("foo"));
+
+        e.name("bar");
+        assertEquals(0, this.world.lookup("foo"));
+        assertEquals(e.id(), this.world.lookup("bar"));
+    }
+
+    @Test
+    void lookupAfterDelete() {
+        Entity e = this.world.obtainEntity(this.world.entity("foo::bar"));
+        assertEquals(e.id(), this.world.lookup("foo::bar"));
+
+        this.world.obtainEntity(this.world.lookup("foo")).destruct();
+        assertEquals(0, this.world.lookup("foo::bar"));
+        assertEquals(0, this.world.lookup("foo"));
+    }
+
+    @Test
+    void lookupAfterReparent() {
+        Entity e = this.world.obtainEntity(this.world.entity("foo::bar"));
+        long parent = this.world.entity("parent");
+        assertEquals(e.id(), this.world.lookup("foo::bar"));
+
+        e.childOf(parent);
+        assertEquals(0, this.world.lookup("foo::bar"));
+        assertEquals(e.id(), this.world.lookup("parent::bar"));
+    }
+
+    @Test
+    void lookupAfterReparentFromRoot() {
+        Entity e = this.world.obtainEntity(this.world.entity("bar"));
+        long parent = this.world.entity("parent");
+        assertEquals(e.id(), this.world.lookup("bar"));
+        assertEquals(0, this.world.lookup("parent::bar"));
+
+        e.childOf(parent);
+        assertEquals(0, this.world.lookup("bar"));
+        assertEquals(e.id(), this.world.lookup("parent::bar"));
+    }
+
+    @Test
+    void lookupAfterCreate() {
+        assertEquals(0, this.world.lookup("foo"));
+
+        long e = this.world.entity("foo");
+        assertEquals(e, this.world.lookup("foo"));
+    }
+
+    @Test
+    void lookupInScope() {
+        long root = this.world.entity("foo");
+        long parent = this.world.entity("parent");
+        assertEquals(root, this.world.lookup("foo"));
+
+        long child = this.world.entity(parent, "foo");
+        long previousScope = this.world.setScope(parent);
+        assertEquals(child, this.world.lookup("foo"));
+        this.world.setScope(previousScope);
+
+        assertEquals(root, this.world.lookup("foo"));
+    }
+
+    @Test
+    void lookupRelativeToDifferentParents() {
+        long first = this.world.entity("first");
+        long second = this.world.entity("second");
+        long firstChild = this.world.entity(first, "child");
+        long secondChild = this.world.entity(second, "child");
+
+        assertEquals(firstChild, this.world.lookup(first, "child", false));
+        assertEquals(secondChild, this.world.lookup(second, "child", false));
+        assertEquals(firstChild, this.world.lookup(first, "child", false));
+    }
+
+    @Test
+    void lookupShadowedByNewChild() {
+        long root = this.world.entity("foo");
+        long parent = this.world.entity("parent");
+        assertEquals(root, this.world.lookup(parent, "foo", true));
+
+        long child = this.world.entity(parent, "foo");
+        assertEquals(child, this.world.lookup(parent, "foo", true));
+        assertEquals(root, this.world.lookup("foo"));
+    }
 }
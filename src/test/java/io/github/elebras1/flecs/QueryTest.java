@@ -2,13 +2,18 @@ package io.github.elebras1.flecs;
 
 import io.github.elebras1.flecs.callback.ComparatorComponent;
 import io.github.elebras1.flecs.component.Mass;
+import io.github.elebras1.flecs.component.Particle;
+import io.github.elebras1.flecs.component.ParticleView;
 import io.github.elebras1.flecs.component.Position;
+import io.github.elebras1.flecs.component.Shield;
+import io.github.elebras1.flecs.component.ShieldRowView;
 import io.github.elebras1.flecs.component.Velocity;
 import io.github.elebras1.flecs.util.Flecs;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.foreign.ValueLayout;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -119,6 +124,22 @@ class QueryTest {
         query.destroy();
     }
 
+    @Test
+    void firstReleasesTheIterator() {
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new Position(1, 0));
+        this.world.obtainEntity(this.world.entity()).set(new Position(2, 0));
+
+        Query query = this.world.query().with(Position.class).build();
+        assertEquals(entity.id(), query.first());
+
+        // A leaked iterator keeps the table locked, which would reject moving the entity out of it.
+        entity.set(new Velocity(1, 1));
+        assertTrue(entity.has(Velocity.class));
+        assertEquals(2, query.count());
+
+        query.destroy();
+    }
+
     @Test
     void countAndFirst() {
         long e1 = this.world.obtainEntity(this.world.entity()).set(new Position(1, 0)).id();
@@ -317,4 +338,80 @@ class QueryTest {
         assertEquals(1, query.count());
         query.destroy();
     }
+
+    @Test
+    void toggledComponentSkipsDisabledRows() {
+        this.world.component(Shield.class);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            entities.add(this.world.obtainEntity(this.world.entity()).set(new Shield(i)));
+        }
+        entities.get(1).disable(Shield.class);
+        entities.get(4).disable(Shield.class);
+
+        Query query = this.world.query().with(Shield.class).build();
+
+        List<Integer> each = new ArrayList<>();
+        query.each(Shield.class, (entityId, shield) -> each.add(shield.strength()));
+        assertEquals(List.of(0, 2, 3, 5), each);
+
+        List<Integer> rows = new ArrayList<>();
+        query.iter(it -> {
+            ShieldRowView view = it.getRowView(Shield.class);
+            assertNotNull(view);
+            assertEquals(it.count(), view.count());
+            Field<Shield> field = it.field(Shield.class, 0);
+            for (int i = 0; i < view.count(); i++) {
+                int strength = view.segment().reinterpret(view.size() * view.count()).getAtIndex(ValueLayout.JAVA_INT, i);
+                assertEquals(field.get(i).strength(), strength);
+                rows.add(strength);
+            }
+        });
+        assertEquals(List.of(0, 2, 3, 5), rows);
+
+        query.destroy();
+    }
+
+    @Test
+    void soaComponentThroughEachAndFields() {
+        this.world.component(Particle.class);
+        List<Long> entities = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entities.add(this.world.obtainEntity(this.world.entity()).set(new Particle(i, i * 10f, (byte) i, i * 100)).id());
+        }
+
+        Query query = this.world.query().with(Particle.class).build();
+
+        List<Integer> lives = new ArrayList<>();
+        query.each(Particle.class, particle -> lives.add(particle.life()));
+        assertEquals(List.of(0, 100, 200), lives);
+
+        query.eachView(Particle.class, (ParticleView view) -> view.life(view.life() + 1));
+
+        query.iter(it -> {
+            Field<Particle> field = it.field(Particle.class, 0);
+            for (int i = 0; i < it.count(); i++) {
+                Particle p = field.get(i);
+                field.set(i, new Particle(p.x(), p.y(), p.charge(), p.life() * 2));
+            }
+            assertThrows(UnsupportedOperationException.class, () -> field.address(0));
+        });
+
+        List<Particle> particles = new ArrayList<>();
+        query.each(Particle.class, (entityId, particle) -> particles.add(particle));
+        assertEquals(List.of(new Particle(0, 0, (byte) 0, 2), new Particle(1, 10, (byte) 1, 202), new Particle(2, 20, (byte) 2, 402)), particles);
+
+        assertEquals(entities.get(1), query.find(Particle.class, p -> p.life() == 202));
+        assertEquals(new Particle(2, 20, (byte) 2, 402), this.world.obtainEntity(entities.get(2)).get(Particle.class));
+
+        query.destroy();
+    }
+
+    @Test
+    void soaComponentRejectedByOrderBy() {
+        this.world.component(Particle.class);
+        assertThrows(IllegalArgumentException.class, () -> this.world.query()
+                .with(Particle.class)
+                .orderBy(Particle.class, (ComparatorComponent<Particle>) (a, b) -> Integer.compare(a.life(), b.life())));
+    }
 }
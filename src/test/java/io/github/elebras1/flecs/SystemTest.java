@@ -2,9 +2,12 @@ package io.github.elebras1.flecs;
 
 import io.github.elebras1.flecs.callback.ComparatorComponent;
 import io.github.elebras1.flecs.component.Mass;
+import io.github.elebras1.flecs.component.Particle;
+import io.github.elebras1.flecs.component.ParticleView;
 import io.github.elebras1.flecs.component.PositionView;
 import io.github.elebras1.flecs.component.Position;
 import io.github.elebras1.flecs.component.Velocity;
+import io.github.elebras1.flecs.component.VelocityView;
 import io.github.elebras1.flecs.util.Flecs;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -226,4 +229,24 @@ class SystemTest {
         sys.run();
         assertEquals(2, count.get());
     }
+
+    @Test
+    void eachViewOnSoaComponent() {
+        this.world.component(Particle.class);
+        Entity entity = this.world.obtainEntity(this.world.entity())
+                .set(new Particle(1, 2, (byte) 3, 10))
+                .set(new Velocity(1, 2));
+
+        this.world.system()
+                .with(Particle.class)
+                .with(Velocity.class)
+                .eachView(Particle.class, Velocity.class, (ParticleView particle, VelocityView velocity) -> {
+                    particle.x(particle.x() + velocity.x());
+                    particle.life(particle.life() - 1);
+                });
+
+        this.world.progress();
+
+        assertEquals(new Particle(2, 2, (byte) 3, 9), entity.get(Particle.class));
+    }
 }
@@ -1,12 +1,19 @@
 package io.github.elebras1.flecs;
 
 import io.github.elebras1.flecs.component.Mass;
+import io.github.elebras1.flecs.component.Particle;
+import io.github.elebras1.flecs.component.ParticleRowView;
+import io.github.elebras1.flecs.component.ParticleView;
 import io.github.elebras1.flecs.component.Position;
 import io.github.elebras1.flecs.component.Velocity;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TableTest {
@@ -173,4 +180,45 @@ class TableTest {
         Table table = this.world.obtainEntity(e).table();
         assertTrue(table.size() >= 1);
     }
+
+    @Test
+    void soaRowViewColumns() {
+        this.world.component(Particle.class);
+        long e = this.world.entity(new Particle(1f, 10f, (byte) 1, 100));
+        this.world.entity(new Particle(2f, 20f, (byte) 2, 200));
+        this.world.entity(new Particle(3f, 30f, (byte) 3, 300));
+
+        Table table = this.world.obtainEntity(e).table();
+        ParticleRowView view = table.getRowView(Particle.class);
+        assertNotNull(view);
+        assertEquals(3, view.count());
+        assertEquals(3 * Float.BYTES, view.xColumn().byteSize());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 1f, view.xColumn().getAtIndex(ValueLayout.JAVA_FLOAT, i));
+            assertEquals((i + 1) * 10f, view.yColumn().getAtIndex(ValueLayout.JAVA_FLOAT, i));
+            assertEquals((i + 1) * 100, view.lifeColumn().getAtIndex(ValueLayout.JAVA_INT, i));
+        }
+    }
+
+    @Test
+    void soaRowAccess() {
+        this.world.component(Particle.class);
+        long e = this.world.entity(new Particle(1f, 10f, (byte) 1, 100));
+        this.world.entity(new Particle(2f, 20f, (byte) 2, 200));
+
+        Table table = this.world.obtainEntity(e).table();
+        assertEquals(new Particle(2f, 20f, (byte) 2, 200), table.get(Particle.class, 1));
+        assertEquals(new Particle(1f, 10f, (byte) 1, 100), table.tryGet(Particle.class, 0));
+
+        ParticleView view = table.getMutView(Particle.class, 1);
+        view.life(250);
+        ParticleView columnView = table.getColumnView(Particle.class, 0);
+        assertEquals(10f, columnView.y());
+
+        List<Integer> lives = new ArrayList<>();
+        table.forEachRow(Particle.class, (ParticleView row, int i) -> lives.add(row.life()));
+        assertEquals(List.of(100, 250), lives);
+
+        assertNull(this.world.obtainEntity(this.world.entity()).set(new Position(0, 0)).table().tryGetMutView(Particle.class, 0));
+    }
 }
@@ -45,6 +45,42 @@ class WorldFactoryTest {
         assertTrue(this.world.obtainEntity(e).has(Flecs.Prefab));
     }
 
+    @Test
+    void instantiate() {
+        long positionId = this.world.component(Position.class);
+        this.world.obtainEntity(positionId).add(Flecs.OnInstantiate, Flecs.Override);
+
+        Entity prefab = this.world.obtainEntity(this.world.prefab()).set(new Position(10, 20)).set(new Velocity(1, 2));
+        this.world.obtainEntity(this.world.entity("child")).add(Flecs.Prefab).childOf(prefab);
+
+        long[] instances = this.world.instantiate(prefab.id(), 100);
+        assertEquals(100, instances.length);
+
+        for (long instance : instances) {
+            Entity entity = this.world.obtainEntity(instance);
+            assertTrue(entity.has(Flecs.IsA, prefab.id()));
+            assertTrue(entity.owns(Position.class));
+            assertFalse(entity.owns(Velocity.class));
+            assertEquals(new Position(10, 20), entity.get(Position.class));
+            assertEquals(new Velocity(1, 2), entity.get(Velocity.class));
+            assertEquals(1, entity.childCount());
+        }
+    }
+
+    @Test
+    void instantiateIntoBuffer() {
+        long prefab = this.world.prefab();
+
+        try (EntityIdBuffer ids = new EntityIdBuffer(2)) {
+            this.world.instantiate(prefab, 10, ids);
+            this.world.instantiate(prefab, 5, ids);
+            assertEquals(15, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertTrue(this.world.obtainEntity(ids.get(i)).has(Flecs.IsA, prefab));
+            }
+        }
+    }
+
     @Test
     void system() {
         Entity entity = this.world.obtainEntity(this.world.entity())
@@ -4,12 +4,18 @@ import io.github.elebras1.flecs.component.Health;
 import io.github.elebras1.flecs.component.Ideology;
 import io.github.elebras1.flecs.component.Mass;
 import io.github.elebras1.flecs.component.Position;
+import io.github.elebras1.flecs.component.PositionComponent;
+import io.github.elebras1.flecs.component.Stunned;
 import io.github.elebras1.flecs.component.Velocity;
 import io.github.elebras1.flecs.util.Flecs;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -317,6 +323,27 @@ class WorldTest {
         world2.destroy();
     }
 
+    @Test
+    void componentMembersRoundTripThroughJson() {
+        this.world.obtainEntity(this.world.entity("json_members")).set(new Position(10, 20)).set(new Health(75));
+
+        String json = this.world.toJson();
+        assertTrue(json.contains("\"x\""));
+        assertTrue(json.contains("\"y\""));
+
+        World world2 = new World();
+        world2.component(Position.class);
+        world2.component(Health.class);
+        world2.fromJson(json);
+        Entity restored = world2.obtainEntity(world2.lookup("json_members"));
+        Position p = restored.get(Position.class);
+        assertEquals(10.0f, p.x());
+        assertEquals(20.0f, p.y());
+        assertEquals(75, restored.get(Health.class).value());
+
+        world2.destroy();
+    }
+
     @Test
     void scopeWithName() {
         long parent = this.world.entity("parent");
@@ -332,4 +359,100 @@ class WorldTest {
         long[] entities = this.world.getEntities();
         assertTrue(entities.length > 0);
     }
+
+    @Test
+    void entityRangesPerStage() {
+        this.world.setStageCount(2);
+        try (EntityRanges ranges = this.world.entityRanges(5000, 100)) {
+            ranges.prepare();
+
+            this.world.readonlyBegin(true);
+            long first = ranges.allocator(0).entity();
+            long second = ranges.allocator(1).entity();
+            this.world.readonlyEnd();
+
+            assertTrue((int) first >= 5000 && (int) first < 5200);
+            assertTrue((int) second >= 5000 && (int) second < 5200);
+            assertNotEquals((int) first / 100, (int) second / 100);
+        }
+    }
+
+    @Test
+    void entityRangesFromWorkerThreads() {
+        this.world.setThreads(2);
+        for (int i = 0; i < 256; i++) {
+            this.world.obtainEntity(this.world.entity()).set(new Position(i, i));
+        }
+
+        try (EntityRanges ranges = this.world.entityRanges(20000, 1000)) {
+            ranges.prepare();
+            Queue<long[]> allocated = new ConcurrentLinkedQueue<>();
+            this.world.system()
+                    .with(Position.class)
+                    .multiThreaded()
+                    .iter(it -> {
+                        int stageId = it.world().getStageId();
+                        EntityRanges.Allocator allocator = ranges.allocator(stageId);
+                        for (int i = 0; i < it.count(); i++) {
+                            allocated.add(new long[]{stageId, allocator.entity()});
+                        }
+                    });
+            this.world.progress();
+
+            assertEquals(256, allocated.size());
+            Set<Long> ids = new HashSet<>();
+            Set<Integer> stages = new HashSet<>();
+            int[] rangeByStage = {-1, -1};
+            for (long[] entry : allocated) {
+                int stageId = (int) entry[0];
+                int index = (int) entry[1];
+                assertTrue(ids.add(entry[1]));
+                assertTrue(index >= 20000 && index < 22000);
+                if (rangeByStage[stageId] == -1) {
+                    rangeByStage[stageId] = index / 1000;
+                }
+                assertEquals(rangeByStage[stageId], index / 1000);
+                stages.add(stageId);
+            }
+            assertEquals(2, stages.size());
+            assertNotEquals(rangeByStage[0], rangeByStage[1]);
+        }
+    }
+
+    @Test
+    void entityRangesRefillExhausted() {
+        try (EntityRanges ranges = this.world.entityRanges(8000, 4)) {
+            EntityRanges.Allocator allocator = ranges.allocator(0);
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                long entityId = allocator.entity(new Position(i, i));
+                assertTrue((int) entityId >= 8000);
+                assertTrue(ids.add(entityId));
+            }
+            assertEquals(10, ids.size());
+        }
+    }
+
+    @Test
+    void componentTraitsAppliedAtRegistration() {
+        Entity component = this.world.obtainEntity(this.world.component(Stunned.class));
+        assertTrue(component.has(Flecs.Sparse));
+        assertTrue(component.has(Flecs.OnInstantiate, Flecs.DontInherit));
+
+        Entity entity = this.world.obtainEntity(this.world.entity()).set(new Stunned(3));
+        assertEquals(3, entity.get(Stunned.class).turns());
+
+        entity.remove(Stunned.class);
+        assertFalse(entity.has(Stunned.class));
+    }
+
+    @Test
+    void componentIdByIndex() {
+        assertEquals(PositionComponent.INDEX, ComponentMap.getIndex(Position.class));
+        assertEquals(this.world.getComponentId(Position.class), this.world.getComponentId(PositionComponent.INDEX));
+
+        World world2 = new World();
+        assertThrows(IllegalArgumentException.class, () -> world2.getComponentId(PositionComponent.INDEX));
+        world2.destroy();
+    }
 }
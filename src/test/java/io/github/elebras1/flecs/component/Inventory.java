@@ -0,0 +1,8 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+import io.github.elebras1.flecs.annotation.FixedArray;
+
+@Component
+public record Inventory(@FixedArray(length = 8) int[] slots, @FixedArray(length = 4) float[] weights) {
+}
@@ -0,0 +1,8 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+import io.github.elebras1.flecs.annotation.FixedString;
+
+@Component
+public record Label(@FixedString(length = 16) String text, int priority) {
+}
@@ -0,0 +1,7 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Archetype;
+
+@Archetype
+public record Mover(Position position, Velocity velocity, Mass mass) {
+}
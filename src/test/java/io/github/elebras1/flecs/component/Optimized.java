@@ -0,0 +1,9 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Align;
+import io.github.elebras1.flecs.annotation.Component;
+
+@Align(16)
+@Component(layout = Component.Layout.OPTIMIZED)
+public record Optimized(byte a, long b, byte c, long d) {
+}
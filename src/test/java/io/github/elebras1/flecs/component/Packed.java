@@ -0,0 +1,7 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+
+@Component(layout = Component.Layout.PACKED)
+public record Packed(byte a, long b, byte c, long d) {
+}
@@ -0,0 +1,7 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+
+@Component(layout = Component.Layout.SOA)
+public record Particle(float x, float y, byte charge, int life) {
+}
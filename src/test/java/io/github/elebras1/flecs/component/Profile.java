@@ -0,0 +1,9 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Blob;
+import io.github.elebras1.flecs.annotation.Component;
+import io.github.elebras1.flecs.annotation.VarString;
+
+@Component
+public record Profile(@VarString String name, @Blob byte[] data, int level) {
+}
@@ -0,0 +1,7 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+
+@Component
+public record Route(Position start, io.github.elebras1.flecs.component.geo.Position target, Position end) {
+}
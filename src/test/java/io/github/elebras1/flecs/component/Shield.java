@@ -0,0 +1,7 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+
+@Component(traits = Component.Trait.CAN_TOGGLE)
+public record Shield(int strength) {
+}
@@ -0,0 +1,8 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+import io.github.elebras1.flecs.annotation.Default;
+
+@Component
+public record Stats(@Default("100") int health, @Default("1.5") float speed, int level) {
+}
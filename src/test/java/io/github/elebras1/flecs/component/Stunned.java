@@ -0,0 +1,7 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+
+@Component(traits = {Component.Trait.SPARSE, Component.Trait.DONT_INHERIT})
+public record Stunned(int turns) {
+}
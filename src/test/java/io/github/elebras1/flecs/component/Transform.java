@@ -0,0 +1,19 @@
+package io.github.elebras1.flecs.component;
+
+import io.github.elebras1.flecs.annotation.Component;
+
+@Component
+public record Transform(Vec3 pos, Quat rot, Vec3 scale, Layer layer, char glyph) {
+
+    public record Vec3(float x, float y, float z) {
+    }
+
+    public record Quat(float x, float y, float z, float w) {
+    }
+
+    public enum Layer {
+        BACKGROUND,
+        WORLD,
+        OVERLAY
+    }
+}
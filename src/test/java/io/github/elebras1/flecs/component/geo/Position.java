@@ -0,0 +1,4 @@
+package io.github.elebras1.flecs.component.geo;
+
+public record Position(double latitude, double longitude) {
+}